@@ -0,0 +1,69 @@
+package com.example.demo;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the per-frame work of each {@link RenderMode} with a screen full of projectiles.
+ * <p>The renderer is never shown, so this covers the application-thread cost of preparing a frame (updating
+ * one node per actor, or recording the canvas drawing commands) but not the scene graph pulse or the time
+ * spent by the graphics pipeline. Like {@link LevelViewBenchmark}, it starts the JavaFX toolkit and needs a
+ * graphical environment (or a virtual display).</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActorRendererBenchmark {
+
+	/** The seed used to place the projectiles. */
+	private static final long SEED = 42;
+
+	@Param({"NODES", "CANVAS"})
+	private RenderMode renderMode;
+
+	@Param({"1000", "5000"})
+	private int projectileCount;
+
+	private ActorRenderer renderer;
+
+	/**
+	 * Starts the JavaFX toolkit and fills a renderer with projectiles.
+	 *
+	 * @throws InterruptedException If interrupted while waiting for the toolkit to start.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		Platform.startup(started::countDown);
+		started.await();
+		renderer = ActorRenderer.create(renderMode, BenchmarkLevel.SCREEN_WIDTH, BenchmarkLevel.SCREEN_HEIGHT);
+		Random random = new Random(SEED);
+		for (int i = 0; i < projectileCount; i++) {
+			renderer.actorAdded(new EnemyProjectile(random.nextDouble() * BenchmarkLevel.SCREEN_WIDTH,
+					random.nextDouble() * BenchmarkLevel.SCREEN_HEIGHT));
+		}
+	}
+
+	/**
+	 * Shuts the JavaFX toolkit down.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Platform.exit();
+	}
+
+	/**
+	 * Measures drawing one frame of all projectiles.
+	 */
+	@Benchmark
+	public void render() {
+		renderer.render(0.5);
+	}
+}
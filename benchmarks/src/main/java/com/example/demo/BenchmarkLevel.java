@@ -0,0 +1,92 @@
+package com.example.demo;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A level with no spawning and no end conditions, filled with a fixed set of actors for benchmarking.
+ * <p>Enemy planes, player projectiles and enemy projectiles are scattered over the screen from a seeded
+ * random source, so every benchmark run starts from the same layout.</p>
+ */
+public class BenchmarkLevel extends LevelParent {
+
+	/** The background image of the level; it is never decoded by the headless benchmarks. */
+	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+
+	/** The width of the benchmark screen in pixels. */
+	static final double SCREEN_WIDTH = 1300;
+
+	/** The height of the benchmark screen in pixels. */
+	static final double SCREEN_HEIGHT = 750;
+
+	/** The player's health, high enough that the player survives every benchmark. */
+	private static final int PLAYER_INITIAL_HEALTH = Integer.MAX_VALUE;
+
+	/** The seed of the level's random number streams, fixed so that enemy fire is the same in every run. */
+	private static final long LEVEL_SEED = 1942L;
+
+	/** The number of hearts shown by the level view. */
+	private static final int HEARTS_TO_DISPLAY = 5;
+
+	/**
+	 * Constructs an empty {@code BenchmarkLevel} containing only the player's plane.
+	 */
+	public BenchmarkLevel() {
+		super(BACKGROUND_IMAGE_NAME, SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH, LEVEL_SEED);
+		initializeLevel();
+	}
+
+	/**
+	 * Adds enemy planes, player projectiles and enemy projectiles at random positions.
+	 *
+	 * @param enemies          The number of enemy planes to add.
+	 * @param userProjectiles  The number of player projectiles to add.
+	 * @param enemyProjectiles The number of enemy projectiles to add.
+	 * @param seed             The seed for the random positions.
+	 */
+	public void populate(int enemies, int userProjectiles, int enemyProjectiles, long seed) {
+		Random random = new Random(seed);
+		for (int i = 0; i < enemies; i++) {
+			addEnemyUnit(acquireEnemyPlane(randomX(random), randomY(random)));
+		}
+		addAll(getUserProjectiles(), userProjectiles, random, true);
+		addAll(getEnemyProjectiles(), enemyProjectiles, random, false);
+	}
+
+	@Override
+	protected void initializeFriendlyUnits() {
+		addFriendlyUnit(getUser());
+	}
+
+	@Override
+	protected void checkIfGameOver() {
+	}
+
+	@Override
+	protected void spawnEnemyUnits() {
+	}
+
+	@Override
+	public int getHeartsToDisplay() {
+		return HEARTS_TO_DISPLAY;
+	}
+
+	/**
+	 * Adds projectiles at random positions to one of the level's projectile lists.
+	 */
+	private static void addAll(List<ActiveActorDestructible> projectiles, int count, Random random, boolean fromUser) {
+		for (int i = 0; i < count; i++) {
+			double x = randomX(random);
+			double y = randomY(random);
+			projectiles.add(fromUser ? new UserProjectile(x, y) : new EnemyProjectile(x, y));
+		}
+	}
+
+	private static double randomX(Random random) {
+		return random.nextDouble() * SCREEN_WIDTH;
+	}
+
+	private static double randomY(Random random) {
+		return random.nextDouble() * SCREEN_HEIGHT;
+	}
+}
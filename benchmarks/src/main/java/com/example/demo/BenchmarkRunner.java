@@ -0,0 +1,39 @@
+package com.example.demo;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the game benchmarks with the GC profiler enabled.
+ * <p>Accepts the usual JMH command-line options, for example a benchmark name pattern or
+ * {@code -p actorCount=1000}. The GC profiler is always added, so every result reports the allocation
+ * rate ({@code gc.alloc.rate.norm}) next to the throughput.</p>
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * Prevents instantiation of this entry-point class.
+	 */
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * Runs the benchmarks selected by the command-line arguments.
+	 *
+	 * @param args JMH command-line options.
+	 * @throws CommandLineOptionException If the options cannot be parsed.
+	 * @throws RunnerException            If a benchmark fails to run.
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
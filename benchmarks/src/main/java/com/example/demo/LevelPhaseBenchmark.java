@@ -0,0 +1,183 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the headless update phases of {@link LevelParent} for growing numbers of actors.
+ * <p>Each benchmark state holds a {@link BenchmarkLevel} with {@code actorCount} enemy planes,
+ * {@code actorCount} player projectiles and {@code actorCount} enemy projectiles. Run through
+ * {@link BenchmarkRunner} to report allocation rates alongside throughput.</p>
+ * <p>The benchmarks change the levels they run on: collisions destroy actors and updates move them. Every
+ * iteration therefore starts from the same snapshot of each level, so the results do not depend on how long the
+ * run lasts. Collisions and updates run on separate levels, so that moving the actors does not change which of
+ * them are near each other.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelPhaseBenchmark {
+
+	/** The seed used to place the actors. */
+	private static final long SEED = 42;
+
+	@Param({"10", "100", "1000", "10000"})
+	private int actorCount;
+
+	/** A level populated with enemies and projectiles of both sides, used to measure collisions. */
+	private BenchmarkLevel level;
+
+	/** A copy of {@link #level} whose actors are moved by {@link #updateActors()}. */
+	private BenchmarkLevel movingLevel;
+
+	/** The state of {@link #level} every iteration starts from. */
+	private LevelSnapshot levelStart;
+
+	/** The state of {@link #movingLevel} every iteration starts from. */
+	private LevelSnapshot movingLevelStart;
+
+	/** A level populated with enemies only, used to measure enemy fire without standing projectiles. */
+	private BenchmarkLevel firingLevel;
+
+	/**
+	 * Builds the benchmark levels.
+	 */
+	@Setup(Level.Trial)
+	public void setUpLevels() {
+		level = new BenchmarkLevel();
+		level.populate(actorCount, actorCount, actorCount, SEED);
+		level.updateActors();
+		levelStart = new LevelSnapshot();
+		level.saveSnapshot(levelStart);
+		movingLevel = new BenchmarkLevel();
+		movingLevel.populate(actorCount, actorCount, actorCount, SEED);
+		movingLevelStart = new LevelSnapshot();
+		movingLevel.saveSnapshot(movingLevelStart);
+		firingLevel = new BenchmarkLevel();
+		firingLevel.populate(actorCount, 0, 0, SEED);
+	}
+
+	/**
+	 * Puts the levels back into their starting state before each iteration.
+	 */
+	@Setup(Level.Iteration)
+	public void resetLevels() {
+		level.restoreSnapshot(levelStart);
+		movingLevel.restoreSnapshot(movingLevelStart);
+	}
+
+	/**
+	 * Measures the three collision passes run every tick.
+	 * <p>The first invocation of an iteration destroys the actors that overlap; the others measure the passes over
+	 * the same layout with nothing left to destroy.</p>
+	 */
+	@Benchmark
+	public void handleCollisionsBetween() {
+		level.handleCollisionsBetween(level.getUserProjectiles(), level.getEnemyUnits());
+		level.handleCollisionsBetween(level.getEnemyProjectiles(), level.getFriendlyUnits());
+		level.handleCollisionsBetween(level.getFriendlyUnits(), level.getEnemyUnits());
+	}
+
+	/**
+	 * Measures refilling a list in which every tenth actor is destroyed and then removing the destroyed actors.
+	 * <p>The list has to be refilled for every invocation, which JMH cannot do outside the measurement without
+	 * distorting an operation this short. Subtract {@link #refillRemovalList(RemovalState)} to get the cost of
+	 * the removal alone.</p>
+	 *
+	 * @param removal The list to refill and compact.
+	 * @return The compacted list, so the work cannot be eliminated.
+	 */
+	@Benchmark
+	public List<ActiveActorDestructible> removeDestroyedActors(RemovalState removal) {
+		removal.refill();
+		level.removeDestroyedActors(removal.actors);
+		return removal.actors;
+	}
+
+	/**
+	 * Measures refilling the list compacted by {@link #removeDestroyedActors(RemovalState)}, as a baseline.
+	 *
+	 * @param removal The list to refill.
+	 * @return The refilled list, so the work cannot be eliminated.
+	 */
+	@Benchmark
+	public List<ActiveActorDestructible> refillRemovalList(RemovalState removal) {
+		removal.refill();
+		return removal.actors;
+	}
+
+	/**
+	 * Measures moving every actor and refreshing its bounding box.
+	 */
+	@Benchmark
+	public void updateActors() {
+		movingLevel.updateActors();
+	}
+
+	/**
+	 * Measures the enemies' fire decisions. Projectiles fired are retired straight away so the
+	 * projectile list stays empty between invocations.
+	 *
+	 * @return The number of projectiles fired.
+	 */
+	@Benchmark
+	public int generateEnemyFire() {
+		firingLevel.generateEnemyFire();
+		List<ActiveActorDestructible> fired = firingLevel.getEnemyProjectiles();
+		int firedCount = fired.size();
+		for (int i = 0; i < firedCount; i++) {
+			fired.get(i).destroy();
+		}
+		firingLevel.removeDestroyedActors(fired);
+		return firedCount;
+	}
+
+	/**
+	 * Holds the list compacted by {@link #removeDestroyedActors(RemovalState)}.
+	 * <p>It is kept in its own state class so that the list and its template are not created for the other
+	 * benchmarks.</p>
+	 */
+	@State(Scope.Thread)
+	public static class RemovalState {
+
+		/** Every n-th actor in the list is destroyed. */
+		private static final int DESTROY_EVERY_NTH_ACTOR = 10;
+
+		@Param({"10", "100", "1000", "10000"})
+		private int actorCount;
+
+		/** The actors to compact. */
+		private final List<ActiveActorDestructible> actors = new ArrayList<>();
+
+		/** The actors placed in the list by every refill. */
+		private final List<ActiveActorDestructible> template = new ArrayList<>();
+
+		/**
+		 * Creates the actors once, destroying every tenth one.
+		 */
+		@Setup(Level.Trial)
+		public void createActors() {
+			for (int i = 0; i < actorCount; i++) {
+				EnemyProjectile projectile = new EnemyProjectile(i, i);
+				if (i % DESTROY_EVERY_NTH_ACTOR == 0) {
+					projectile.destroy();
+				}
+				template.add(projectile);
+			}
+		}
+
+		/**
+		 * Restores the full list, including the destroyed actors.
+		 */
+		void refill() {
+			actors.clear();
+			actors.addAll(template);
+		}
+	}
+}
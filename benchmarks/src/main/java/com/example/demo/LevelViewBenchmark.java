@@ -0,0 +1,62 @@
+package com.example.demo;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the HUD update performed by {@link LevelScene#killScored(int)} when the player scores a kill.
+ * <p>The HUD is built from JavaFX controls, so this benchmark starts the JavaFX toolkit and needs a
+ * graphical environment (or a virtual display). The scene is never shown, which allows its nodes to be
+ * updated from the benchmark thread.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelViewBenchmark {
+
+	private LevelScene levelScene;
+
+	/** The kill count shown by the next update. */
+	private int kills;
+
+	/**
+	 * Starts the JavaFX toolkit and builds the scene of a benchmark level on the JavaFX thread.
+	 *
+	 * @throws InterruptedException If interrupted while waiting for the scene to be built.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		Platform.startup(started::countDown);
+		started.await();
+		CountDownLatch built = new CountDownLatch(1);
+		Platform.runLater(() -> {
+			levelScene = new LevelScene(new BenchmarkLevel());
+			levelScene.initializeRoot();
+			built.countDown();
+		});
+		built.await();
+	}
+
+	/**
+	 * Shuts the JavaFX toolkit down.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Platform.exit();
+	}
+
+	/**
+	 * Measures one kill count update of the HUD.
+	 */
+	@Benchmark
+	public void killScored() {
+		levelScene.killScored(++kills);
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of rollback networking for growing numbers of actors.
+ * <p>{@link #saveSnapshot()} is paid every tick of a networked level. {@link #rollBack()} is the worst case of a
+ * {@link RollbackSession} receiving late input: restoring a snapshot and simulating
+ * {@value RollbackSession#MAX_ROLLBACK_TICKS} ticks again, with a snapshot saved before each of them. At the
+ * default tick rate it has to fit well inside the 16.7 ms of a 60 Hz frame. Each state holds a
+ * {@link BenchmarkLevel} with {@code actorCount} enemy planes, {@code actorCount} player projectiles and
+ * {@code actorCount} enemy projectiles; every rollback starts from the same snapshot.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RollbackBenchmark {
+
+	/** The seed used to place the actors. */
+	private static final long SEED = 42;
+
+	@Param({"10", "100", "1000"})
+	private int actorCount;
+
+	/** The level that is saved and rolled back. */
+	private BenchmarkLevel level;
+
+	/** The state of the level every rollback starts from. */
+	private LevelSnapshot start;
+
+	/** The snapshots saved before each tick simulated again. */
+	private LevelSnapshot[] history;
+
+	/**
+	 * Builds the benchmark level and saves its starting state.
+	 */
+	@Setup(Level.Trial)
+	public void setUpLevel() {
+		level = new BenchmarkLevel();
+		level.populate(actorCount, actorCount, actorCount, SEED);
+		level.updateActors();
+		start = new LevelSnapshot();
+		level.saveSnapshot(start);
+		history = new LevelSnapshot[RollbackSession.MAX_ROLLBACK_TICKS];
+		for (int i = 0; i < history.length; i++) {
+			history[i] = new LevelSnapshot();
+		}
+	}
+
+	/**
+	 * Measures saving the whole level in a snapshot, as done before every tick.
+	 *
+	 * @return The snapshot, so the work cannot be eliminated.
+	 */
+	@Benchmark
+	public LevelSnapshot saveSnapshot() {
+		level.saveSnapshot(history[0]);
+		return history[0];
+	}
+
+	/**
+	 * Measures restoring a snapshot and simulating the longest rollback again.
+	 *
+	 * @return The number of actors after the rollback, so the work cannot be eliminated.
+	 */
+	@Benchmark
+	public int rollBack() {
+		level.restoreSnapshot(start);
+		for (LevelSnapshot snapshot : history) {
+			level.saveSnapshot(snapshot);
+			level.tick();
+		}
+		return level.getActorCount();
+	}
+}
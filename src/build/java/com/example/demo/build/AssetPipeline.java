@@ -0,0 +1,495 @@
+package com.example.demo.build;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Produces display-size variants of the game's images at build time.
+ * <p>The pipeline reads the display sizes listed in {@code src/main/assets/sprites.properties}, scales every
+ * listed image to each of its sizes and writes the results, together with an {@code assets.manifest}, next to
+ * the original images in the build output. At run time {@code SpriteCache} looks requested sizes up in the
+ * manifest and decodes the small variant instead of the full-resolution original.</p>
+ * <ul>
+ *   <li>Images are shrunk by repeated halving with bilinear filtering on premultiplied pixels, which avoids
+ *   both aliasing and dark fringes around transparent edges.</li>
+ *   <li>Sizes marked {@code crop} also get a variant with fully transparent rows and columns removed. The
+ *   manifest records where the cropped pixels sat inside the uncropped image.</li>
+ *   <li>Opaque JPEG images are recompressed at {@value #JPEG_QUALITY} quality.</li>
+ *   <li>Sizes marked {@code atlas} are also packed, cropped if they are marked {@code crop} as well, into
+ *   shared atlas pages of at most {@value #ATLAS_PAGE_SIZE} by {@value #ATLAS_PAGE_SIZE} pixels. The manifest
+ *   records the page and the position of each packed image, so that the game can draw many different sprites
+ *   from the same texture.</li>
+ * </ul>
+ * <p>The pipeline runs as a single-file Java program from the Maven build, so it is not part of the game
+ * module. It does nothing when the manifest is newer than its inputs and than the pipeline itself.</p>
+ * <p>Usage: {@code java AssetPipeline.java <sprites.properties> <source image dir> <output image dir>}</p>
+ */
+public class AssetPipeline {
+
+	/** The name of the manifest written to the output image directory. */
+	private static final String MANIFEST_NAME = "assets.manifest";
+
+	/** The directory, relative to the output image directory, that receives the variants. */
+	private static final String VARIANT_DIRECTORY = "scaled";
+
+	/** The suffix of the manifest key of a cropped variant. */
+	private static final String CROP_SUFFIX = ".crop";
+
+	/** The compression quality of recompressed JPEG images. */
+	private static final float JPEG_QUALITY = 0.85f;
+
+	/** The directory, relative to the output image directory, that receives the atlas pages. */
+	private static final String ATLAS_DIRECTORY = "atlas";
+
+	/** The maximum width and height of an atlas page. */
+	private static final int ATLAS_PAGE_SIZE = 1024;
+
+	/** The number of transparent pixels kept between packed images, so filtering never samples a neighbour. */
+	private static final int ATLAS_PADDING = 2;
+
+	/** The file listing the display sizes of each image. */
+	private final Path configFile;
+
+	/** The directory holding the original images. */
+	private final Path sourceDirectory;
+
+	/** The directory the variants and the manifest are written to. */
+	private final Path outputDirectory;
+
+	/**
+	 * Constructs an {@code AssetPipeline}.
+	 *
+	 * @param configFile      The file listing the display sizes of each image.
+	 * @param sourceDirectory The directory holding the original images.
+	 * @param outputDirectory The directory the variants and the manifest are written to.
+	 */
+	public AssetPipeline(Path configFile, Path sourceDirectory, Path outputDirectory) {
+		this.configFile = configFile;
+		this.sourceDirectory = sourceDirectory;
+		this.outputDirectory = outputDirectory;
+	}
+
+	/**
+	 * Runs the pipeline.
+	 *
+	 * @param args The configuration file, the source image directory and the output image directory.
+	 * @throws IOException If an image cannot be read or written.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 3) {
+			System.err.println("Usage: AssetPipeline <sprites.properties> <source image dir> <output image dir>");
+			System.exit(2);
+		}
+		System.setProperty("java.awt.headless", "true");
+		new AssetPipeline(Path.of(args[0]), Path.of(args[1]), Path.of(args[2])).run();
+	}
+
+	/**
+	 * Writes every configured variant and the manifest, unless the manifest is already up to date.
+	 *
+	 * @throws IOException If an image cannot be read or written.
+	 */
+	public void run() throws IOException {
+		Properties config = new Properties();
+		try (var reader = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
+			config.load(reader);
+		}
+		Path manifestFile = outputDirectory.resolve(MANIFEST_NAME);
+		if (isUpToDate(manifestFile, config)) {
+			System.out.println("[assets] Variants are up to date");
+			return;
+		}
+		Files.createDirectories(outputDirectory.resolve(VARIANT_DIRECTORY));
+		Map<String, String> manifest = new TreeMap<>();
+		List<AtlasImage> atlasImages = new ArrayList<>();
+		long sourceBytes = 0;
+		long variantBytes = 0;
+		for (String imageName : new TreeSet<>(config.stringPropertyNames())) {
+			Path source = sourceDirectory.resolve(imageName);
+			BufferedImage original = ImageIO.read(source.toFile());
+			if (original == null) {
+				throw new IOException("Cannot decode " + source);
+			}
+			sourceBytes += Files.size(source);
+			for (String sizeSpec : config.getProperty(imageName).split(",")) {
+				variantBytes += writeVariants(imageName, original, sizeSpec.trim(), manifest, atlasImages);
+			}
+		}
+		int pageCount = packAtlas(atlasImages, manifest);
+		writeManifest(manifestFile, manifest);
+		System.out.printf(Locale.ROOT,
+				"[assets] Wrote %d variants (%d KiB) from %d images (%d KiB), %d packed into %d atlas pages%n",
+				manifest.size(), variantBytes / 1024, config.size(), sourceBytes / 1024, atlasImages.size(),
+				pageCount);
+	}
+
+	/**
+	 * Writes the variants of an image for one display size and adds them to the manifest.
+	 *
+	 * @param imageName The file name of the image.
+	 * @param original  The decoded original image.
+	 * @param sizeSpec  The size, such as {@code 0x50 crop} or {@code 1300x750!}.
+	 * @param manifest    The manifest entries, keyed by image name and size.
+	 * @param atlasImages Receives the images to pack into the atlas.
+	 * @return The number of bytes written.
+	 * @throws IOException If a variant cannot be written.
+	 */
+	private long writeVariants(String imageName, BufferedImage original, String sizeSpec,
+			Map<String, String> manifest, List<AtlasImage> atlasImages) throws IOException {
+		String[] parts = sizeSpec.split("\\s+");
+		String size = parts[0];
+		List<String> flags = List.of(parts).subList(1, parts.length);
+		boolean crop = flags.contains("crop");
+		boolean atlas = flags.contains("atlas");
+		boolean stretch = size.endsWith("!");
+		String[] dimensions = (stretch ? size.substring(0, size.length() - 1) : size).split("x");
+		int[] target = targetSize(original, Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]),
+				!stretch);
+		BufferedImage scaled = scale(original, target[0], target[1]);
+
+		String baseName = imageName.substring(0, imageName.lastIndexOf('.'));
+		String extension = imageName.substring(imageName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+		String key = imageName + '@' + size;
+		String variant = VARIANT_DIRECTORY + '/' + baseName + '-' + size.replace("!", "") + '.' + extension;
+		long written = write(scaled, extension, outputDirectory.resolve(variant));
+		manifest.put(key, describe(variant, 0, 0, scaled.getWidth(), scaled.getHeight()));
+		if (atlas && !crop) {
+			atlasImages.add(new AtlasImage(key, scaled));
+		}
+
+		if (crop) {
+			int[] bounds = opaqueBounds(scaled);
+			BufferedImage cropped = scaled.getSubimage(bounds[0], bounds[1], bounds[2], bounds[3]);
+			String croppedVariant = VARIANT_DIRECTORY + '/' + baseName + '-' + size.replace("!", "") + "-crop."
+					+ extension;
+			written += write(cropped, extension, outputDirectory.resolve(croppedVariant));
+			manifest.put(key + CROP_SUFFIX, describe(croppedVariant, bounds[0], bounds[1], bounds[2], bounds[3]));
+			if (atlas) {
+				atlasImages.add(new AtlasImage(key + CROP_SUFFIX, cropped));
+			}
+		}
+		return written;
+	}
+
+	/**
+	 * Packs images into atlas pages, writes the pages and appends the position of each image to its manifest
+	 * entry.
+	 * <p>Images are sorted by decreasing height and placed left to right on shelves; a shelf that no longer
+	 * fits on the current page starts a new page. Each page is only as tall as its shelves.</p>
+	 *
+	 * @param images   The images to pack.
+	 * @param manifest The manifest entries, keyed by image name and size.
+	 * @return The number of pages written.
+	 * @throws IOException If a page cannot be written.
+	 */
+	private int packAtlas(List<AtlasImage> images, Map<String, String> manifest) throws IOException {
+		if (images.isEmpty()) {
+			return 0;
+		}
+		images.sort(Comparator.comparingInt((AtlasImage image) -> image.image().getHeight()).reversed()
+				.thenComparing(AtlasImage::key));
+		List<List<AtlasImage>> pages = new ArrayList<>();
+		List<int[]> positions = new ArrayList<>();
+		List<AtlasImage> page = new ArrayList<>();
+		int shelfX = 0;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		for (AtlasImage image : images) {
+			int width = image.image().getWidth() + ATLAS_PADDING;
+			int height = image.image().getHeight() + ATLAS_PADDING;
+			if (width > ATLAS_PAGE_SIZE || height > ATLAS_PAGE_SIZE) {
+				throw new IOException(image.key() + " is too large for an atlas page");
+			}
+			if (shelfX + width > ATLAS_PAGE_SIZE) {
+				shelfY += shelfHeight;
+				shelfX = 0;
+				shelfHeight = 0;
+			}
+			if (shelfY + height > ATLAS_PAGE_SIZE) {
+				pages.add(page);
+				page = new ArrayList<>();
+				shelfX = 0;
+				shelfY = 0;
+				shelfHeight = 0;
+			}
+			page.add(image);
+			positions.add(new int[] {pages.size(), shelfX, shelfY});
+			shelfX += width;
+			shelfHeight = Math.max(shelfHeight, height);
+		}
+		pages.add(page);
+
+		Files.createDirectories(outputDirectory.resolve(ATLAS_DIRECTORY));
+		for (int pageIndex = 0; pageIndex < pages.size(); pageIndex++) {
+			int pageWidth = 0;
+			int pageHeight = 0;
+			for (int i = 0; i < images.size(); i++) {
+				int[] position = positions.get(i);
+				if (position[0] == pageIndex) {
+					pageWidth = Math.max(pageWidth, position[1] + images.get(i).image().getWidth());
+					pageHeight = Math.max(pageHeight, position[2] + images.get(i).image().getHeight());
+				}
+			}
+			BufferedImage pageImage = new BufferedImage(pageWidth, pageHeight, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D graphics = pageImage.createGraphics();
+			String pageName = ATLAS_DIRECTORY + "/page-" + pageIndex + ".png";
+			for (int i = 0; i < images.size(); i++) {
+				int[] position = positions.get(i);
+				if (position[0] == pageIndex) {
+					AtlasImage image = images.get(i);
+					graphics.drawImage(image.image(), position[1], position[2], null);
+					manifest.put(image.key(), manifest.get(image.key()) + ' ' + pageName + ' ' + position[1] + ' '
+							+ position[2]);
+				}
+			}
+			graphics.dispose();
+			ImageIO.write(pageImage, "png", outputDirectory.resolve(pageName).toFile());
+		}
+		return pages.size();
+	}
+
+	/**
+	 * Computes the size an image is displayed at, following the rules of JavaFX's requested image size.
+	 *
+	 * @param image         The original image.
+	 * @param width         The requested width, or {@code 0} to derive it.
+	 * @param height        The requested height, or {@code 0} to derive it.
+	 * @param preserveRatio Whether the image fits inside the requested size instead of filling it.
+	 * @return The width and height of the variant.
+	 */
+	private static int[] targetSize(BufferedImage image, int width, int height, boolean preserveRatio) {
+		double sourceWidth = image.getWidth();
+		double sourceHeight = image.getHeight();
+		if (width == 0 && height == 0) {
+			return new int[] {image.getWidth(), image.getHeight()};
+		}
+		if (width == 0) {
+			return new int[] {(int) Math.round(sourceWidth * height / sourceHeight), height};
+		}
+		if (height == 0) {
+			return new int[] {width, (int) Math.round(sourceHeight * width / sourceWidth)};
+		}
+		if (!preserveRatio) {
+			return new int[] {width, height};
+		}
+		double scale = Math.min(width / sourceWidth, height / sourceHeight);
+		return new int[] {(int) Math.round(sourceWidth * scale), (int) Math.round(sourceHeight * scale)};
+	}
+
+	/**
+	 * Scales an image by halving it until it is less than twice the target size, then filtering it once more
+	 * to the exact size.
+	 *
+	 * @param image  The image to scale.
+	 * @param width  The target width.
+	 * @param height The target height.
+	 * @return The scaled image, with premultiplied alpha.
+	 */
+	private static BufferedImage scale(BufferedImage image, int width, int height) {
+		BufferedImage current = convert(image, image.getWidth(), image.getHeight());
+		while (current.getWidth() >= width * 2 && current.getHeight() >= height * 2) {
+			current = convert(current, current.getWidth() / 2, current.getHeight() / 2);
+		}
+		if (current.getWidth() != width || current.getHeight() != height) {
+			current = convert(current, width, height);
+		}
+		return current;
+	}
+
+	/**
+	 * Draws an image into a new premultiplied ARGB image of the given size with bilinear filtering.
+	 *
+	 * @param image  The image to draw.
+	 * @param width  The width of the new image.
+	 * @param height The height of the new image.
+	 * @return The new image.
+	 */
+	private static BufferedImage convert(BufferedImage image, int width, int height) {
+		BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+		Graphics2D graphics = result.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		graphics.drawImage(image, 0, 0, width, height, null);
+		graphics.dispose();
+		return result;
+	}
+
+	/**
+	 * Finds the smallest rectangle containing every pixel that is not fully transparent.
+	 *
+	 * @param image The image to examine.
+	 * @return The x, y, width and height of the rectangle, or the whole image if it is fully transparent.
+	 */
+	private static int[] opaqueBounds(BufferedImage image) {
+		int minX = image.getWidth();
+		int minY = image.getHeight();
+		int maxX = -1;
+		int maxY = -1;
+		for (int y = 0; y < image.getHeight(); y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				if ((image.getRGB(x, y) >>> 24) != 0) {
+					minX = Math.min(minX, x);
+					minY = Math.min(minY, y);
+					maxX = Math.max(maxX, x);
+					maxY = Math.max(maxY, y);
+				}
+			}
+		}
+		if (maxX < 0) {
+			return new int[] {0, 0, image.getWidth(), image.getHeight()};
+		}
+		return new int[] {minX, minY, maxX - minX + 1, maxY - minY + 1};
+	}
+
+	/**
+	 * Writes an image in the format of its original file.
+	 *
+	 * @param image     The image to write.
+	 * @param extension The extension of the original file, {@code png} or {@code jpg}.
+	 * @param file      The file to write to.
+	 * @return The size of the written file in bytes.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private static long write(BufferedImage image, String extension, Path file) throws IOException {
+		if (extension.equals("png")) {
+			ImageIO.write(copy(image, BufferedImage.TYPE_INT_ARGB), "png", file.toFile());
+			return Files.size(file);
+		}
+		BufferedImage opaque = copy(image, BufferedImage.TYPE_INT_RGB);
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ImageWriteParam parameters = writer.getDefaultWriteParam();
+		parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		parameters.setCompressionQuality(JPEG_QUALITY);
+		Files.deleteIfExists(file);
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(file.toFile())) {
+			writer.setOutput(output);
+			writer.write(null, new IIOImage(opaque, null, null), parameters);
+		} finally {
+			writer.dispose();
+		}
+		return Files.size(file);
+	}
+
+	/**
+	 * Copies an image into a new image of another pixel type, such as straight rather than premultiplied alpha.
+	 *
+	 * @param image The image to copy.
+	 * @param type  The {@link BufferedImage} type of the copy.
+	 * @return The copy.
+	 */
+	private static BufferedImage copy(BufferedImage image, int type) {
+		BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), type);
+		Graphics2D graphics = copy.createGraphics();
+		graphics.drawImage(image, 0, 0, null);
+		graphics.dispose();
+		return copy;
+	}
+
+	/**
+	 * Formats a manifest value.
+	 *
+	 * @param variant The path of the variant, relative to the image directory.
+	 * @param offsetX The X-offset of the variant inside the uncropped image.
+	 * @param offsetY The Y-offset of the variant inside the uncropped image.
+	 * @param width   The width of the variant.
+	 * @param height  The height of the variant.
+	 * @return The manifest value.
+	 */
+	private static String describe(String variant, int offsetX, int offsetY, int width, int height) {
+		return variant + ' ' + width + ' ' + height + ' ' + offsetX + ' ' + offsetY;
+	}
+
+	/**
+	 * Writes the manifest, one line per variant after a header explaining the format.
+	 *
+	 * @param manifestFile The file to write.
+	 * @param manifest     The manifest values by key, in the order they are written.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private static void writeManifest(Path manifestFile, Map<String, String> manifest) throws IOException {
+		List<String> lines = new ArrayList<>();
+		lines.add("# Generated by AssetPipeline from sprites.properties. Do not edit.");
+		lines.add("# <image>@<size>[.crop] = <variant> <width> <height> <offset x> <offset y>"
+				+ " [<atlas page> <atlas x> <atlas y>]");
+		manifest.forEach((key, value) -> lines.add(key + " = " + value));
+		try (Writer writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+			for (String line : lines) {
+				writer.write(line);
+				writer.write('\n');
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the manifest is newer than the configuration, every configured image and the pipeline's own
+	 * source file, so that a change to the pipeline also regenerates the variants.
+	 *
+	 * @param manifestFile The manifest written by a previous run.
+	 * @param config       The display size configuration.
+	 * @return {@code true} if nothing has changed since the manifest was written.
+	 * @throws IOException If a file's modification time cannot be read.
+	 */
+	private boolean isUpToDate(Path manifestFile, Properties config) throws IOException {
+		if (!Files.exists(manifestFile)) {
+			return false;
+		}
+		FileTime generated = Files.getLastModifiedTime(manifestFile);
+		if (Files.getLastModifiedTime(configFile).compareTo(generated) > 0) {
+			return false;
+		}
+		Path program = findProgramFile();
+		if (program != null && Files.getLastModifiedTime(program).compareTo(generated) > 0) {
+			return false;
+		}
+		for (Object imageName : config.keySet()) {
+			if (Files.getLastModifiedTime(sourceDirectory.resolve(imageName.toString())).compareTo(generated) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Finds the source file this program was launched from.
+	 *
+	 * @return The source file, or {@code null} if the pipeline was not run as a single-file program.
+	 */
+	private static Path findProgramFile() {
+		String sourceFile = System.getProperty("jdk.launcher.sourcefile");
+		if (sourceFile == null) {
+			return null;
+		}
+		Path program = Path.of(sourceFile);
+		return Files.isRegularFile(program) ? program : null;
+	}
+
+	/**
+	 * An image waiting to be packed into the atlas.
+	 *
+	 * @param key   The manifest key of the image.
+	 * @param image The pixels of the image.
+	 */
+	private record AtlasImage(String key, BufferedImage image) {
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.demo.build;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Adds a class-data-sharing archive, trained on a real start of the game, to the jlink runtime image.
+ * <p>The program starts the game from the image once with {@code -XX:DumpLoadedClassList}, passing the training
+ * arguments. The game is expected to exit by itself, as it does with {@code --measure-startup}. Every class
+ * loaded during that run is then dumped by the image's own JVM into {@code classes.jsa} next to its
+ * {@code libjvm}. That is where a JVM looks for its default archive, so the image's launcher maps the game's, the
+ * JavaFX and the JDK classes from the archive without any extra option, instead of loading, verifying and
+ * parsing them again on every start.</p>
+ * <p>The archive is only valid for the JVM that wrote it, which is why it is dumped by the image itself. If the
+ * zip of the image made by {@code javafx:jlink} exists next to it, the archive is added to the zip as well.</p>
+ * <p>The training run opens the game window, so it needs a display; on a headless machine it can be run under
+ * a virtual display such as {@code xvfb-run}.</p>
+ * <p>Usage: {@code java CdsArchive.java <image dir> <module/main class> [training arguments...]}</p>
+ */
+public class CdsArchive {
+
+	/** The name of the default archive a JVM maps at startup. */
+	private static final String ARCHIVE_NAME = "classes.jsa";
+
+	/** The names the JVM library has on the supported platforms. */
+	private static final Set<String> JVM_LIBRARY_NAMES = Set.of("libjvm.so", "libjvm.dylib", "jvm.dll");
+
+	/**
+	 * Trains and writes the archive.
+	 *
+	 * @param args The image directory, the main module and class, and the training arguments.
+	 * @throws IOException          If the image cannot be read or written, or a JVM run fails.
+	 * @throws InterruptedException If interrupted while waiting for a JVM run.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length < 2) {
+			System.err.println("Usage: java CdsArchive.java <image dir> <module/main class> [training arguments...]");
+			System.exit(2);
+		}
+		Path image = Path.of(args[0]).toAbsolutePath();
+		String mainClass = args[1];
+		Path java = image.resolve("bin").resolve(isWindows() ? "java.exe" : "java");
+		if (!Files.isExecutable(java)) {
+			throw new IOException("No runtime image at " + image + "; run javafx:jlink first");
+		}
+		Path archive = findJvmDirectory(image).resolve(ARCHIVE_NAME);
+		Path classList = Files.createTempFile("app-cds", ".classlist");
+		try {
+			List<String> training = new ArrayList<>(List.of(java.toString(),
+					"-XX:DumpLoadedClassList=" + classList, "-m", mainClass));
+			training.addAll(List.of(args).subList(2, args.length));
+			run(training, "Training run");
+
+			Files.deleteIfExists(archive);
+			run(List.of(java.toString(), "-Xshare:dump", "-XX:SharedClassListFile=" + classList,
+					"-XX:SharedArchiveFile=" + archive), "Archive dump");
+		} finally {
+			Files.deleteIfExists(classList);
+		}
+		System.out.println("[cds] Wrote " + archive + " (" + Files.size(archive) / 1024 + " KiB)");
+
+		Path zip = image.resolveSibling(image.getFileName() + ".zip");
+		if (Files.exists(zip)) {
+			addToZip(zip, archive);
+		}
+	}
+
+	/**
+	 * Runs a JVM of the image and waits for it to exit successfully.
+	 *
+	 * @param command The command line.
+	 * @param name    The name of the run in error messages.
+	 * @throws IOException          If the run cannot be started or exits with an error.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	private static void run(List<String> command, String name) throws IOException, InterruptedException {
+		int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+		if (exitCode != 0) {
+			throw new IOException(name + " failed with exit code " + exitCode + ": " + String.join(" ", command));
+		}
+	}
+
+	/**
+	 * Finds the directory of the JVM library in a runtime image, which is where its default archive belongs.
+	 *
+	 * @param root The root of the image, or of a zip of it.
+	 * @return The directory containing the JVM library.
+	 * @throws IOException If the image contains no JVM library.
+	 */
+	private static Path findJvmDirectory(Path root) throws IOException {
+		try (Stream<Path> files = Files.walk(root)) {
+			Optional<Path> library = files
+					.filter(file -> file.getFileName() != null
+							&& JVM_LIBRARY_NAMES.contains(file.getFileName().toString()))
+					.findFirst();
+			return library.orElseThrow(() -> new IOException("No JVM library in " + root)).getParent();
+		}
+	}
+
+	/**
+	 * Adds the archive to the zip of the image, next to the JVM library.
+	 *
+	 * @param zip     The zip of the image.
+	 * @param archive The archive to add.
+	 * @throws IOException If the zip cannot be updated.
+	 */
+	private static void addToZip(Path zip, Path archive) throws IOException {
+		try (FileSystem zipFileSystem = FileSystems.newFileSystem(URI.create("jar:" + zip.toUri()), Map.of())) {
+			Path target = findJvmDirectory(zipFileSystem.getPath("/")).resolve(ARCHIVE_NAME);
+			Files.copy(archive, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+		System.out.println("[cds] Added the archive to " + zip);
+	}
+
+	private static boolean isWindows() {
+		return System.getProperty("os.name").startsWith("Windows");
+	}
+}
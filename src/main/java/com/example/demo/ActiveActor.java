@@ -1,21 +1,46 @@
 package com.example.demo;
 
-import javafx.scene.image.*;
-
 /**
  * Represents an active actor in the game.
- * <p>An active actor is any entity in the game capable of movement and interaction,
- * represented visually as an {@link ImageView}.</p>
+ * <p>An active actor is any entity in the game capable of movement and interaction. Actors are plain
+ * simulation objects: they hold the name and display height of their sprite together with their position,
+ * but they are not JavaFX nodes. The JavaFX layer mirrors each actor into an {@link ActorView} when the
+ * game is rendered, so the game rules can also run without a JavaFX toolkit.</p>
+ * <p>As with JavaFX nodes, an actor's position is split into a layout position, set when the actor is
+ * placed, and a translation that accumulates its movement.</p>
  * Classes that extend this class must implement their specific behavior by overriding the {@link #updatePosition()} method.
  */
-public abstract class ActiveActor extends ImageView {
+public abstract class ActiveActor {
 
 	/** The base location of all game entity images in the resource folder. */
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	/** The resource path of the actor's image. */
+	private final String imagePath;
+
+	/** The height, in pixels, at which the actor's image is displayed. */
+	private final int imageHeight;
+
+	/** The X-position the actor was placed at. */
+	private double layoutX;
+
+	/** The Y-position the actor was placed at. */
+	private double layoutY;
+
+	/** The horizontal distance the actor has moved since it was placed. */
+	private double translateX;
+
+	/** The vertical distance the actor has moved since it was placed. */
+	private double translateY;
+
+	/** The horizontal translation at the start of the current tick, used for render interpolation. */
+	private double previousTranslateX;
+
+	/** The vertical translation at the start of the current tick, used for render interpolation. */
+	private double previousTranslateY;
+
 	/**
 	 * Constructs an {@code ActiveActor} with a specified image and initial position.
-	 * <p>The actor's image is loaded from the resources folder, and its position and size are initialized.</p>
 	 *
 	 * @param imageName   The name of the image file (excluding the directory path).
 	 * @param imageHeight The height of the actor's image in pixels.
@@ -23,11 +48,10 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos The initial Y-position of the actor on the screen.
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+		this.imagePath = IMAGE_LOCATION + imageName;
+		this.imageHeight = imageHeight;
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
 	}
 
 	/**
@@ -37,13 +61,68 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	public abstract void updatePosition();
 
+	/**
+	 * Places the actor back at a starting position so that it can be reused.
+	 * <p>Any movement applied since the actor was placed is cleared.</p>
+	 *
+	 * @param initialXPos The new initial X-position of the actor on the screen.
+	 * @param initialYPos The new initial Y-position of the actor on the screen.
+	 */
+	protected void reset(double initialXPos, double initialYPos) {
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+		this.translateX = 0;
+		this.translateY = 0;
+		this.previousTranslateX = 0;
+		this.previousTranslateY = 0;
+	}
+
+	/**
+	 * Records the actor's current translation as its position at the start of a tick.
+	 * <p>The view interpolates between this position and the position reached by the end of the tick.</p>
+	 */
+	public void savePreviousPosition() {
+		this.previousTranslateX = translateX;
+		this.previousTranslateY = translateY;
+	}
+
+	/**
+	 * Writes the state the actor changes while it plays to a snapshot.
+	 * <p>Subclasses with state of their own append it after calling this method, and read it back in the same
+	 * order in {@link #restoreState(LevelSnapshot)}.</p>
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	protected void saveState(LevelSnapshot snapshot) {
+		snapshot.putDouble(layoutX);
+		snapshot.putDouble(layoutY);
+		snapshot.putDouble(translateX);
+		snapshot.putDouble(translateY);
+		snapshot.putDouble(previousTranslateX);
+		snapshot.putDouble(previousTranslateY);
+	}
+
+	/**
+	 * Reads the state written by {@link #saveState(LevelSnapshot)} back from a snapshot.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	protected void restoreState(LevelSnapshot snapshot) {
+		this.layoutX = snapshot.getDouble();
+		this.layoutY = snapshot.getDouble();
+		this.translateX = snapshot.getDouble();
+		this.translateY = snapshot.getDouble();
+		this.previousTranslateX = snapshot.getDouble();
+		this.previousTranslateY = snapshot.getDouble();
+	}
+
 	/**
 	 * Moves the actor horizontally by a specified amount.
 	 *
 	 * @param horizontalMove The amount to move the actor along the X-axis.
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		this.translateX += horizontalMove;
 	}
 
 	/**
@@ -52,6 +131,98 @@ public abstract class ActiveActor extends ImageView {
 	 * @param verticalMove The amount to move the actor along the Y-axis.
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		this.translateY += verticalMove;
+	}
+
+	/**
+	 * Retrieves the resource path of the actor's image.
+	 *
+	 * @return The absolute resource path of the image file.
+	 */
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	/**
+	 * Retrieves the height at which the actor's image is displayed.
+	 *
+	 * @return The display height in pixels.
+	 */
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Retrieves the X-position the actor was placed at.
+	 *
+	 * @return The layout X-position.
+	 */
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	/**
+	 * Retrieves the Y-position the actor was placed at.
+	 *
+	 * @return The layout Y-position.
+	 */
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	/**
+	 * Retrieves the horizontal distance the actor has moved since it was placed.
+	 *
+	 * @return The horizontal translation.
+	 */
+	public double getTranslateX() {
+		return translateX;
+	}
+
+	/**
+	 * Sets the horizontal distance the actor has moved since it was placed.
+	 *
+	 * @param translateX The new horizontal translation.
+	 */
+	public void setTranslateX(double translateX) {
+		this.translateX = translateX;
+	}
+
+	/**
+	 * Retrieves the vertical distance the actor has moved since it was placed.
+	 *
+	 * @return The vertical translation.
+	 */
+	public double getTranslateY() {
+		return translateY;
+	}
+
+	/**
+	 * Sets the vertical distance the actor has moved since it was placed.
+	 *
+	 * @param translateY The new vertical translation.
+	 */
+	public void setTranslateY(double translateY) {
+		this.translateY = translateY;
+	}
+
+	/**
+	 * Interpolates the horizontal translation between the start and the end of the last tick.
+	 *
+	 * @param alpha The interpolation factor, where {@code 0} is the start and {@code 1} the end of the tick.
+	 * @return The interpolated horizontal translation.
+	 */
+	public double interpolateTranslateX(double alpha) {
+		return previousTranslateX + (translateX - previousTranslateX) * alpha;
+	}
+
+	/**
+	 * Interpolates the vertical translation between the start and the end of the last tick.
+	 *
+	 * @param alpha The interpolation factor, where {@code 0} is the start and {@code 1} the end of the tick.
+	 * @return The interpolated vertical translation.
+	 */
+	public double interpolateTranslateY(double alpha) {
+		return previousTranslateY + (translateY - previousTranslateY) * alpha;
 	}
-}
\ No newline at end of file
+}
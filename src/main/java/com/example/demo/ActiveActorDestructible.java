@@ -6,12 +6,40 @@ package com.example.demo;
  * to provide functionality for actors that can take damage and be destroyed.</p>
  * Subclasses must implement specific behavior for updating the actor, updating its position,
  * and defining how it takes damage.
+ * <p>Each actor also keeps its axis-aligned bounding box as plain {@code double} fields. The box encloses only
+ * the solid pixels of the actor's sprite, as described by its {@link CollisionMask}, and is refreshed once per
+ * tick through {@link #updateBounds()}, so collision checks can read it without allocating. Actors whose boxes
+ * overlap are then tested pixel by pixel with {@link #collidesWith(ActiveActorDestructible)}.</p>
  */
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
 	/** Indicates whether the actor is destroyed. */
 	private boolean isDestroyed;
 
+	/** The pool this actor is returned to when retired, or {@code null} if it is not pooled. */
+	private ActorPool<?> pool;
+
+	/** The solid pixels of the actor's sprite at its display height. */
+	private final CollisionMask mask;
+
+	/** The X-coordinate of the pixel the actor's sprite starts at, as of the last {@link #updateBounds()} call. */
+	private int pixelX;
+
+	/** The Y-coordinate of the pixel the actor's sprite starts at, as of the last {@link #updateBounds()} call. */
+	private int pixelY;
+
+	/** The left edge of the actor's bounding box as of the last {@link #updateBounds()} call. */
+	private double minX;
+
+	/** The top edge of the actor's bounding box as of the last {@link #updateBounds()} call. */
+	private double minY;
+
+	/** The right edge of the actor's bounding box as of the last {@link #updateBounds()} call. */
+	private double maxX;
+
+	/** The bottom edge of the actor's bounding box as of the last {@link #updateBounds()} call. */
+	private double maxY;
+
 	/**
 	 * Constructs an {@code ActiveActorDestructible} with the specified image, size, and position.
 	 *
@@ -23,6 +51,8 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		isDestroyed = false;
+		this.mask = CollisionMask.forSprite(getImagePath(), imageHeight);
+		updateBounds();
 	}
 
 	/**
@@ -75,4 +105,133 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		return isDestroyed;
 	}
 
+	/**
+	 * Places the actor back at a starting position and clears its destroyed state.
+	 *
+	 * @param initialXPos The new initial X-position of the actor on the screen.
+	 * @param initialYPos The new initial Y-position of the actor on the screen.
+	 */
+	@Override
+	protected void reset(double initialXPos, double initialYPos) {
+		super.reset(initialXPos, initialYPos);
+		isDestroyed = false;
+		updateBounds();
+	}
+
+	/**
+	 * Writes the actor's position and destroyed state to a snapshot.
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	@Override
+	protected void saveState(LevelSnapshot snapshot) {
+		super.saveState(snapshot);
+		snapshot.putBoolean(isDestroyed);
+	}
+
+	/**
+	 * Reads the actor's position and destroyed state back from a snapshot and recomputes its bounding box.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	@Override
+	protected void restoreState(LevelSnapshot snapshot) {
+		super.restoreState(snapshot);
+		isDestroyed = snapshot.getBoolean();
+		updateBounds();
+	}
+
+	/**
+	 * Recomputes the actor's bounding box from its current layout and translation.
+	 * <p>The level calls this once per tick after {@link #updateActor()}, and it is also called whenever the
+	 * actor is placed at a new starting position.</p>
+	 */
+	public final void updateBounds() {
+		double x = getLayoutX() + getTranslateX();
+		double y = getLayoutY() + getTranslateY();
+		pixelX = (int) Math.floor(x);
+		pixelY = (int) Math.floor(y);
+		minX = x + mask.getMinX();
+		minY = y + mask.getMinY();
+		maxX = x + mask.getMaxX();
+		maxY = y + mask.getMaxY();
+	}
+
+	/**
+	 * Checks whether this actor's bounding box overlaps another actor's bounding box.
+	 * <p>Touching edges count as overlapping.</p>
+	 *
+	 * @param other The actor to test against.
+	 * @return {@code true} if the bounding boxes overlap; {@code false} otherwise.
+	 */
+	public final boolean intersects(ActiveActorDestructible other) {
+		return other.maxX >= minX && other.maxY >= minY && other.minX <= maxX && other.minY <= maxY;
+	}
+
+	/**
+	 * Checks whether a solid pixel of this actor's sprite touches a solid pixel of another actor's sprite.
+	 * <p>The bounding boxes are compared first, and the collision masks are only compared where they
+	 * overlap.</p>
+	 *
+	 * @param other The actor to test against.
+	 * @return {@code true} if the actors collide; {@code false} otherwise.
+	 */
+	public final boolean collidesWith(ActiveActorDestructible other) {
+		return intersects(other) && mask.overlaps(other.mask, other.pixelX - pixelX, other.pixelY - pixelY);
+	}
+
+	/**
+	 * Retrieves the left edge of the actor's bounding box.
+	 *
+	 * @return The minimum X-coordinate of the bounding box.
+	 */
+	public final double getMinX() {
+		return minX;
+	}
+
+	/**
+	 * Retrieves the top edge of the actor's bounding box.
+	 *
+	 * @return The minimum Y-coordinate of the bounding box.
+	 */
+	public final double getMinY() {
+		return minY;
+	}
+
+	/**
+	 * Retrieves the right edge of the actor's bounding box.
+	 *
+	 * @return The maximum X-coordinate of the bounding box.
+	 */
+	public final double getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * Retrieves the bottom edge of the actor's bounding box.
+	 *
+	 * @return The maximum Y-coordinate of the bounding box.
+	 */
+	public final double getMaxY() {
+		return maxY;
+	}
+
+	/**
+	 * Retrieves the pool that this actor is returned to when it is retired.
+	 *
+	 * @return The owning {@link ActorPool}, or {@code null} if the actor is not pooled.
+	 */
+	ActorPool<?> getPool() {
+		return pool;
+	}
+
+	/**
+	 * Records the pool that created this actor.
+	 *
+	 * @param pool The owning {@link ActorPool}.
+	 */
+	void setPool(ActorPool<?> pool) {
+		this.pool = pool;
+	}
+
 }
\ No newline at end of file
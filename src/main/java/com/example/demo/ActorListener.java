@@ -0,0 +1,34 @@
+package com.example.demo;
+
+/**
+ * Receives notifications when actors enter or leave a level.
+ * <p>The JavaFX layer uses these notifications to create and retire the nodes that mirror the actors,
+ * so the simulation never touches the scene graph itself.</p>
+ */
+public interface ActorListener {
+
+	/** A listener that ignores every notification, used when a level runs without a view. */
+	ActorListener NONE = new ActorListener() {
+		@Override
+		public void actorAdded(ActiveActorDestructible actor) {
+		}
+
+		@Override
+		public void actorRemoved(ActiveActorDestructible actor) {
+		}
+	};
+
+	/**
+	 * Called after an actor has been added to the level.
+	 *
+	 * @param actor The actor that was added.
+	 */
+	void actorAdded(ActiveActorDestructible actor);
+
+	/**
+	 * Called after a destroyed actor has been removed from the level.
+	 *
+	 * @param actor The actor that was removed.
+	 */
+	void actorRemoved(ActiveActorDestructible actor);
+}
@@ -0,0 +1,126 @@
+package com.example.demo;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable actors of a single type.
+ * <p>Frequently spawned actors such as projectiles and enemy planes are taken from the pool instead of
+ * being constructed anew. When an actor is retired it is returned to the pool, and the next
+ * {@link #acquire(double, double)} call resets it to a fresh state at the requested position.
+ * Pooled actors remember the pool that created them, so the level can return them without knowing
+ * their concrete type.</p>
+ *
+ * @param <T> The type of actor held by the pool.
+ */
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	/** Creates new actors when no retired actor is available for reuse. */
+	private final Supplier<T> factory;
+
+	/** The retired actors that are ready to be reused. */
+	private final Deque<T> availableActors;
+
+	/** The total number of actors this pool has constructed. */
+	private int createdCount;
+
+	/**
+	 * Constructs an empty {@code ActorPool}.
+	 *
+	 * @param factory Creates a new actor whenever the pool has none available.
+	 */
+	public ActorPool(Supplier<T> factory) {
+		this.factory = factory;
+		this.availableActors = new ArrayDeque<>();
+		this.createdCount = 0;
+	}
+
+	/**
+	 * Takes an actor from the pool, constructing a new one if none is available.
+	 * <p>The returned actor is reset so that it is not destroyed and is placed at the given position.</p>
+	 *
+	 * @param initialXPos The X-position the actor should start at.
+	 * @param initialYPos The Y-position the actor should start at.
+	 * @return An actor ready to be added to the level.
+	 */
+	public T acquire(double initialXPos, double initialYPos) {
+		T actor = availableActors.poll();
+		if (actor == null) {
+			actor = factory.get();
+			actor.setPool(this);
+			createdCount++;
+		}
+		actor.reset(initialXPos, initialYPos);
+		return actor;
+	}
+
+	/**
+	 * Constructs actors ahead of time and keeps them ready for reuse.
+	 *
+	 * @param count The number of actors to construct.
+	 */
+	public void prefill(int count) {
+		for (int i = 0; i < count; i++) {
+			T actor = factory.get();
+			actor.setPool(this);
+			createdCount++;
+			availableActors.push(actor);
+		}
+	}
+
+	/**
+	 * Returns a retired actor to the pool so it can be reused.
+	 *
+	 * @param actor The actor to return. It must have been acquired from this pool.
+	 */
+	@SuppressWarnings("unchecked")
+	void release(ActiveActorDestructible actor) {
+		availableActors.push((T) actor);
+	}
+
+	/**
+	 * Writes which actors are waiting to be reused, in the order they will be handed out, to a snapshot.
+	 * <p>The state of the waiting actors is not written: {@link #acquire(double, double)} resets it anyway.</p>
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	void saveState(LevelSnapshot snapshot) {
+		snapshot.putInt(availableActors.size());
+		for (T actor : availableActors) {
+			snapshot.putReference(actor);
+		}
+	}
+
+	/**
+	 * Reads back which actors are waiting to be reused from a snapshot written by
+	 * {@link #saveState(LevelSnapshot)}.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	void restoreState(LevelSnapshot snapshot) {
+		availableActors.clear();
+		int count = snapshot.getInt();
+		for (int i = 0; i < count; i++) {
+			availableActors.addLast(snapshot.getReference());
+		}
+	}
+
+	/**
+	 * Retrieves the number of actors currently waiting to be reused.
+	 *
+	 * @return The number of available actors.
+	 */
+	public int getAvailableCount() {
+		return availableActors.size();
+	}
+
+	/**
+	 * Retrieves the total number of actors this pool has constructed.
+	 *
+	 * @return The number of actors created by the pool.
+	 */
+	public int getCreatedCount() {
+		return createdCount;
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.demo;
+
+import javafx.scene.Node;
+
+/**
+ * Draws the actors of a level in the JavaFX layer.
+ * <p>A renderer is registered as the level's {@link ActorListener}, so it is told when actors enter and leave
+ * the level, and is asked to draw every frame. How it draws them is up to the implementation; see
+ * {@link RenderMode}.</p>
+ */
+public interface ActorRenderer extends ActorListener {
+
+	/**
+	 * Creates the renderer for a render mode.
+	 *
+	 * @param mode         The render mode.
+	 * @param screenWidth  The width of the area actors are drawn in.
+	 * @param screenHeight The height of the area actors are drawn in.
+	 * @return A new renderer.
+	 */
+	static ActorRenderer create(RenderMode mode, double screenWidth, double screenHeight) {
+		return switch (mode) {
+			case NODES -> new NodeActorRenderer();
+			case CANVAS -> new CanvasActorRenderer(screenWidth, screenHeight);
+		};
+	}
+
+	/**
+	 * Retrieves the node the actors are drawn in, to be added to the level's scene graph.
+	 *
+	 * @return The renderer's node.
+	 */
+	Node getNode();
+
+	/**
+	 * Draws every actor at its position interpolated within the last tick.
+	 *
+	 * @param alpha How far the frame lies between the previous tick ({@code 0}) and the latest tick ({@code 1}).
+	 */
+	void render(double alpha);
+}
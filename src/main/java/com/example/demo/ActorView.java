@@ -0,0 +1,83 @@
+package com.example.demo;
+
+import javafx.scene.image.ImageView;
+
+/**
+ * Displays an {@link ActiveActor} in the JavaFX scene graph.
+ * <p>An {@code ActorView} is bound to one actor at a time and copies the actor's sprite and position into
+ * its {@link ImageView} properties whenever it is synchronized. Views are reused: when an actor leaves
+ * the level its view is hidden and later bound to another actor, instead of being removed from and
+ * re-added to the scene graph.</p>
+ * <p>The view displays the actor's {@link SpriteRegion}: when the build has produced a cropped variant of
+ * the sprite, that variant is displayed unscaled and shifted by the width of the cropped margins, so it looks
+ * exactly like the full sprite while drawing far fewer transparent pixels, and when the variant is packed
+ * into the atlas the view shows it through a viewport onto the shared atlas page.</p>
+ */
+public class ActorView extends ImageView {
+
+	/** The actor currently displayed by this view, or {@code null} if the view is unused. */
+	private ActiveActor actor;
+
+	/** The position of this view in its scene's list of bound views. */
+	private int index;
+
+	/** The horizontal distance from the actor's position to the displayed image. */
+	private double offsetX;
+
+	/** The vertical distance from the actor's position to the displayed image. */
+	private double offsetY;
+
+	/**
+	 * Binds the view to an actor, displaying the actor's sprite at its current position.
+	 *
+	 * @param actor The actor to display.
+	 */
+	public void bind(ActiveActor actor) {
+		this.actor = actor;
+		SpriteRegion region = SpriteRegion.forActor(actor.getImagePath(), actor.getImageHeight());
+		region.applyTo(this);
+		offsetX = region.getOffsetX();
+		offsetY = region.getOffsetY();
+		synchronize(1);
+		setVisible(true);
+	}
+
+	/**
+	 * Hides the view and releases the actor it displayed.
+	 */
+	public void unbind() {
+		this.actor = null;
+		setVisible(false);
+	}
+
+	/**
+	 * Copies the bound actor's position into the view, interpolated within the last tick.
+	 *
+	 * @param alpha The interpolation factor, where {@code 0} shows the actor where it started the last tick
+	 *              and {@code 1} shows it where it ended the tick.
+	 */
+	public void synchronize(double alpha) {
+		setLayoutX(actor.getLayoutX() + offsetX);
+		setLayoutY(actor.getLayoutY() + offsetY);
+		setTranslateX(actor.interpolateTranslateX(alpha));
+		setTranslateY(actor.interpolateTranslateY(alpha));
+	}
+
+	/**
+	 * Retrieves the position of this view in its scene's list of bound views.
+	 *
+	 * @return The index of the view.
+	 */
+	int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Records the position of this view in its scene's list of bound views.
+	 *
+	 * @param index The index of the view.
+	 */
+	void setIndex(int index) {
+		this.index = index;
+	}
+}
@@ -0,0 +1,213 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Looks up the display-size image variants produced at build time.
+ * <p>The build's asset pipeline scales every image listed in {@code src/main/assets/sprites.properties} to the
+ * sizes the game displays it at and describes the results in {@code assets.manifest}. {@link SpriteCache}
+ * consults this manifest so that, for example, a 50-pixel-high plane is decoded from a 50-pixel-high file
+ * instead of the full-resolution original. For actor sprites the pipeline also writes a variant with the
+ * transparent margins cropped away, which {@link ActorView} draws at the recorded offset. Variants marked for
+ * the atlas are also packed into shared atlas pages, and their entries record where; {@link SpriteRegion}
+ * draws them from there.</p>
+ * <p>When the game runs without the manifest, such as from an IDE that skips the Maven build, every lookup
+ * misses and images are decoded from the originals as before.</p>
+ */
+public final class AssetManifest {
+
+	/** The directory holding the game's images and the manifest. */
+	private static final String IMAGE_DIRECTORY = "/com/example/demo/images/";
+
+	/** The resource path of the manifest. */
+	private static final String MANIFEST_PATH = IMAGE_DIRECTORY + "assets.manifest";
+
+	/** The suffix of the manifest key of a cropped variant. */
+	private static final String CROP_SUFFIX = ".crop";
+
+	/** The manifest entries, keyed by image name and size. */
+	private static final Map<String, Variant> VARIANTS = load();
+
+	/**
+	 * Prevents instantiation of this utility class.
+	 */
+	private AssetManifest() {
+	}
+
+	/**
+	 * Finds the uncropped variant of an image prepared for a requested size.
+	 *
+	 * @param resourcePath    The absolute resource path of the original image.
+	 * @param requestedWidth  The requested width, or {@code 0} to derive it from the height.
+	 * @param requestedHeight The requested height, or {@code 0} to derive it from the width.
+	 * @param preserveRatio   Whether the image keeps its aspect ratio.
+	 * @return The variant, or {@code null} if the build did not produce one for this size.
+	 */
+	public static Variant find(String resourcePath, double requestedWidth, double requestedHeight,
+			boolean preserveRatio) {
+		String key = createKey(resourcePath, requestedWidth, requestedHeight, preserveRatio);
+		return key == null ? null : VARIANTS.get(key);
+	}
+
+	/**
+	 * Finds the cropped variant of a sprite prepared for a display height.
+	 *
+	 * @param resourcePath    The absolute resource path of the original image.
+	 * @param requestedHeight The height the sprite is displayed at, with its aspect ratio preserved.
+	 * @return The cropped variant, or {@code null} if the build did not produce one for this height.
+	 */
+	public static Variant findCropped(String resourcePath, double requestedHeight) {
+		String key = createKey(resourcePath, 0, requestedHeight, true);
+		return key == null ? null : VARIANTS.get(key + CROP_SUFFIX);
+	}
+
+	/**
+	 * Builds the manifest key for an image at a requested size.
+	 *
+	 * @param resourcePath    The absolute resource path of the original image.
+	 * @param requestedWidth  The requested width.
+	 * @param requestedHeight The requested height.
+	 * @param preserveRatio   Whether the image keeps its aspect ratio.
+	 * @return The key, or {@code null} if the image or size cannot have a variant.
+	 */
+	private static String createKey(String resourcePath, double requestedWidth, double requestedHeight,
+			boolean preserveRatio) {
+		if (!resourcePath.startsWith(IMAGE_DIRECTORY) || requestedWidth != Math.rint(requestedWidth)
+				|| requestedHeight != Math.rint(requestedHeight)) {
+			return null;
+		}
+		return resourcePath.substring(IMAGE_DIRECTORY.length()) + '@' + (long) requestedWidth + 'x'
+				+ (long) requestedHeight + (preserveRatio ? "" : "!");
+	}
+
+	/**
+	 * Reads the manifest from the class path.
+	 *
+	 * @return The variants described by the manifest, or an empty map if there is no manifest.
+	 */
+	private static Map<String, Variant> load() {
+		Map<String, Variant> variants = new HashMap<>();
+		try (InputStream input = AssetManifest.class.getResourceAsStream(MANIFEST_PATH)) {
+			if (input == null) {
+				return variants;
+			}
+			Properties manifest = new Properties();
+			manifest.load(input);
+			for (String key : manifest.stringPropertyNames()) {
+				String[] fields = manifest.getProperty(key).trim().split("\\s+");
+				boolean packed = fields.length > 7;
+				variants.put(key, new Variant(IMAGE_DIRECTORY + fields[0], Integer.parseInt(fields[1]),
+						Integer.parseInt(fields[2]), Integer.parseInt(fields[3]), Integer.parseInt(fields[4]),
+						packed ? IMAGE_DIRECTORY + fields[5] : null, packed ? Integer.parseInt(fields[6]) : 0,
+						packed ? Integer.parseInt(fields[7]) : 0));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read " + MANIFEST_PATH, e);
+		}
+		return variants;
+	}
+
+	/**
+	 * An image file prepared by the asset pipeline for one display size.
+	 */
+	public static final class Variant {
+
+		private final String resourcePath;
+		private final int width;
+		private final int height;
+		private final int offsetX;
+		private final int offsetY;
+		private final String atlasPagePath;
+		private final int atlasX;
+		private final int atlasY;
+
+		private Variant(String resourcePath, int width, int height, int offsetX, int offsetY, String atlasPagePath,
+				int atlasX, int atlasY) {
+			this.resourcePath = resourcePath;
+			this.width = width;
+			this.height = height;
+			this.offsetX = offsetX;
+			this.offsetY = offsetY;
+			this.atlasPagePath = atlasPagePath;
+			this.atlasX = atlasX;
+			this.atlasY = atlasY;
+		}
+
+		/**
+		 * Retrieves the resource path of the variant file.
+		 *
+		 * @return The absolute resource path.
+		 */
+		public String getResourcePath() {
+			return resourcePath;
+		}
+
+		/**
+		 * Retrieves the width of the variant.
+		 *
+		 * @return The width in pixels.
+		 */
+		public int getWidth() {
+			return width;
+		}
+
+		/**
+		 * Retrieves the height of the variant.
+		 *
+		 * @return The height in pixels.
+		 */
+		public int getHeight() {
+			return height;
+		}
+
+		/**
+		 * Retrieves the horizontal position of the variant within the uncropped image at display size.
+		 *
+		 * @return The X-offset in pixels; {@code 0} for uncropped variants.
+		 */
+		public int getOffsetX() {
+			return offsetX;
+		}
+
+		/**
+		 * Retrieves the vertical position of the variant within the uncropped image at display size.
+		 *
+		 * @return The Y-offset in pixels; {@code 0} for uncropped variants.
+		 */
+		public int getOffsetY() {
+			return offsetY;
+		}
+
+		/**
+		 * Retrieves the atlas page the variant is packed into.
+		 *
+		 * @return The absolute resource path of the page, or {@code null} if the variant is not in the atlas.
+		 */
+		public String getAtlasPagePath() {
+			return atlasPagePath;
+		}
+
+		/**
+		 * Retrieves the horizontal position of the variant on its atlas page.
+		 *
+		 * @return The X-coordinate in pixels; {@code 0} if the variant is not in the atlas.
+		 */
+		public int getAtlasX() {
+			return atlasX;
+		}
+
+		/**
+		 * Retrieves the vertical position of the variant on its atlas page.
+		 *
+		 * @return The Y-coordinate in pixels; {@code 0} if the variant is not in the atlas.
+		 */
+		public int getAtlasY() {
+			return atlasY;
+		}
+	}
+}
@@ -0,0 +1,270 @@
+package com.example.demo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays many complete games headlessly on all cores and writes the outcome of every level to a CSV file.
+ * <p>Each game starts at {@link BuiltInLevels#LEVEL_ONE} and follows the {@link LevelRegistry} for as long as
+ * the levels are advanced, driven by a {@link PlayerAgent} without a JavaFX toolkit or game loop. Game
+ * {@code n} is seeded with {@code first seed + n}, and the seeds of its levels and of a random agent are drawn
+ * from that seed, so any row of the output can be replayed on its own. The games are split into ranges that a
+ * {@link ForkJoinPool} with one worker per core plays in parallel; games share nothing but the immutable
+ * registry and the sprite masks, so the results do not depend on how they are scheduled.</p>
+ * <p>Each row holds the game, the level, its seed, how it ended, the number of ticks, the player's kills and
+ * remaining health, and the mean, 99th percentile and longest tick duration. A level still being played after
+ * {@value #MAX_TICKS_PER_LEVEL} ticks is cut off and reported with the status {@code PLAYING}. Tuning a constant
+ * such as {@code EnemyPlane.FIRE_RATE} and comparing the outcome columns of two runs shows its effect on
+ * balance.</p>
+ * <p>Usage: {@code BatchSimulator <games> <csv file> [scripted|random] [first seed]}</p>
+ */
+public class BatchSimulator {
+
+	/** The width of the simulated screen in pixels, as in the game. */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The height of the simulated screen in pixels, as in the game. */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** The number of ticks after which a level is cut off; ten minutes at the default tick rate. */
+	private static final long MAX_TICKS_PER_LEVEL = 12_000;
+
+	/** The largest number of games a fork-join task plays without splitting its range. */
+	private static final int GAMES_PER_TASK = 8;
+
+	/** The name of the agent that follows a fixed script. */
+	private static final String SCRIPTED_AGENT = "scripted";
+
+	/** The name of the agent that acts at random. */
+	private static final String RANDOM_AGENT = "random";
+
+	/** The header row of the CSV file. */
+	private static final String CSV_HEADER = "game,game_seed,agent,level,level_seed,status,ticks,kills,health,"
+			+ "tick_mean_us,tick_p99_us,tick_max_us";
+
+	/** The number of nanoseconds in one microsecond. */
+	private static final double NANOS_PER_MICROSECOND = 1_000.0;
+
+	/** The number of nanoseconds in one second. */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/** Creates the levels of every game. */
+	private final LevelRegistry registry;
+
+	/** The name of the agent playing the games. */
+	private final String agentName;
+
+	/** The seed of the first game. */
+	private final long firstSeed;
+
+	/** The levels played in each game, indexed by game; each worker only sets the games it plays. */
+	private final List<List<LevelResult>> results;
+
+	/** The tick duration histogram of each worker thread, reset for every level. */
+	private final ThreadLocal<LatencyHistogram> tickTimes;
+
+	/**
+	 * Constructs a {@code BatchSimulator}.
+	 *
+	 * @param games     The number of games to play.
+	 * @param agentName The name of the agent playing the games.
+	 * @param firstSeed The seed of the first game.
+	 */
+	private BatchSimulator(int games, String agentName, long firstSeed) {
+		this.registry = LevelRegistry.createDefault();
+		this.agentName = agentName;
+		this.firstSeed = firstSeed;
+		this.results = new ArrayList<>(Collections.nCopies(games, null));
+		this.tickTimes = ThreadLocal.withInitial(LatencyHistogram::new);
+	}
+
+	/**
+	 * Plays the number of games given on the command line and writes the results.
+	 *
+	 * @param args The number of games, the path of the CSV file, optionally the agent and optionally the seed of
+	 *             the first game.
+	 * @throws IOException If the CSV file cannot be written.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2 || args.length > 4) {
+			System.err.println("Usage: BatchSimulator <games> <csv file> [scripted|random] [first seed]");
+			System.exit(2);
+		}
+		int games = Integer.parseInt(args[0]);
+		if (games < 1) {
+			System.err.println("Usage: BatchSimulator <games> <csv file> [scripted|random] [first seed]");
+			System.err.println("The number of games must be at least 1: " + games);
+			System.exit(2);
+		}
+		Path output = Path.of(args[1]);
+		String agentName = args.length > 2 ? args[2] : SCRIPTED_AGENT;
+		if (!agentName.equals(SCRIPTED_AGENT) && !agentName.equals(RANDOM_AGENT)) {
+			System.err.println("Unknown agent: " + agentName);
+			System.exit(2);
+		}
+		long firstSeed = args.length > 3 ? Long.parseLong(args[3]) : LevelRandom.newSeed();
+
+		BatchSimulator simulator = new BatchSimulator(games, agentName, firstSeed);
+		ForkJoinPool pool = new ForkJoinPool();
+		long startTime = System.nanoTime();
+		try {
+			pool.invoke(simulator.new GameRange(0, games));
+		} finally {
+			pool.shutdown();
+		}
+		long elapsed = System.nanoTime() - startTime;
+		simulator.writeCsv(output);
+		simulator.printSummary(elapsed, pool.getParallelism());
+	}
+
+	/**
+	 * Plays one game from the first level until a level is not advanced or the last level ends.
+	 *
+	 * @param game The index of the game.
+	 * @return The levels played, in order.
+	 */
+	private List<LevelResult> playGame(int game) {
+		long gameSeed = firstSeed + game;
+		SplittableRandom seeds = new SplittableRandom(gameSeed);
+		PlayerAgent agent = agentName.equals(RANDOM_AGENT) ? PlayerAgent.random(seeds.nextLong())
+				: PlayerAgent.scripted();
+		LatencyHistogram histogram = tickTimes.get();
+		List<LevelResult> levels = new ArrayList<>();
+		String levelId = BuiltInLevels.LEVEL_ONE;
+		while (levelId != null) {
+			long levelSeed = seeds.nextLong();
+			LevelParent level = registry.create(levelId, SCREEN_HEIGHT, SCREEN_WIDTH, levelSeed);
+			level.getProfiler().setEnabled(false);
+			level.initializeLevel();
+			histogram.reset();
+			while (level.getStatus() == LevelStatus.PLAYING && level.getTickCount() < MAX_TICKS_PER_LEVEL) {
+				agent.act(level);
+				long tickStart = System.nanoTime();
+				level.tick();
+				histogram.record(System.nanoTime() - tickStart);
+			}
+			levels.add(new LevelResult(game, gameSeed, levelId, levelSeed, level.getStatus(), level.getTickCount(),
+					level.getUser().getNumberOfKills(), level.getUser().getHealth(),
+					histogram.getMeanNanos() / NANOS_PER_MICROSECOND,
+					histogram.getPercentile(99) / NANOS_PER_MICROSECOND,
+					histogram.getMaxNanos() / NANOS_PER_MICROSECOND));
+			levelId = level.getStatus() == LevelStatus.ADVANCED ? registry.getNextLevelId(levelId).orElse(null)
+					: null;
+		}
+		return levels;
+	}
+
+	/**
+	 * Writes one row per level played, ordered by game.
+	 *
+	 * @param output The path of the CSV file.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private void writeCsv(Path output) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+			writer.write(CSV_HEADER);
+			writer.newLine();
+			for (List<LevelResult> game : results) {
+				for (LevelResult level : game) {
+					writer.write(String.format(Locale.ROOT, "%d,%d,%s,%s,%d,%s,%d,%d,%d,%.1f,%.1f,%.1f",
+							level.game(), level.gameSeed(), agentName, level.levelId(), level.levelSeed(),
+							level.status(), level.ticks(), level.kills(), level.health(), level.meanTickMicros(),
+							level.p99TickMicros(), level.maxTickMicros()));
+					writer.newLine();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Prints how often each level ended in each way, and how fast the games were played.
+	 *
+	 * @param elapsedNanos The wall-clock time taken to play all games.
+	 * @param parallelism  The number of worker threads.
+	 */
+	private void printSummary(long elapsedNanos, int parallelism) {
+		Map<String, Map<LevelStatus, Integer>> outcomes = new TreeMap<>();
+		long totalTicks = 0;
+		for (List<LevelResult> game : results) {
+			for (LevelResult level : game) {
+				outcomes.computeIfAbsent(level.levelId(), id -> new TreeMap<>()).merge(level.status(), 1,
+						Integer::sum);
+				totalTicks += level.ticks();
+			}
+		}
+		double seconds = elapsedNanos / NANOS_PER_SECOND;
+		System.out.printf(Locale.ROOT, "%d games (%s agent, first seed %d) on %d threads in %.1f s: %.0f games/s, "
+				+ "%.0f ticks/s%n", results.size(), agentName, firstSeed, parallelism, seconds,
+				results.size() / seconds, totalTicks / seconds);
+		outcomes.forEach((levelId, counts) -> System.out.printf(Locale.ROOT, "  %-12s %s%n", levelId, counts));
+	}
+
+	/**
+	 * The outcome of one level of one game.
+	 *
+	 * @param game           The index of the game.
+	 * @param gameSeed       The seed of the game.
+	 * @param levelId        The registry identifier of the level.
+	 * @param levelSeed      The seed of the level.
+	 * @param status         How the level ended, or {@code PLAYING} if it was cut off.
+	 * @param ticks          The number of ticks played.
+	 * @param kills          The player's kills in the level.
+	 * @param health         The player's remaining health.
+	 * @param meanTickMicros The mean tick duration in microseconds.
+	 * @param p99TickMicros  The 99th percentile tick duration in microseconds.
+	 * @param maxTickMicros  The longest tick duration in microseconds.
+	 */
+	private record LevelResult(int game, long gameSeed, String levelId, long levelSeed, LevelStatus status,
+			long ticks, int kills, int health, double meanTickMicros, double p99TickMicros, double maxTickMicros) {
+	}
+
+	/**
+	 * Plays a range of games, splitting it in half until it is small enough to play directly.
+	 */
+	private final class GameRange extends RecursiveAction {
+
+		/** The index of the first game in the range. */
+		private final int start;
+
+		/** The index just past the last game in the range. */
+		private final int end;
+
+		/**
+		 * Constructs a {@code GameRange}.
+		 *
+		 * @param start The index of the first game.
+		 * @param end   The index just past the last game.
+		 */
+		private GameRange(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * Plays the games of the range or splits it into two tasks.
+		 */
+		@Override
+		protected void compute() {
+			if (end - start <= GAMES_PER_TASK) {
+				for (int game = start; game < end; game++) {
+					results.set(game, playGame(game));
+				}
+				return;
+			}
+			int middle = (start + end) >>> 1;
+			invokeAll(new GameRange(start, middle), new GameRange(middle, end));
+		}
+	}
+}
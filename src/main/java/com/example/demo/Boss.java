@@ -69,15 +69,27 @@ public class Boss extends FighterPlane {
 	/** Tracks the number of frames the shield has been activated. */
 	private int framesWithShieldActivated;
 
-	/** A reference to the {@link LevelView} for UI updates related to the boss (e.g., shield effects). */
-	private LevelView levelView;
+	/** The pool that supplies the projectiles fired by the boss. */
+	private final ActorPool<BossProjectile> projectilePool;
+
+	/** Decides when the boss fires and shields itself. */
+	private final GameRandom random;
+
+	/** Shuffles the move pattern, drawing from {@link #random}. */
+	private final Random shuffleRandom;
 
 	/**
 	 * Constructs a {@code Boss} object.
 	 * <p>Initializes the boss with its image, size, health, and position, and generates its move pattern.</p>
+	 *
+	 * @param projectilePool The pool that supplies the projectiles fired by the boss.
+	 * @param random         The random number stream that decides how the boss moves, fires and shields itself.
 	 */
-	public Boss() {
+	public Boss(ActorPool<BossProjectile> projectilePool, GameRandom random) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		this.projectilePool = projectilePool;
+		this.random = random;
+		this.shuffleRandom = Random.from(random);
 		movePattern = new ArrayList<>();
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
@@ -114,14 +126,14 @@ public class Boss extends FighterPlane {
 	/**
 	 * Fires a projectile from the boss.
 	 * <p>The boss fires with a probability defined by {@code BOSS_FIRE_RATE}.
-	 * If the boss fires, a {@link BossProjectile} is created with the starting position adjusted by
+	 * If the boss fires, a {@link BossProjectile} is taken from the projectile pool with the starting position adjusted by
 	 * {@code PROJECTILE_Y_POSITION_OFFSET}.</p>
 	 *
-	 * @return A new {@link ActiveActorDestructible} representing the fired projectile, or {@code null} if no projectile is fired.
+	 * @return An {@link ActiveActorDestructible} representing the fired projectile, or {@code null} if no projectile is fired.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+		return bossFiresInCurrentFrame() ? projectilePool.acquire(0, getProjectileInitialPosition()) : null;
 	}
 
 	/**
@@ -135,6 +147,51 @@ public class Boss extends FighterPlane {
 		}
 	}
 
+	/**
+	 * Checks whether the boss currently has its shield activated.
+	 * <p>The level view reads this to show or hide the shield image.</p>
+	 *
+	 * @return {@code true} if the shield is active, {@code false} otherwise.
+	 */
+	public boolean isShielded() {
+		return isShielded;
+	}
+
+	/**
+	 * Writes the boss's state, including its move pattern and shield, to a snapshot.
+	 * <p>The pattern is written entry by entry because it is shuffled in place while the boss moves.</p>
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	@Override
+	protected void saveState(LevelSnapshot snapshot) {
+		super.saveState(snapshot);
+		for (int i = 0; i < movePattern.size(); i++) {
+			snapshot.putInt(movePattern.get(i));
+		}
+		snapshot.putBoolean(isShielded);
+		snapshot.putInt(consecutiveMovesInSameDirection);
+		snapshot.putInt(indexOfCurrentMove);
+		snapshot.putInt(framesWithShieldActivated);
+	}
+
+	/**
+	 * Reads the boss's state, including its move pattern and shield, back from a snapshot.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	@Override
+	protected void restoreState(LevelSnapshot snapshot) {
+		super.restoreState(snapshot);
+		for (int i = 0; i < movePattern.size(); i++) {
+			movePattern.set(i, snapshot.getInt());
+		}
+		isShielded = snapshot.getBoolean();
+		consecutiveMovesInSameDirection = snapshot.getInt();
+		indexOfCurrentMove = snapshot.getInt();
+		framesWithShieldActivated = snapshot.getInt();
+	}
+
 	/**
 	 * Initializes the boss's move pattern by creating a shuffled sequence of vertical velocities.
 	 */
@@ -144,7 +201,7 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		Collections.shuffle(movePattern, shuffleRandom);
 	}
 
 	/**
@@ -157,11 +214,9 @@ public class Boss extends FighterPlane {
 			framesWithShieldActivated++;
 		} else if (shieldShouldBeActivated()) {
 			activateShield();
-			levelView.showShields();
 		}
 		if (shieldExhausted()) {
 			deactivateShield();
-			levelView.hideShields();
 		}
 	}
 
@@ -175,7 +230,7 @@ public class Boss extends FighterPlane {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			Collections.shuffle(movePattern, shuffleRandom);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -191,7 +246,7 @@ public class Boss extends FighterPlane {
 	 * @return {@code true} if the boss fires, {@code false} otherwise.
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return random.nextDouble() < BOSS_FIRE_RATE;
 	}
 
 	/**
@@ -209,7 +264,7 @@ public class Boss extends FighterPlane {
 	 * @return {@code true} if the shield should activate, {@code false} otherwise.
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return random.nextDouble() < BOSS_SHIELD_PROBABILITY;
 	}
 
 	/**
@@ -28,6 +28,18 @@ public class BossProjectile extends Projectile {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
 	}
 
+	/**
+	 * Places the projectile back at its starting position so that it can be reused.
+	 * <p>Boss projectiles always start at {@code INITIAL_X_POSITION}, so only the Y-position is used.</p>
+	 *
+	 * @param initialXPos Ignored; the projectile always starts at {@code INITIAL_X_POSITION}.
+	 * @param initialYPos The new initial Y-position of the projectile on the screen.
+	 */
+	@Override
+	protected void reset(double initialXPos, double initialYPos) {
+		super.reset(INITIAL_X_POSITION, initialYPos);
+	}
+
 	/**
 	 * Updates the position of the projectile by moving it horizontally.
 	 * <p>The projectile moves from right to left at a constant speed defined by {@code HORIZONTAL_VELOCITY}.</p>
@@ -0,0 +1,32 @@
+package com.example.demo;
+
+import java.util.List;
+
+/**
+ * Provides the levels that ship with the game and the order in which they are played.
+ */
+public class BuiltInLevels implements LevelProvider {
+
+	/** The identifier of the first level. */
+	public static final String LEVEL_ONE = "level-one";
+
+	/** The identifier of the boss level. */
+	public static final String LEVEL_TWO = "level-two";
+
+	/** The identifier of the final level. */
+	public static final String LEVEL_THREE = "level-three";
+
+	/**
+	 * Retrieves the built-in levels: {@code LevelOne}, followed by {@code LevelTwo}, followed by the final
+	 * {@code LevelThree}.
+	 *
+	 * @return The definitions of the built-in levels.
+	 */
+	@Override
+	public List<LevelDefinition> getLevels() {
+		return List.of(
+				new LevelDefinition(LEVEL_ONE, LevelOne::new, LEVEL_TWO),
+				new LevelDefinition(LEVEL_TWO, LevelTwo::new, LEVEL_THREE),
+				new LevelDefinition(LEVEL_THREE, LevelThree::new, null));
+	}
+}
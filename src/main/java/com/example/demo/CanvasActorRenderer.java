@@ -0,0 +1,218 @@
+package com.example.demo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Draws all actors onto a single {@link Canvas}.
+ * <p>Actors are kept in one {@link SpriteBatch} per sprite and display height. Every frame the canvas is
+ * cleared and each batch draws its actors one after the other from the same {@link SpriteRegion}, so the
+ * whole actor layer is a single node that is redrawn in one pass of {@code drawImage} calls, regardless of
+ * how many projectiles are in flight. When the sprites are packed into the atlas, those calls all sample the
+ * same atlas page.</p>
+ * <p>Like the views of {@link NodeActorRenderer}, the entries that track an actor's place in its batch are
+ * kept for reuse when the actor leaves the level, so drawing a busy level does not allocate.</p>
+ */
+public class CanvasActorRenderer implements ActorRenderer {
+
+	/** The canvas the actors are drawn on. */
+	private final Canvas canvas;
+
+	/** The drawing context of the canvas. */
+	private final GraphicsContext graphics;
+
+	/** The batches, in the order they are drawn. */
+	private final List<SpriteBatch> batches;
+
+	/** The batches of each sprite, keyed by resource path and distinguished by display height. */
+	private final Map<String, List<SpriteBatch>> batchesBySprite;
+
+	/** The entry of each actor currently in the level. */
+	private final Map<ActiveActorDestructible, BatchEntry> entries;
+
+	/** The entries that are ready to track another actor. */
+	private final Deque<BatchEntry> spareEntries;
+
+	/**
+	 * Constructs a {@code CanvasActorRenderer} with a canvas of the given size.
+	 *
+	 * @param width  The width of the canvas in pixels.
+	 * @param height The height of the canvas in pixels.
+	 */
+	public CanvasActorRenderer(double width, double height) {
+		this.canvas = new Canvas(width, height);
+		this.graphics = canvas.getGraphicsContext2D();
+		this.batches = new ArrayList<>();
+		this.batchesBySprite = new HashMap<>();
+		this.entries = new IdentityHashMap<>();
+		this.spareEntries = new ArrayDeque<>();
+	}
+
+	/**
+	 * Retrieves the canvas the actors are drawn on.
+	 *
+	 * @return The canvas.
+	 */
+	@Override
+	public Node getNode() {
+		return canvas;
+	}
+
+	/**
+	 * Adds an actor that has entered the level to the batch of its sprite.
+	 *
+	 * @param actor The actor that was added.
+	 */
+	@Override
+	public void actorAdded(ActiveActorDestructible actor) {
+		BatchEntry entry = spareEntries.poll();
+		if (entry == null) {
+			entry = new BatchEntry();
+		}
+		entry.actor = actor;
+		batchFor(actor).add(entry);
+		entries.put(actor, entry);
+	}
+
+	/**
+	 * Removes an actor that has left the level from its batch.
+	 *
+	 * @param actor The actor that was removed.
+	 */
+	@Override
+	public void actorRemoved(ActiveActorDestructible actor) {
+		BatchEntry entry = entries.remove(actor);
+		if (entry == null) {
+			return;
+		}
+		entry.batch.remove(entry);
+		entry.actor = null;
+		spareEntries.push(entry);
+	}
+
+	/**
+	 * Clears the canvas and draws every actor, batch by batch.
+	 *
+	 * @param alpha How far the frame lies between the previous tick ({@code 0}) and the latest tick ({@code 1}).
+	 */
+	@Override
+	public void render(double alpha) {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		for (int i = 0; i < batches.size(); i++) {
+			batches.get(i).draw(graphics, alpha);
+		}
+	}
+
+	/**
+	 * Finds the batch for an actor's sprite, creating it the first time the sprite is drawn.
+	 *
+	 * @param actor The actor to draw.
+	 * @return The batch drawing the actor's sprite at the actor's display height.
+	 */
+	private SpriteBatch batchFor(ActiveActor actor) {
+		List<SpriteBatch> spriteBatches = batchesBySprite.computeIfAbsent(actor.getImagePath(),
+				path -> new ArrayList<>(1));
+		for (int i = 0; i < spriteBatches.size(); i++) {
+			SpriteBatch batch = spriteBatches.get(i);
+			if (batch.imageHeight == actor.getImageHeight()) {
+				return batch;
+			}
+		}
+		SpriteBatch batch = new SpriteBatch(actor.getImagePath(), actor.getImageHeight());
+		spriteBatches.add(batch);
+		batches.add(batch);
+		return batch;
+	}
+
+	/**
+	 * The actors that share one sprite at one display height.
+	 * <p>As in {@link ActorView}, the sprite is drawn from its {@link SpriteRegion}, at the offset of the
+	 * cropped variant when the build has produced one.</p>
+	 */
+	private static final class SpriteBatch {
+
+		/** The display height of the sprite. */
+		private final int imageHeight;
+
+		/** The region drawn for every actor of the batch. */
+		private final SpriteRegion region;
+
+		/** The entries of the actors in the batch. */
+		private final List<BatchEntry> entries;
+
+		/**
+		 * Constructs an empty {@code SpriteBatch}.
+		 *
+		 * @param imagePath   The resource path of the sprite.
+		 * @param imageHeight The display height of the sprite.
+		 */
+		private SpriteBatch(String imagePath, int imageHeight) {
+			this.imageHeight = imageHeight;
+			this.entries = new ArrayList<>();
+			this.region = SpriteRegion.forActor(imagePath, imageHeight);
+		}
+
+		/**
+		 * Adds an entry to the end of the batch.
+		 *
+		 * @param entry The entry of the actor to draw.
+		 */
+		private void add(BatchEntry entry) {
+			entry.batch = this;
+			entry.index = entries.size();
+			entries.add(entry);
+		}
+
+		/**
+		 * Removes an entry by moving the last entry into its place.
+		 *
+		 * @param entry The entry to remove.
+		 */
+		private void remove(BatchEntry entry) {
+			BatchEntry last = entries.remove(entries.size() - 1);
+			if (last != entry) {
+				entries.set(entry.index, last);
+				last.index = entry.index;
+			}
+			entry.batch = null;
+		}
+
+		/**
+		 * Draws every actor of the batch.
+		 *
+		 * @param graphics The context to draw with.
+		 * @param alpha    The interpolation factor within the last tick.
+		 */
+		private void draw(GraphicsContext graphics, double alpha) {
+			for (int i = 0; i < entries.size(); i++) {
+				ActiveActor actor = entries.get(i).actor;
+				region.draw(graphics, actor.getLayoutX() + actor.interpolateTranslateX(alpha),
+						actor.getLayoutY() + actor.interpolateTranslateY(alpha));
+			}
+		}
+	}
+
+	/**
+	 * The place of an actor in its batch.
+	 */
+	private static final class BatchEntry {
+
+		/** The actor, or {@code null} while the entry is unused. */
+		private ActiveActor actor;
+
+		/** The batch the entry belongs to, or {@code null} while the entry is unused. */
+		private SpriteBatch batch;
+
+		/** The position of the entry in its batch. */
+		private int index;
+	}
+}
@@ -0,0 +1,205 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A uniform-grid broadphase used to find actors that are close enough to possibly collide.
+ * <p>The screen is divided into square cells. For each collision pass the actors of one group are binned
+ * into every cell their cached bounding boxes overlap, and each actor of the other group only looks at the
+ * actors stored in the cells it overlaps. Only those nearby pairs are handed to the exact intersection test, so the cost of a pass
+ * grows with the number of actors and nearby pairs instead of with the product of the group sizes.</p>
+ * <p>The grid keeps its storage between passes; each pass only clears the cell heads and refills the
+ * entry arrays, which are grown when a larger group is seen.</p>
+ * <p>The binned group is rebuilt in full for every pass rather than updated incrementally. Every actor in the game
+ * moves every tick, so an incremental update would still have to visit each actor to find out whether it changed
+ * cells, which costs about as much as binning it again. It would also need per-actor cell records and removal
+ * from the cell lists. Those records would go stale whenever destroyed actors are compacted out of a list or a
+ * snapshot is restored, since both renumber the actors. A full rebuild is a single linear pass over flat
+ * arrays, allocates nothing and cannot go out of date.</p>
+ */
+public class CollisionGrid {
+
+	/** The side length, in pixels, of a grid cell. */
+	private static final double DEFAULT_CELL_SIZE = 128;
+
+	/** The initial capacity of the entry and visit arrays. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** Marks the end of a cell's entry list. */
+	private static final int NO_ENTRY = -1;
+
+	private final double cellSize;
+	private final int columns;
+	private final int rows;
+
+	/** The first entry of each cell, or {@link #NO_ENTRY} for empty cells. */
+	private final int[] cellHeads;
+
+	/** The next entry in the same cell for each entry. */
+	private int[] entryNext;
+
+	/** The index, within the binned group, of the actor each entry refers to. */
+	private int[] entryActor;
+
+	/** The number of entries used in the current pass. */
+	private int entryCount;
+
+	/** The stamp of the last query that visited each binned actor, used to test every pair only once. */
+	private int[] visitStamps;
+
+	/** The stamp of the current query. */
+	private int currentStamp;
+
+	/**
+	 * Constructs a {@code CollisionGrid} covering a screen of the given size with the default cell size.
+	 *
+	 * @param screenWidth  The width of the area covered by the grid.
+	 * @param screenHeight The height of the area covered by the grid.
+	 */
+	public CollisionGrid(double screenWidth, double screenHeight) {
+		this(screenWidth, screenHeight, DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Constructs a {@code CollisionGrid} covering a screen of the given size.
+	 * <p>Actors outside the covered area are placed in the nearest border cells.</p>
+	 *
+	 * @param screenWidth  The width of the area covered by the grid.
+	 * @param screenHeight The height of the area covered by the grid.
+	 * @param cellSize     The side length of a grid cell.
+	 */
+	public CollisionGrid(double screenWidth, double screenHeight, double cellSize) {
+		this.cellSize = cellSize;
+		this.columns = Math.max(1, (int) Math.ceil(screenWidth / cellSize));
+		this.rows = Math.max(1, (int) Math.ceil(screenHeight / cellSize));
+		this.cellHeads = new int[columns * rows];
+		this.entryNext = new int[INITIAL_CAPACITY];
+		this.entryActor = new int[INITIAL_CAPACITY];
+		this.visitStamps = new int[INITIAL_CAPACITY];
+		this.currentStamp = 0;
+	}
+
+	/**
+	 * Calls the pair handler for every pair of actors, one from each group, whose cells overlap.
+	 * <p>Each pair is reported at most once per pass. Pairs that are reported are not necessarily
+	 * colliding; the handler is expected to run the exact intersection test.</p>
+	 *
+	 * @param group1      The actors that query the grid.
+	 * @param group2      The actors that are binned into the grid.
+	 * @param pairHandler Receives each nearby pair as {@code (actorFromGroup1, actorFromGroup2)}.
+	 */
+	public void forEachNearbyPair(List<ActiveActorDestructible> group1, List<ActiveActorDestructible> group2,
+			BiConsumer<ActiveActorDestructible, ActiveActorDestructible> pairHandler) {
+		if (group1.isEmpty() || group2.isEmpty()) {
+			return;
+		}
+		insertAll(group2);
+		for (int i = 0; i < group1.size(); i++) {
+			ActiveActorDestructible actor1 = group1.get(i);
+			nextStamp();
+			int firstColumn = columnOf(actor1.getMinX());
+			int lastColumn = columnOf(actor1.getMaxX());
+			int firstRow = rowOf(actor1.getMinY());
+			int lastRow = rowOf(actor1.getMaxY());
+			for (int row = firstRow; row <= lastRow; row++) {
+				for (int column = firstColumn; column <= lastColumn; column++) {
+					for (int entry = cellHeads[row * columns + column]; entry != NO_ENTRY; entry = entryNext[entry]) {
+						int actorIndex = entryActor[entry];
+						if (visitStamps[actorIndex] != currentStamp) {
+							visitStamps[actorIndex] = currentStamp;
+							pairHandler.accept(actor1, group2.get(actorIndex));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Clears the grid and bins every actor of the given group into the cells its bounds overlap.
+	 *
+	 * @param actors The actors to bin.
+	 */
+	private void insertAll(List<ActiveActorDestructible> actors) {
+		Arrays.fill(cellHeads, NO_ENTRY);
+		entryCount = 0;
+		if (visitStamps.length < actors.size()) {
+			visitStamps = new int[Math.max(actors.size(), visitStamps.length * 2)];
+			currentStamp = 0;
+		}
+		for (int actorIndex = 0; actorIndex < actors.size(); actorIndex++) {
+			visitStamps[actorIndex] = currentStamp;
+			ActiveActorDestructible actor = actors.get(actorIndex);
+			int firstColumn = columnOf(actor.getMinX());
+			int lastColumn = columnOf(actor.getMaxX());
+			int firstRow = rowOf(actor.getMinY());
+			int lastRow = rowOf(actor.getMaxY());
+			for (int row = firstRow; row <= lastRow; row++) {
+				for (int column = firstColumn; column <= lastColumn; column++) {
+					addEntry(row * columns + column, actorIndex);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Prepends an entry for an actor to a cell's entry list, growing the entry arrays when full.
+	 *
+	 * @param cell       The index of the cell.
+	 * @param actorIndex The index of the actor within the binned group.
+	 */
+	private void addEntry(int cell, int actorIndex) {
+		if (entryCount == entryNext.length) {
+			entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+			entryActor = Arrays.copyOf(entryActor, entryCount * 2);
+		}
+		entryActor[entryCount] = actorIndex;
+		entryNext[entryCount] = cellHeads[cell];
+		cellHeads[cell] = entryCount;
+		entryCount++;
+	}
+
+	/**
+	 * Advances the query stamp, resetting all visit stamps if the counter would overflow.
+	 */
+	private void nextStamp() {
+		if (currentStamp == Integer.MAX_VALUE) {
+			Arrays.fill(visitStamps, 0);
+			currentStamp = 0;
+		}
+		currentStamp++;
+	}
+
+	/**
+	 * Converts an X-coordinate to a grid column, clamped to the grid.
+	 *
+	 * @param x The X-coordinate.
+	 * @return The column index.
+	 */
+	private int columnOf(double x) {
+		return clamp((int) Math.floor(x / cellSize), columns);
+	}
+
+	/**
+	 * Converts a Y-coordinate to a grid row, clamped to the grid.
+	 *
+	 * @param y The Y-coordinate.
+	 * @return The row index.
+	 */
+	private int rowOf(double y) {
+		return clamp((int) Math.floor(y / cellSize), rows);
+	}
+
+	/**
+	 * Clamps a cell coordinate to the range {@code [0, count - 1]}.
+	 *
+	 * @param value The cell coordinate.
+	 * @param count The number of cells along the axis.
+	 * @return The clamped coordinate.
+	 */
+	private static int clamp(int value, int count) {
+		return Math.min(Math.max(value, 0), count - 1);
+	}
+}
@@ -0,0 +1,295 @@
+package com.example.demo;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Describes which pixels of a sprite are solid, at the size the sprite is displayed at.
+ * <p>Most sprites are drawn on a transparent canvas that is considerably larger than the plane or projectile
+ * itself, so testing collisions against the image bounds makes actors collide before they visibly touch. A
+ * {@code CollisionMask} is computed once per sprite and display height from the sprite's alpha channel and
+ * shared by every actor showing that sprite. It holds:</p>
+ * <ul>
+ *   <li>the tight bounding box of the solid pixels, which actors use as their bounding box, so the
+ *   broadphase and the box test already reject most pairs; and</li>
+ *   <li>one bit per displayed pixel, packed 64 to a {@code long} row by row, so that pairs whose boxes overlap
+ *   are confirmed by ANDing whole words of the two masks.</li>
+ * </ul>
+ * <p>A displayed pixel is solid if any of the original pixels it covers is at least half opaque. When a sprite is
+ * displayed larger than its image, a displayed pixel covers part of a single original pixel and takes that pixel's
+ * opacity, so enlarged masks have no gaps. The image is decoded with {@link ImageIO} rather than JavaFX, so masks
+ * can be built in a headless simulation.</p>
+ */
+public final class CollisionMask {
+
+	/** The minimum alpha value of an original pixel that makes the displayed pixel solid. */
+	private static final int ALPHA_THRESHOLD = 128;
+
+	/** The masks built so far, keyed by resource path and display height. */
+	private static final Map<String, CollisionMask> MASKS = new ConcurrentHashMap<>();
+
+	/** The number of {@code long} words that hold one row of the mask. */
+	private final int wordsPerRow;
+
+	/** The bits of the mask, one per displayed pixel, row by row. */
+	private final long[] bits;
+
+	/** The left edge of the solid pixels, relative to the sprite's origin. */
+	private final int minX;
+
+	/** The top edge of the solid pixels, relative to the sprite's origin. */
+	private final int minY;
+
+	/** The right edge of the solid pixels, exclusive, relative to the sprite's origin. */
+	private final int maxX;
+
+	/** The bottom edge of the solid pixels, exclusive, relative to the sprite's origin. */
+	private final int maxY;
+
+	/**
+	 * Constructs a {@code CollisionMask} from its packed bits and the bounds of its solid pixels.
+	 *
+	 * @param wordsPerRow The number of words per row.
+	 * @param bits        The packed bits.
+	 * @param minX        The left edge of the solid pixels.
+	 * @param minY        The top edge of the solid pixels.
+	 * @param maxX        The exclusive right edge of the solid pixels.
+	 * @param maxY        The exclusive bottom edge of the solid pixels.
+	 */
+	private CollisionMask(int wordsPerRow, long[] bits, int minX, int minY, int maxX, int maxY) {
+		this.wordsPerRow = wordsPerRow;
+		this.bits = bits;
+		this.minX = minX;
+		this.minY = minY;
+		this.maxX = maxX;
+		this.maxY = maxY;
+	}
+
+	/**
+	 * Retrieves the mask of a sprite displayed at a given height with its aspect ratio preserved.
+	 *
+	 * @param resourcePath  The absolute resource path of a PNG image.
+	 * @param displayHeight The height the sprite is displayed at.
+	 * @return The shared mask for the sprite at that height.
+	 * @throws IllegalArgumentException If the resource does not exist or cannot be decoded.
+	 * @throws UncheckedIOException     If the resource cannot be read.
+	 */
+	public static CollisionMask forSprite(String resourcePath, int displayHeight) {
+		return MASKS.computeIfAbsent(resourcePath + '@' + displayHeight,
+				key -> build(resourcePath, displayHeight));
+	}
+
+	/**
+	 * Checks whether any solid pixel of this mask coincides with a solid pixel of another mask.
+	 *
+	 * @param other   The other mask.
+	 * @param offsetX The horizontal position of the other mask's origin relative to this mask's origin.
+	 * @param offsetY The vertical position of the other mask's origin relative to this mask's origin.
+	 * @return {@code true} if the masks overlap; {@code false} otherwise.
+	 */
+	public boolean overlaps(CollisionMask other, int offsetX, int offsetY) {
+		int startX = Math.max(minX, other.minX + offsetX);
+		int endX = Math.min(maxX, other.maxX + offsetX);
+		int startY = Math.max(minY, other.minY + offsetY);
+		int endY = Math.min(maxY, other.maxY + offsetY);
+		for (int y = startY; y < endY; y++) {
+			for (int x = startX; x < endX; x += Long.SIZE) {
+				long overlap = wordAt(x, y) & other.wordAt(x - offsetX, y - offsetY);
+				int remaining = endX - x;
+				if (remaining < Long.SIZE) {
+					overlap &= (1L << remaining) - 1;
+				}
+				if (overlap != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reads the 64 bits of a row starting at a given column, which need not be word-aligned.
+	 *
+	 * @param x The first column, at least {@code 0}.
+	 * @param y The row.
+	 * @return The bits of columns {@code x} to {@code x + 63}, with {@code x} in the lowest bit.
+	 */
+	private long wordAt(int x, int y) {
+		int word = x >>> 6;
+		int shift = x & (Long.SIZE - 1);
+		int rowStart = y * wordsPerRow;
+		long value = word < wordsPerRow ? bits[rowStart + word] >>> shift : 0;
+		if (shift != 0 && word + 1 < wordsPerRow) {
+			value |= bits[rowStart + word + 1] << (Long.SIZE - shift);
+		}
+		return value;
+	}
+
+	/**
+	 * Retrieves the left edge of the solid pixels.
+	 *
+	 * @return The minimum X-offset of a solid pixel from the sprite's origin.
+	 */
+	public int getMinX() {
+		return minX;
+	}
+
+	/**
+	 * Retrieves the top edge of the solid pixels.
+	 *
+	 * @return The minimum Y-offset of a solid pixel from the sprite's origin.
+	 */
+	public int getMinY() {
+		return minY;
+	}
+
+	/**
+	 * Retrieves the right edge of the solid pixels.
+	 *
+	 * @return The X-offset just past the rightmost solid pixel.
+	 */
+	public int getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * Retrieves the bottom edge of the solid pixels.
+	 *
+	 * @return The Y-offset just past the lowest solid pixel.
+	 */
+	public int getMaxY() {
+		return maxY;
+	}
+
+	/**
+	 * Decodes a sprite and builds its mask at a display height.
+	 *
+	 * @param resourcePath  The absolute resource path of the image.
+	 * @param displayHeight The height the sprite is displayed at.
+	 * @return The mask of the sprite.
+	 */
+	private static CollisionMask build(String resourcePath, int displayHeight) {
+		BufferedImage image = decode(resourcePath);
+		int sourceWidth = image.getWidth();
+		int sourceHeight = image.getHeight();
+		double scale = (double) displayHeight / sourceHeight;
+		int displayWidth = (int) Math.ceil(sourceWidth * scale);
+		int wordsPerRow = (displayWidth + Long.SIZE - 1) / Long.SIZE;
+		long[] bits = new long[wordsPerRow * displayHeight];
+
+		boolean[] solid = new boolean[sourceWidth * sourceHeight];
+		int[] row = new int[sourceWidth];
+		for (int sourceY = 0; sourceY < sourceHeight; sourceY++) {
+			image.getRGB(0, sourceY, sourceWidth, 1, row, 0, sourceWidth);
+			for (int sourceX = 0; sourceX < sourceWidth; sourceX++) {
+				solid[sourceY * sourceWidth + sourceX] = row[sourceX] >>> 24 >= ALPHA_THRESHOLD;
+			}
+		}
+
+		int[] sourceColumns = mapToSource(sourceWidth, displayWidth, scale);
+		int[] sourceRows = mapToSource(sourceHeight, displayHeight, scale);
+		int minX = displayWidth;
+		int minY = displayHeight;
+		int maxX = 0;
+		int maxY = 0;
+		for (int y = 0; y < displayHeight; y++) {
+			for (int x = 0; x < displayWidth; x++) {
+				if (!anySolid(solid, sourceWidth, sourceColumns[2 * x], sourceColumns[2 * x + 1], sourceRows[2 * y],
+						sourceRows[2 * y + 1])) {
+					continue;
+				}
+				bits[y * wordsPerRow + (x >>> 6)] |= 1L << x;
+				minX = Math.min(minX, x);
+				minY = Math.min(minY, y);
+				maxX = Math.max(maxX, x + 1);
+				maxY = Math.max(maxY, y + 1);
+			}
+		}
+		if (maxX == 0) {
+			// Nothing is solid: an empty box at the origin that overlaps nothing.
+			return new CollisionMask(wordsPerRow, bits, 0, 0, 0, 0);
+		}
+		return new CollisionMask(wordsPerRow, bits, minX, minY, maxX, maxY);
+	}
+
+	/**
+	 * Maps every displayed pixel along one axis back to the run of original pixels it covers.
+	 * <p>An original pixel belongs to the displayed pixel its scaled position falls into. When the sprite is
+	 * enlarged, some displayed pixels receive no original pixel that way; they take the original pixel nearest to
+	 * their centre instead.</p>
+	 *
+	 * @param sourceSize  The number of original pixels along the axis.
+	 * @param displaySize The number of displayed pixels along the axis.
+	 * @param scale       The ratio of the displayed size to the original size.
+	 * @return For each displayed pixel {@code i}, the first original pixel at {@code 2 * i} and the original pixel
+	 *         after the last at {@code 2 * i + 1}.
+	 */
+	private static int[] mapToSource(int sourceSize, int displaySize, double scale) {
+		int[] ranges = new int[2 * displaySize];
+		for (int source = 0; source < sourceSize; source++) {
+			int display = Math.min((int) (source * scale), displaySize - 1);
+			if (ranges[2 * display + 1] == 0) {
+				ranges[2 * display] = source;
+			}
+			ranges[2 * display + 1] = source + 1;
+		}
+		for (int display = 0; display < displaySize; display++) {
+			if (ranges[2 * display + 1] == 0) {
+				int nearest = Math.min((int) ((display + 0.5) / scale), sourceSize - 1);
+				ranges[2 * display] = nearest;
+				ranges[2 * display + 1] = nearest + 1;
+			}
+		}
+		return ranges;
+	}
+
+	/**
+	 * Checks whether any original pixel in a rectangle is solid.
+	 *
+	 * @param solid       Whether each original pixel is solid, row by row.
+	 * @param sourceWidth The width of the original image.
+	 * @param startX      The first column of the rectangle.
+	 * @param endX        The column after the last.
+	 * @param startY      The first row of the rectangle.
+	 * @param endY        The row after the last.
+	 * @return {@code true} if a pixel in the rectangle is solid; {@code false} otherwise.
+	 */
+	private static boolean anySolid(boolean[] solid, int sourceWidth, int startX, int endX, int startY, int endY) {
+		for (int sourceY = startY; sourceY < endY; sourceY++) {
+			for (int sourceX = startX; sourceX < endX; sourceX++) {
+				if (solid[sourceY * sourceWidth + sourceX]) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Decodes an image resource.
+	 *
+	 * @param resourcePath The absolute resource path of the image.
+	 * @return The decoded image.
+	 */
+	private static BufferedImage decode(String resourcePath) {
+		InputStream resource = CollisionMask.class.getResourceAsStream(resourcePath);
+		if (resource == null) {
+			throw new IllegalArgumentException("Image resource not found: " + resourcePath);
+		}
+		try (resource) {
+			BufferedImage image = ImageIO.read(resource);
+			if (image == null) {
+				throw new IllegalArgumentException("Unsupported image format: " + resourcePath);
+			}
+			return image;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not decode image: " + resourcePath, e);
+		}
+	}
+}
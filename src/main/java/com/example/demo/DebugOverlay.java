@@ -0,0 +1,136 @@
+package com.example.demo;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+
+/**
+ * Displays live performance figures for a level on top of the HUD.
+ * <p>The {@code DebugOverlay} lists the p50, p99 and maximum duration of every {@link TickPhase} recorded by
+ * the level's {@link TickProfiler}, the number of actors in each of the level's lists and the number of nodes
+ * in the scene graph. It is hidden by default and toggled with {@link #toggle()}. While visible, the text is
+ * rebuilt a few times per second rather than every frame, so the overlay barely affects the figures it
+ * shows.</p>
+ */
+public class DebugOverlay {
+
+	/** X-coordinate of the overlay. */
+	private static final double X_POSITION = 5;
+
+	/** Y-coordinate of the overlay, below the heart display. */
+	private static final double Y_POSITION = 90;
+
+	/** The minimum time between two refreshes of the text, in nanoseconds. */
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+	/** The number of nanoseconds in one millisecond. */
+	private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+	/** The root group the overlay is added to. */
+	private final Group root;
+
+	/** The label holding the figures. */
+	private final Label label;
+
+	/** Whether the overlay is currently displayed. */
+	private boolean showing;
+
+	/** The time of the last refresh, in nanoseconds. */
+	private long lastRefreshTime;
+
+	/**
+	 * Constructs a hidden {@code DebugOverlay}.
+	 *
+	 * @param root The root {@link Group} the overlay is added to when shown.
+	 */
+	public DebugOverlay(Group root) {
+		this.root = root;
+		this.label = new Label();
+		label.setLayoutX(X_POSITION);
+		label.setLayoutY(Y_POSITION);
+		label.setMouseTransparent(true);
+		label.setStyle("-fx-font-family: monospace; -fx-font-size: 13px; -fx-text-fill: white; "
+				+ "-fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 6;");
+	}
+
+	/**
+	 * Shows the overlay if it is hidden, or hides it if it is shown.
+	 */
+	public void toggle() {
+		showing = !showing;
+		if (showing) {
+			root.getChildren().add(label);
+			lastRefreshTime = System.nanoTime() - REFRESH_INTERVAL_NANOS;
+		} else {
+			root.getChildren().remove(label);
+		}
+	}
+
+	/**
+	 * Checks whether the overlay is currently displayed.
+	 *
+	 * @return {@code true} if the overlay is shown; {@code false} otherwise.
+	 */
+	public boolean isShowing() {
+		return showing;
+	}
+
+	/**
+	 * Refreshes the displayed figures if the overlay is shown and the refresh interval has passed.
+	 *
+	 * @param level The level whose figures are displayed.
+	 */
+	public void update(LevelParent level) {
+		if (!showing) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (now - lastRefreshTime < REFRESH_INTERVAL_NANOS) {
+			return;
+		}
+		lastRefreshTime = now;
+		label.toFront();
+		label.setText(describe(level));
+	}
+
+	/**
+	 * Builds the text of the overlay.
+	 *
+	 * @param level The level whose figures are described.
+	 * @return The phase timings, actor counts and node count, one per line.
+	 */
+	private String describe(LevelParent level) {
+		TickProfiler profiler = level.getProfiler();
+		StringBuilder text = new StringBuilder();
+		text.append(String.format("%-12s %8s %8s %8s%n", "phase (ms)", "p50", "p99", "max"));
+		for (TickPhase phase : TickPhase.values()) {
+			text.append(String.format("%-12s %8.3f %8.3f %8.3f%n", phase.getLabel(),
+					profiler.getPercentile(phase, 50) / NANOS_PER_MILLISECOND,
+					profiler.getPercentile(phase, 99) / NANOS_PER_MILLISECOND,
+					profiler.getMax(phase) / NANOS_PER_MILLISECOND));
+		}
+		text.append(String.format("%nfriendly %d  enemies %d%n", level.getFriendlyUnits().size(),
+				level.getEnemyUnits().size()));
+		text.append(String.format("user shots %d  enemy shots %d%n", level.getUserProjectiles().size(),
+				level.getEnemyProjectiles().size()));
+		text.append(String.format("scene nodes %d", countNodes(root)));
+		return text.toString();
+	}
+
+	/**
+	 * Counts a node and all of its descendants.
+	 *
+	 * @param node The node at the top of the subtree.
+	 * @return The number of nodes in the subtree.
+	 */
+	private static int countNodes(Node node) {
+		int count = 1;
+		if (node instanceof Parent parent) {
+			for (Node child : parent.getChildrenUnmodifiable()) {
+				count += countNodes(child);
+			}
+		}
+		return count;
+	}
+}
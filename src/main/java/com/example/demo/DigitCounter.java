@@ -0,0 +1,151 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.geometry.VPos;
+import javafx.scene.Group;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Displays a non-negative number as a row of fixed-width digit slots.
+ * <p>Each slot is a {@link Text} node at a fixed position that shows one of ten shared single-digit strings,
+ * so changing the number neither builds a new string nor lays out a whole label: only the slots whose digit
+ * actually changed are updated, and setting the number that is already shown does nothing. Slots are created
+ * the first time the number needs them and hidden again if it gets shorter.</p>
+ * <p>Nothing here depends on the JavaFX application thread, so a counter can be built while a level is
+ * prepared in the background.</p>
+ */
+public class DigitCounter extends Group {
+
+	/** The text of each digit, shared by every slot of every counter. */
+	private static final String[] DIGITS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
+
+	/** The largest number of digits an {@code int} can have. */
+	private static final int MAX_DIGITS = 10;
+
+	/** The base of the displayed numbers. */
+	private static final int RADIX = 10;
+
+	/** The font of the digits. */
+	private final Font font;
+
+	/** The fill of the digits. */
+	private final Paint fill;
+
+	/** The width of one slot, which fits the widest digit. */
+	private final double slotWidth;
+
+	/** The slots, from the most significant digit to the least. */
+	private final List<Text> slots;
+
+	/** The digit shown by each slot, or {@code -1} if the slot is hidden. */
+	private final int[] shownDigits;
+
+	/** Working storage for the digits of a new number, from the least significant digit. */
+	private final int[] digits;
+
+	/** The number currently shown, or {@code -1} before a number has been shown. */
+	private int value;
+
+	/**
+	 * Constructs a {@code DigitCounter} showing a number.
+	 *
+	 * @param font         The font of the digits.
+	 * @param fill         The fill of the digits.
+	 * @param initialValue The number to show.
+	 */
+	public DigitCounter(Font font, Paint fill, int initialValue) {
+		this.font = font;
+		this.fill = fill;
+		this.slotWidth = measureWidestDigit(font);
+		this.slots = new ArrayList<>(MAX_DIGITS);
+		this.shownDigits = new int[MAX_DIGITS];
+		this.digits = new int[MAX_DIGITS];
+		this.value = -1;
+		setValue(initialValue);
+	}
+
+	/**
+	 * Shows a number, updating only the slots whose digit changes.
+	 *
+	 * @param newValue The number to show; negative numbers are shown as {@code 0}.
+	 */
+	public void setValue(int newValue) {
+		newValue = Math.max(0, newValue);
+		if (newValue == value) {
+			return;
+		}
+		value = newValue;
+		int digitCount = 0;
+		do {
+			digits[digitCount++] = newValue % RADIX;
+			newValue /= RADIX;
+		} while (newValue > 0);
+
+		for (int slot = 0; slot < digitCount; slot++) {
+			int digit = digits[digitCount - 1 - slot];
+			if (slot == slots.size()) {
+				addSlot();
+			}
+			if (shownDigits[slot] != digit) {
+				Text text = slots.get(slot);
+				text.setText(DIGITS[digit]);
+				text.setVisible(true);
+				shownDigits[slot] = digit;
+			}
+		}
+		for (int slot = digitCount; slot < slots.size(); slot++) {
+			if (shownDigits[slot] != -1) {
+				slots.get(slot).setVisible(false);
+				shownDigits[slot] = -1;
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the number currently shown.
+	 *
+	 * @return The number.
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * Adds a hidden slot to the right of the existing ones.
+	 */
+	private void addSlot() {
+		Text text = new Text();
+		text.setFont(font);
+		text.setFill(fill);
+		text.setTextOrigin(VPos.TOP);
+		text.setTextAlignment(TextAlignment.CENTER);
+		text.setWrappingWidth(slotWidth);
+		text.setLayoutX(slots.size() * slotWidth);
+		text.setVisible(false);
+		shownDigits[slots.size()] = -1;
+		slots.add(text);
+		getChildren().add(text);
+	}
+
+	/**
+	 * Measures the widest digit of a font.
+	 *
+	 * @param font The font.
+	 * @return The width in pixels.
+	 */
+	private static double measureWidestDigit(Font font) {
+		Text text = new Text();
+		text.setFont(font);
+		double width = 0;
+		for (String digit : DIGITS) {
+			text.setText(digit);
+			width = Math.max(width, text.getLayoutBounds().getWidth());
+		}
+		return Math.ceil(width);
+	}
+}
@@ -25,17 +25,46 @@ public class EnemyPlane extends FighterPlane {
 	/** The initial health of the enemy plane. */
 	private static final int INITIAL_HEALTH = 1;
 
-	/** The probability of the enemy plane firing its projectile during each frame. */
+	/** The default probability of the enemy plane firing its projectile during each frame. */
 	private static final double FIRE_RATE = 0.01;
 
+	/** The probability of this plane firing its projectile during each frame. */
+	private final double fireRate;
+
+	/** The pool that supplies the projectiles fired by this plane. */
+	private final ActorPool<EnemyProjectile> projectilePool;
+
+	/** Decides when the plane fires. */
+	private final GameRandom random;
+
 	/**
 	 * Constructs an {@code EnemyPlane} at the specified initial position.
 	 *
-	 * @param initialXPos The initial X-coordinate of the enemy plane on the screen.
-	 * @param initialYPos The initial Y-coordinate of the enemy plane on the screen.
+	 * @param initialXPos    The initial X-coordinate of the enemy plane on the screen.
+	 * @param initialYPos    The initial Y-coordinate of the enemy plane on the screen.
+	 * @param projectilePool The pool that supplies the projectiles fired by this plane.
+	 * @param random         The random number stream that decides when the plane fires.
+	 */
+	public EnemyPlane(double initialXPos, double initialYPos, ActorPool<EnemyProjectile> projectilePool,
+			GameRandom random) {
+		this(initialXPos, initialYPos, projectilePool, random, FIRE_RATE);
+	}
+
+	/**
+	 * Constructs an {@code EnemyPlane} at the specified initial position that fires at a given rate.
+	 *
+	 * @param initialXPos    The initial X-coordinate of the enemy plane on the screen.
+	 * @param initialYPos    The initial Y-coordinate of the enemy plane on the screen.
+	 * @param projectilePool The pool that supplies the projectiles fired by this plane.
+	 * @param random         The random number stream that decides when the plane fires.
+	 * @param fireRate       The probability of the plane firing during each frame.
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos) {
+	public EnemyPlane(double initialXPos, double initialYPos, ActorPool<EnemyProjectile> projectilePool,
+			GameRandom random, double fireRate) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+		this.projectilePool = projectilePool;
+		this.random = random;
+		this.fireRate = fireRate;
 	}
 
 	/**
@@ -49,17 +78,17 @@ public class EnemyPlane extends FighterPlane {
 
 	/**
 	 * Fires a projectile from the enemy plane.
-	 * <p>The enemy plane fires a projectile with a probability defined by {@code FIRE_RATE}. If the plane
-	 * fires, an {@link EnemyProjectile} is created at a calculated starting position based on offsets.</p>
+	 * <p>The enemy plane fires a projectile with the probability given by its fire rate. If the plane
+	 * fires, an {@link EnemyProjectile} is taken from the projectile pool and placed at a calculated starting position based on offsets.</p>
 	 *
 	 * @return A new {@link ActiveActorDestructible} representing the fired projectile, or {@code null} if no projectile is fired.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+		if (random.nextDouble() < fireRate) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPosition);
+			return projectilePool.acquire(projectileXPosition, projectileYPosition);
 		}
 		return null;
 	}
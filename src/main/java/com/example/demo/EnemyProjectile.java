@@ -13,9 +13,12 @@ public class EnemyProjectile extends Projectile {
 	/** The height of the enemy projectile's image in pixels. */
 	private static final int IMAGE_HEIGHT = 20;
 
-	/** The horizontal velocity of the enemy projectile (pixels per frame). */
+	/** The default horizontal velocity of the enemy projectile (pixels per frame). */
 	private static final int HORIZONTAL_VELOCITY = -10;
 
+	/** The horizontal velocity of this projectile (pixels per frame). */
+	private final double horizontalVelocity;
+
 	/**
 	 * Constructs an {@code EnemyProjectile} at the specified position.
 	 *
@@ -23,16 +26,28 @@ public class EnemyProjectile extends Projectile {
 	 * @param initialYPos The initial Y-coordinate of the projectile on the screen.
 	 */
 	public EnemyProjectile(double initialXPos, double initialYPos) {
+		this(initialXPos, initialYPos, -HORIZONTAL_VELOCITY);
+	}
+
+	/**
+	 * Constructs an {@code EnemyProjectile} at the specified position that flies at a given speed.
+	 *
+	 * @param initialXPos The initial X-coordinate of the projectile on the screen.
+	 * @param initialYPos The initial Y-coordinate of the projectile on the screen.
+	 * @param speed       The distance the projectile moves to the left each frame, in pixels.
+	 */
+	public EnemyProjectile(double initialXPos, double initialYPos, double speed) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		this.horizontalVelocity = -speed;
 	}
 
 	/**
 	 * Updates the position of the enemy projectile by moving it horizontally.
-	 * <p>The movement is determined by the predefined {@code HORIZONTAL_VELOCITY}.</p>
+	 * <p>The movement is determined by the projectile's speed, {@code -HORIZONTAL_VELOCITY} by default.</p>
 	 */
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		moveHorizontally(horizontalVelocity);
 	}
 
 	/**
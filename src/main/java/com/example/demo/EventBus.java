@@ -0,0 +1,114 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Delivers the events of a level to the systems that subscribe to them, such as the HUD and the
+ * {@link com.example.demo.controller.Controller}.
+ * <p>Subscribers are kept in an array that is replaced, never modified, when a subscriber is added or removed.
+ * Publishing an event reads the current array once and calls every subscriber in turn, so it takes no lock
+ * and allocates nothing; the payloads are passed as plain arguments rather than event objects. Subscribing
+ * is rare and may happen on any thread, for example while a level is prepared in the background.</p>
+ */
+public class EventBus {
+
+	/** The subscribers of a bus nobody has subscribed to. */
+	private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+	/** The current subscribers, in the order they subscribed. */
+	private final AtomicReference<GameEventListener[]> listeners;
+
+	/**
+	 * Constructs an {@code EventBus} without subscribers.
+	 */
+	public EventBus() {
+		this.listeners = new AtomicReference<>(NO_LISTENERS);
+	}
+
+	/**
+	 * Subscribes a listener to every event published from now on.
+	 *
+	 * @param listener The listener to add.
+	 */
+	public void subscribe(GameEventListener listener) {
+		listeners.updateAndGet(current -> {
+			GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+			updated[current.length] = listener;
+			return updated;
+		});
+	}
+
+	/**
+	 * Stops delivering events to a listener. Does nothing if the listener is not subscribed.
+	 *
+	 * @param listener The listener to remove.
+	 */
+	public void unsubscribe(GameEventListener listener) {
+		listeners.updateAndGet(current -> {
+			for (int i = 0; i < current.length; i++) {
+				if (current[i] == listener) {
+					GameEventListener[] updated = Arrays.copyOf(current, current.length - 1);
+					System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+					return updated;
+				}
+			}
+			return current;
+		});
+	}
+
+	/**
+	 * Publishes the end of the level.
+	 *
+	 * @param status How the level ended.
+	 */
+	void publishLevelCompleted(LevelStatus status) {
+		for (GameEventListener listener : listeners.get()) {
+			listener.levelCompleted(status);
+		}
+	}
+
+	/**
+	 * Publishes that a destroyed actor has been taken out of the level.
+	 *
+	 * @param actor The destroyed actor.
+	 */
+	void publishActorDestroyed(ActiveActorDestructible actor) {
+		for (GameEventListener listener : listeners.get()) {
+			listener.actorDestroyed(actor);
+		}
+	}
+
+	/**
+	 * Publishes that the player's plane has lost health.
+	 *
+	 * @param health The player's remaining health.
+	 */
+	void publishPlayerDamaged(int health) {
+		for (GameEventListener listener : listeners.get()) {
+			listener.playerDamaged(health);
+		}
+	}
+
+	/**
+	 * Publishes that an enemy's shield has been raised or lowered.
+	 *
+	 * @param active Whether the shield is now active.
+	 */
+	void publishBossShieldChanged(boolean active) {
+		for (GameEventListener listener : listeners.get()) {
+			listener.bossShieldChanged(active);
+		}
+	}
+
+	/**
+	 * Publishes that the player has been credited with kills.
+	 *
+	 * @param kills The player's total number of kills.
+	 */
+	void publishKillScored(int kills) {
+		for (GameEventListener listener : listeners.get()) {
+			listener.killScored(kills);
+		}
+	}
+}
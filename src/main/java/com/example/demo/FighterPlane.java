@@ -11,6 +11,9 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	/** The health of the fighter plane, representing how many hits it can take before being destroyed. */
 	private int health;
 
+	/** The health the fighter plane starts with, restored when the plane is reused. */
+	private final int initialHealth;
+
 	/**
 	 * Constructs a {@code FighterPlane} with the specified properties.
 	 *
@@ -23,6 +26,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		this.health = health;
+		this.initialHealth = health;
 	}
 
 	/**
@@ -47,6 +51,40 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 		}
 	}
 
+	/**
+	 * Places the fighter plane back at a starting position and restores its initial health.
+	 *
+	 * @param initialXPos The new initial X-position of the plane on the screen.
+	 * @param initialYPos The new initial Y-position of the plane on the screen.
+	 */
+	@Override
+	protected void reset(double initialXPos, double initialYPos) {
+		super.reset(initialXPos, initialYPos);
+		health = initialHealth;
+	}
+
+	/**
+	 * Writes the plane's position, destroyed state and health to a snapshot.
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	@Override
+	protected void saveState(LevelSnapshot snapshot) {
+		super.saveState(snapshot);
+		snapshot.putInt(health);
+	}
+
+	/**
+	 * Reads the plane's position, destroyed state and health back from a snapshot.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	@Override
+	protected void restoreState(LevelSnapshot snapshot) {
+		super.restoreState(snapshot);
+		health = snapshot.getInt();
+	}
+
 	/**
 	 * Calculates the X-coordinate for a projectile fired by the fighter plane.
 	 * <p>This method uses the plane's current position and a provided offset to calculate
@@ -88,4 +126,13 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	public int getHealth() {
 		return health;
 	}
+
+	/**
+	 * Checks whether the fighter plane has lost any health since it was created or reset.
+	 *
+	 * @return {@code true} if the plane's health is below its initial health; {@code false} otherwise.
+	 */
+	public boolean isDamaged() {
+		return health < initialHealth;
+	}
 }
\ No newline at end of file
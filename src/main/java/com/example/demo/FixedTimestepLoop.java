@@ -0,0 +1,105 @@
+package com.example.demo;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * A game loop that advances the simulation in fixed time steps and renders on every JavaFX pulse.
+ * <p>Elapsed frame time is collected in an accumulator, and the simulation step is run once for every
+ * whole step that has accumulated. The simulation therefore advances at the same rate no matter how
+ * often frames are drawn. After stepping, the renderer receives the fraction of a step left in the
+ * accumulator, which it uses to interpolate between the previous and current simulation states.</p>
+ * <p>At most {@code maxCatchUpSteps} steps are run per frame. If a frame takes so long that more steps are
+ * owed, the excess time is dropped instead of carried over, so a slow frame can never cause an ever-growing
+ * backlog of steps.</p>
+ */
+public class FixedTimestepLoop extends AnimationTimer {
+
+	/** The number of nanoseconds in one second. */
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	/** Marks that no frame has been seen since the loop was started. */
+	private static final long NO_FRAME = -1;
+
+	private final long stepNanos;
+	private final int maxCatchUpSteps;
+	private final Runnable step;
+	private final DoubleConsumer renderer;
+
+	/** The timestamp of the previous frame, or {@link #NO_FRAME}. */
+	private long previousFrameTime;
+
+	/** The frame time not yet consumed by simulation steps. */
+	private long accumulatedNanos;
+
+	/** Whether the loop is running; checked between steps so that a step can stop the loop. */
+	private boolean running;
+
+	/**
+	 * Constructs a {@code FixedTimestepLoop}.
+	 *
+	 * @param ticksPerSecond  The number of simulation steps per second.
+	 * @param maxCatchUpSteps The maximum number of simulation steps run in a single frame.
+	 * @param step            Advances the simulation by one step.
+	 * @param renderer        Draws the current state, given the interpolation factor in {@code [0, 1)}
+	 *                        between the previous and the current step.
+	 */
+	public FixedTimestepLoop(int ticksPerSecond, int maxCatchUpSteps, Runnable step, DoubleConsumer renderer) {
+		if (ticksPerSecond <= 0 || maxCatchUpSteps <= 0) {
+			throw new IllegalArgumentException("Tick rate and catch-up steps must be positive");
+		}
+		this.stepNanos = NANOS_PER_SECOND / ticksPerSecond;
+		this.maxCatchUpSteps = maxCatchUpSteps;
+		this.step = step;
+		this.renderer = renderer;
+		this.previousFrameTime = NO_FRAME;
+	}
+
+	/**
+	 * Starts the loop. The first frame only records the start time; steps begin with the next frame.
+	 */
+	@Override
+	public void start() {
+		previousFrameTime = NO_FRAME;
+		accumulatedNanos = 0;
+		running = true;
+		super.start();
+	}
+
+	/**
+	 * Stops the loop. Any steps still owed for the current frame are skipped.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		super.stop();
+	}
+
+	/**
+	 * Runs the simulation steps owed for this frame and renders the result.
+	 *
+	 * @param now The timestamp of the current frame in nanoseconds.
+	 */
+	@Override
+	public void handle(long now) {
+		if (previousFrameTime == NO_FRAME) {
+			previousFrameTime = now;
+			renderer.accept(0);
+			return;
+		}
+		accumulatedNanos += now - previousFrameTime;
+		previousFrameTime = now;
+
+		int steps = 0;
+		while (running && accumulatedNanos >= stepNanos && steps < maxCatchUpSteps) {
+			step.run();
+			accumulatedNanos -= stepNanos;
+			steps++;
+		}
+		if (accumulatedNanos >= stepNanos) {
+			accumulatedNanos %= stepNanos;
+		}
+		renderer.accept((double) accumulatedNanos / stepNanos);
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.demo;
+
+/**
+ * Receives the events a level publishes on its {@link EventBus}.
+ * <p>Every event has its own method with a typed payload, and every method does nothing by default, so a
+ * subscriber only overrides the events it is interested in. Events are delivered on the thread that advances
+ * the level, during {@link LevelParent#tick()}.</p>
+ */
+public interface GameEventListener {
+
+	/**
+	 * Called when the level ends.
+	 *
+	 * @param status How the level ended: {@link LevelStatus#WON}, {@link LevelStatus#LOST} or
+	 *               {@link LevelStatus#ADVANCED}.
+	 */
+	default void levelCompleted(LevelStatus status) {
+	}
+
+	/**
+	 * Called when a destroyed actor has been taken out of the level.
+	 *
+	 * @param actor The destroyed actor.
+	 */
+	default void actorDestroyed(ActiveActorDestructible actor) {
+	}
+
+	/**
+	 * Called when the player's plane has lost health.
+	 * <p>The health only goes up again when a networked level has been rolled back to before the damage.</p>
+	 *
+	 * @param health The player's remaining health.
+	 */
+	default void playerDamaged(int health) {
+	}
+
+	/**
+	 * Called when an enemy's shield is raised or lowered.
+	 *
+	 * @param active {@code true} if the shield is now active; {@code false} if it was lowered.
+	 */
+	default void bossShieldChanged(boolean active) {
+	}
+
+	/**
+	 * Called when the player has been credited with one or more kills.
+	 *
+	 * @param kills The player's total number of kills.
+	 */
+	default void killScored(int kills) {
+	}
+}
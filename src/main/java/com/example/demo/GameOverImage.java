@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -23,7 +22,7 @@ public class GameOverImage extends ImageView {
 	 */
 	public GameOverImage(double xPosition, double yPosition, double width, double height) {
 		// Set the image to be displayed
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		setImage(SpriteCache.getImage(IMAGE_NAME, width, height, true));
 
 		// Set the position of the image on the screen
 		setLayoutX(xPosition);
@@ -0,0 +1,118 @@
+package com.example.demo;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A random number stream whose state can be saved and restored.
+ * <p>{@code GameRandom} implements the same SplitMix64 algorithm as {@link java.util.SplittableRandom} and produces
+ * exactly the same values for the same seed, including for streams created with {@link #split()}, so levels keep
+ * playing out as they did before they used it. Unlike {@code SplittableRandom} it exposes the one number that
+ * changes as values are drawn, which lets a {@link LevelSnapshot} rewind the stream along with the rest of the
+ * level.</p>
+ * <p>Like the rest of the simulation, a stream is not thread-safe and must only be used by the thread that
+ * advances its level.</p>
+ */
+public final class GameRandom implements RandomGenerator {
+
+	/** The increment of a stream created from a seed alone. */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/** The odd increment added to {@link #seed} for every value drawn. */
+	private final long gamma;
+
+	/** The state of the stream, advanced by {@link #gamma} for every value drawn. */
+	private long seed;
+
+	/**
+	 * Constructs a {@code GameRandom} that produces the same values as a {@code SplittableRandom} with the same
+	 * seed.
+	 *
+	 * @param seed The seed of the stream.
+	 */
+	public GameRandom(long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Constructs a {@code GameRandom} with an explicit increment.
+	 *
+	 * @param seed  The initial state of the stream.
+	 * @param gamma The odd increment of the stream.
+	 */
+	private GameRandom(long seed, long gamma) {
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	/**
+	 * Creates a new stream that shares no values with this one, advancing this stream.
+	 *
+	 * @return The new stream.
+	 */
+	public GameRandom split() {
+		return new GameRandom(nextLong(), mixGamma(nextSeed()));
+	}
+
+	/**
+	 * Draws the next 64 random bits.
+	 *
+	 * @return A random {@code long}.
+	 */
+	@Override
+	public long nextLong() {
+		return mix64(nextSeed());
+	}
+
+	/**
+	 * Draws the next 32 random bits.
+	 * <p>As in {@code SplittableRandom}, these are mixed from the state separately rather than taken from
+	 * {@link #nextLong()}. The bounded variants inherited from {@link RandomGenerator} build on this method.</p>
+	 *
+	 * @return A random {@code int}.
+	 */
+	@Override
+	public int nextInt() {
+		return mix32(nextSeed());
+	}
+
+	/**
+	 * Retrieves the state of the stream, so that it can be restored with {@link #setState(long)}.
+	 *
+	 * @return The current state.
+	 */
+	public long getState() {
+		return seed;
+	}
+
+	/**
+	 * Rewinds or advances the stream to a state previously retrieved with {@link #getState()}.
+	 *
+	 * @param state The state to restore.
+	 */
+	public void setState(long state) {
+		this.seed = state;
+	}
+
+	private long nextSeed() {
+		return seed += gamma;
+	}
+
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	private static int mix32(long z) {
+		z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+		return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+	}
+
+	private static long mixGamma(long z) {
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		z = (z ^ (z >>> 33)) | 1L;
+		int transitions = Long.bitCount(z ^ (z >>> 1));
+		return (transitions < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.demo;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One headless game played by a {@link PlayerAgent} on its own virtual thread of a {@link SessionHost}.
+ * <p>A session starts at a given level and follows the {@link LevelRegistry} for as long as its levels are
+ * advanced, like a player would. Everything that changes while it plays (the levels, their actor lists, their
+ * random number streams and the session's tick clock) belongs to the session's thread; other threads only
+ * read the progress published through this class and wait for {@link #getCompletion()}.</p>
+ */
+public final class GameSession {
+
+	/** The identifier of the session, unique within its host. */
+	private final long id;
+
+	/** The seed the session's level seeds are drawn from. */
+	private final long seed;
+
+	/** Completes with the status of the last level played once the session ends. */
+	private final CompletableFuture<LevelStatus> completion;
+
+	/** The registry identifier of the level being played. */
+	private volatile String levelId;
+
+	/** The number of ticks played in all levels of the session so far. */
+	private volatile long tickCount;
+
+	/** Whether the session has been asked to stop. */
+	private volatile boolean stopRequested;
+
+	/**
+	 * Constructs a {@code GameSession} that has not started yet.
+	 *
+	 * @param id           The identifier of the session.
+	 * @param firstLevelId The registry identifier of the level the session starts at.
+	 * @param seed         The seed the session's level seeds are drawn from.
+	 */
+	GameSession(long id, String firstLevelId, long seed) {
+		this.id = id;
+		this.levelId = firstLevelId;
+		this.seed = seed;
+		this.completion = new CompletableFuture<>();
+	}
+
+	/**
+	 * Retrieves the identifier of the session.
+	 *
+	 * @return The identifier, unique within the session's host.
+	 */
+	public long getId() {
+		return id;
+	}
+
+	/**
+	 * Retrieves the seed the session's level seeds are drawn from.
+	 *
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Retrieves the level the session is playing, or played last if it has ended.
+	 *
+	 * @return The registry identifier of the level.
+	 */
+	public String getLevelId() {
+		return levelId;
+	}
+
+	/**
+	 * Retrieves the number of ticks the session has played.
+	 *
+	 * @return The number of ticks in all levels of the session so far.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Retrieves the result of the session.
+	 * <p>The future completes with the status of the last level played: {@link LevelStatus#WON} or
+	 * {@link LevelStatus#LOST} if the game ended, {@link LevelStatus#ADVANCED} if a level was advanced but has no
+	 * successor, or {@link LevelStatus#PLAYING} if the session was stopped. It completes exceptionally if a
+	 * level fails.</p>
+	 *
+	 * @return The future result.
+	 */
+	public CompletableFuture<LevelStatus> getCompletion() {
+		return completion;
+	}
+
+	/**
+	 * Asks the session to stop after its current tick.
+	 */
+	public void stop() {
+		stopRequested = true;
+	}
+
+	/**
+	 * Checks whether the session has been asked to stop.
+	 *
+	 * @return {@code true} if {@link #stop()} has been called.
+	 */
+	boolean isStopRequested() {
+		return stopRequested;
+	}
+
+	/**
+	 * Publishes the level the session has moved on to.
+	 *
+	 * @param levelId The registry identifier of the level.
+	 */
+	void setLevelId(String levelId) {
+		this.levelId = levelId;
+	}
+
+	/**
+	 * Publishes that the session has played another tick.
+	 */
+	void tickCompleted() {
+		tickCount++;
+	}
+}
@@ -1,13 +1,13 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
+import javafx.scene.Group;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.HBox;
 
 /**
  * Represents a visual display of hearts, typically used to indicate player health or lives in a game.
- * <p>The {@code HeartDisplay} class uses an {@link HBox} container to organize heart icons horizontally.
- * Hearts can be added or removed dynamically to reflect changes in the number of lives.</p>
+ * <p>The {@code HeartDisplay} class places heart icons side by side at fixed positions in a {@link Group}.
+ * Lost hearts are hidden rather than removed, so a change in the number of lives never lays the container
+ * out again, and showing the number of hearts that is already shown touches no node at all.</p>
  */
 public class HeartDisplay {
 
@@ -17,11 +17,14 @@ public class HeartDisplay {
 	/** The height of each heart image in pixels. */
 	private static final int HEART_HEIGHT = 50;
 
-	/** The index of the first item in the container, used when removing a heart. */
-	private static final int INDEX_OF_FIRST_ITEM = 0;
-
 	/** The container that holds the heart images. */
-	private HBox container;
+	private Group container;
+
+	/** The heart images, from left to right. */
+	private ImageView[] hearts;
+
+	/** The number of hearts currently visible. */
+	private int visibleHearts;
 
 	/** The X-coordinate of the container's position on the screen. */
 	private double containerXPosition;
@@ -49,47 +52,74 @@ public class HeartDisplay {
 
 	/**
 	 * Initializes the heart display container.
-	 * <p>The {@link HBox} container is created and its layout position is set using
+	 * <p>The {@link Group} container is created and its layout position is set using
 	 * the specified X and Y coordinates.</p>
 	 */
 	private void initializeContainer() {
-		container = new HBox();
+		container = new Group();
 		container.setLayoutX(containerXPosition);
 		container.setLayoutY(containerYPosition);
 	}
 
 	/**
 	 * Fills the container with the specified number of heart images.
-	 * <p>Each heart is represented by an {@link ImageView} of the heart image file,
-	 * resized to {@code HEART_HEIGHT} while maintaining its aspect ratio.</p>
+	 * <p>Each heart is represented by an {@link ImageView} showing one shared {@link SpriteRegion} of the heart
+	 * image at {@code HEART_HEIGHT}, with its aspect ratio maintained. Each heart is placed directly to the
+	 * right of the previous one.</p>
 	 */
 	private void initializeHearts() {
+		SpriteRegion region = SpriteRegion.forImage(HEART_IMAGE_NAME, 0, HEART_HEIGHT, true);
+		hearts = new ImageView[numberOfHeartsToDisplay];
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
-			heart.setFitHeight(HEART_HEIGHT);
-			heart.setPreserveRatio(true);
+			ImageView heart = new ImageView();
+			region.applyTo(heart);
+			heart.setLayoutX(i * region.getWidth());
+			hearts[i] = heart;
 			container.getChildren().add(heart);
 		}
+		visibleHearts = numberOfHeartsToDisplay;
 	}
 
 	/**
-	 * Removes a heart from the container.
-	 * <p>The heart is removed from the leftmost position in the {@link HBox}, if any hearts remain.
-	 * Typically used to indicate the loss of a life in the game.</p>
+	 * Removes a heart from the display.
+	 * <p>The rightmost visible heart is hidden, if any hearts remain. Typically used to indicate the loss of
+	 * a life in the game.</p>
 	 */
 	public void removeHeart() {
-		if (!container.getChildren().isEmpty()) {
-			container.getChildren().remove(INDEX_OF_FIRST_ITEM);
+		showHearts(visibleHearts - 1);
+	}
+
+	/**
+	 * Shows a number of hearts, hiding or showing only the hearts whose visibility changes.
+	 *
+	 * @param heartsRemaining The number of hearts to show; clamped to the number of hearts in the display.
+	 */
+	public void showHearts(int heartsRemaining) {
+		int target = Math.max(0, Math.min(heartsRemaining, hearts.length));
+		while (visibleHearts > target) {
+			hearts[--visibleHearts].setVisible(false);
+		}
+		while (visibleHearts < target) {
+			hearts[visibleHearts++].setVisible(true);
 		}
 	}
 
+	/**
+	 * Retrieves the number of hearts currently visible.
+	 *
+	 * @return The number of visible hearts.
+	 */
+	public int getVisibleHearts() {
+		return visibleHearts;
+	}
+
 	/**
 	 * Retrieves the container holding the hearts.
-	 * <p>This method is used to access the {@link HBox} for adding the heart display to the scene graph.</p>
+	 * <p>This method is used to access the {@link Group} for adding the heart display to the scene graph.</p>
 	 *
-	 * @return The {@link HBox} container holding the heart images.
+	 * @return The {@link Group} container holding the heart images.
 	 */
-	public HBox getContainer() {
+	public Group getContainer() {
 		return container;
 	}
 }
\ No newline at end of file
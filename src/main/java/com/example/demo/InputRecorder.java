@@ -0,0 +1,174 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Records the player's commands during a session so that the session can be replayed by {@link InputReplay}.
+ * <p>A recording holds one segment per level played. A segment starts with the level's
+ * {@linkplain LevelRegistry registry} identifier, its random seed and the screen size, followed by the commands
+ * the player issued, each stamped with the {@linkplain LevelParent#getTickCount() tick count} at which it was
+ * applied. Since a level is deterministic for a given seed, this is enough to reproduce the whole level.</p>
+ * <p>The file is kept small so that long sessions can be recorded without noticeable I/O:</p>
+ * <ul>
+ *   <li>Each command is stored as one unsigned LEB128 varint holding the number of ticks since the previous
+ *   command and the command's ordinal in its two lowest bits. A command within 30 ticks of the previous one
+ *   takes a single byte.</li>
+ *   <li>A varint of {@code 0} ends the segment and is followed by the number of ticks the level ran after its
+ *   last command.</li>
+ * </ul>
+ * <p>Bytes are collected in a direct buffer and written to a {@link FileChannel} when the buffer fills up, when
+ * a segment ends and when the recorder is closed. If the game stops without closing the recorder, the last
+ * segment has no end marker and is replayed up to its last recorded command.</p>
+ */
+public class InputRecorder implements AutoCloseable {
+
+	/** Identifies a recording file; the ASCII characters {@code SKYR}. */
+	static final int MAGIC = 0x534B5952;
+
+	/** The version of the file format. */
+	static final byte FORMAT_VERSION = 2;
+
+	/** Marks the start of a level segment. */
+	static final byte SEGMENT_START = 1;
+
+	/** Marks the end of the commands of a level segment. */
+	static final long SEGMENT_END = 0;
+
+	/** The number of low bits of a command varint that hold the command's ordinal. */
+	static final int COMMAND_BITS = 2;
+
+	/** The size of the write buffer in bytes. */
+	private static final int BUFFER_SIZE = 8 * 1024;
+
+	/** The maximum number of bytes in a varint encoding a {@code long}. */
+	private static final int MAX_VARINT_BYTES = 10;
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+
+	/** Whether a level segment has been started and not yet ended. */
+	private boolean segmentOpen;
+
+	/** The tick count of the previous command in the open segment. */
+	private long lastTick;
+
+	/**
+	 * Constructs an {@code InputRecorder} that writes to a file, replacing any existing file.
+	 *
+	 * @param path The file to record to.
+	 * @throws IOException If the file cannot be opened or the header cannot be written.
+	 */
+	public InputRecorder(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		buffer.putInt(MAGIC);
+		buffer.put(FORMAT_VERSION);
+	}
+
+	/**
+	 * Starts the segment of a level, ending the previous segment if it is still open.
+	 *
+	 * @param levelId The registry identifier of the level.
+	 * @param level   The level that is about to be played.
+	 * @throws IOException If the recording cannot be written.
+	 */
+	public void beginLevel(String levelId, LevelParent level) throws IOException {
+		if (segmentOpen) {
+			throw new IllegalStateException("The previous level segment has not been ended");
+		}
+		byte[] id = levelId.getBytes(StandardCharsets.UTF_8);
+		ensureCapacity(1 + MAX_VARINT_BYTES + id.length + Long.BYTES + 2 * Double.BYTES);
+		buffer.put(SEGMENT_START);
+		putVarLong(id.length);
+		buffer.put(id);
+		buffer.putLong(level.getRandom().getSeed());
+		buffer.putDouble(level.getScreenHeight());
+		buffer.putDouble(level.getScreenWidth());
+		segmentOpen = true;
+		lastTick = 0;
+	}
+
+	/**
+	 * Records a command that is applied to the level before its next tick.
+	 *
+	 * @param tickCount The level's tick count when the command was applied.
+	 * @param command   The command that was applied.
+	 * @throws IOException If the recording cannot be written.
+	 */
+	public void recordCommand(long tickCount, PlayerCommand command) throws IOException {
+		if (!segmentOpen) {
+			throw new IllegalStateException("No level segment has been started");
+		}
+		ensureCapacity(MAX_VARINT_BYTES);
+		putVarLong((((tickCount - lastTick) << COMMAND_BITS) | command.ordinal()) + 1);
+		lastTick = tickCount;
+	}
+
+	/**
+	 * Ends the segment of the current level and writes out the buffered bytes.
+	 * <p>This does nothing if no segment is open.</p>
+	 *
+	 * @param tickCount The number of ticks the level ran in total.
+	 * @throws IOException If the recording cannot be written.
+	 */
+	public void endLevel(long tickCount) throws IOException {
+		if (!segmentOpen) {
+			return;
+		}
+		ensureCapacity(2 * MAX_VARINT_BYTES);
+		putVarLong(SEGMENT_END);
+		putVarLong(tickCount - lastTick);
+		segmentOpen = false;
+		flush();
+	}
+
+	/**
+	 * Writes out the buffered bytes and closes the file.
+	 * <p>An open segment is left without an end marker, so it is replayed up to its last command. Callers that
+	 * know the final tick count should call {@link #endLevel(long)} first.</p>
+	 *
+	 * @throws IOException If the recording cannot be written.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+
+	private void ensureCapacity(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			flush();
+		}
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Writes a non-negative value as an unsigned LEB128 varint: seven bits per byte, lowest bits first, with the
+	 * high bit of each byte set when more bytes follow.
+	 *
+	 * @param value The value to write.
+	 */
+	private void putVarLong(long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+}
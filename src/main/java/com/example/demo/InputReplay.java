@@ -0,0 +1,239 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A session recorded by {@link InputRecorder}, read back so that it can be replayed.
+ * <p>The recording is memory-mapped and decoded into one {@link LevelRecording} per level played. Each level
+ * recording can then be fed into a fresh level created from the recorded level identifier, seed and screen
+ * size, which plays out exactly like the original session but as fast as the simulation can run.</p>
+ */
+public class InputReplay {
+
+	private final List<LevelRecording> levels;
+
+	private InputReplay(List<LevelRecording> levels) {
+		this.levels = Collections.unmodifiableList(levels);
+	}
+
+	/**
+	 * Reads a recording file.
+	 *
+	 * @param path The file written by an {@link InputRecorder}.
+	 * @return The recorded session.
+	 * @throws IOException If the file cannot be read or is not a recording.
+	 */
+	public static InputReplay read(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < Integer.BYTES + 1 || buffer.getInt() != InputRecorder.MAGIC) {
+				throw new IOException(path + " is not an input recording");
+			}
+			byte version = buffer.get();
+			if (version != InputRecorder.FORMAT_VERSION) {
+				throw new IOException("Unsupported recording version " + version);
+			}
+			List<LevelRecording> levels = new ArrayList<>();
+			while (buffer.hasRemaining()) {
+				if (buffer.get() != InputRecorder.SEGMENT_START) {
+					throw new IOException("Corrupt recording: expected a level segment");
+				}
+				levels.add(readSegment(buffer));
+			}
+			return new InputReplay(levels);
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Corrupt recording: a level header is truncated", e);
+		}
+	}
+
+	/**
+	 * Retrieves the recorded levels in the order they were played.
+	 *
+	 * @return The level recordings.
+	 */
+	public List<LevelRecording> getLevels() {
+		return levels;
+	}
+
+	private static LevelRecording readSegment(ByteBuffer buffer) {
+		byte[] levelId = new byte[(int) getVarLong(buffer)];
+		buffer.get(levelId);
+		long seed = buffer.getLong();
+		double screenHeight = buffer.getDouble();
+		double screenWidth = buffer.getDouble();
+
+		long[] ticks = new long[16];
+		PlayerCommand[] commands = new PlayerCommand[16];
+		PlayerCommand[] allCommands = PlayerCommand.values();
+		int count = 0;
+		long tick = 0;
+		long tickCount = LevelRecording.INCOMPLETE;
+		try {
+			while (buffer.hasRemaining()) {
+				long value = getVarLong(buffer);
+				if (value == InputRecorder.SEGMENT_END) {
+					tickCount = tick + getVarLong(buffer);
+					break;
+				}
+				value--;
+				tick += value >>> InputRecorder.COMMAND_BITS;
+				if (count == ticks.length) {
+					ticks = Arrays.copyOf(ticks, count * 2);
+					commands = Arrays.copyOf(commands, count * 2);
+				}
+				ticks[count] = tick;
+				commands[count] = allCommands[(int) (value & ((1 << InputRecorder.COMMAND_BITS) - 1))];
+				count++;
+			}
+		} catch (BufferUnderflowException e) {
+			// The game stopped in the middle of a write; keep the commands read so far.
+			tickCount = LevelRecording.INCOMPLETE;
+		}
+		return new LevelRecording(new String(levelId, StandardCharsets.UTF_8), seed, screenHeight, screenWidth,
+				Arrays.copyOf(ticks, count), Arrays.copyOf(commands, count), tickCount);
+	}
+
+	/**
+	 * Reads an unsigned LEB128 varint written by {@link InputRecorder}.
+	 *
+	 * @param buffer The buffer to read from.
+	 * @return The decoded value.
+	 */
+	private static long getVarLong(ByteBuffer buffer) {
+		long value = 0;
+		int shift = 0;
+		byte next;
+		do {
+			next = buffer.get();
+			value |= (long) (next & 0x7F) << shift;
+			shift += 7;
+		} while ((next & 0x80) != 0);
+		return value;
+	}
+
+	/**
+	 * The recorded commands of a single level.
+	 */
+	public static class LevelRecording {
+
+		/** The tick count of a level whose segment was not ended, for example because the game was killed. */
+		public static final long INCOMPLETE = -1;
+
+		private final String levelId;
+		private final long seed;
+		private final double screenHeight;
+		private final double screenWidth;
+		private final long[] ticks;
+		private final PlayerCommand[] commands;
+		private final long tickCount;
+
+		private LevelRecording(String levelId, long seed, double screenHeight, double screenWidth,
+				long[] ticks, PlayerCommand[] commands, long tickCount) {
+			this.levelId = levelId;
+			this.seed = seed;
+			this.screenHeight = screenHeight;
+			this.screenWidth = screenWidth;
+			this.ticks = ticks;
+			this.commands = commands;
+			this.tickCount = tickCount;
+		}
+
+		/**
+		 * Replays the recording into a level as fast as possible.
+		 * <p>The level must have been created from the recorded level identifier, seed and screen size and not
+		 * yet initialized. Every command is applied before the same tick as in the original session. The replay
+		 * stops when the level ends or when the recorded number of ticks has run.</p>
+		 *
+		 * @param level The level to drive.
+		 */
+		public void replayInto(LevelParent level) {
+			level.initializeLevel();
+			long lastTick = getReplayTickCount();
+			int next = 0;
+			while (level.getStatus() == LevelStatus.PLAYING && level.getTickCount() < lastTick) {
+				while (next < commands.length && ticks[next] == level.getTickCount()) {
+					level.applyCommand(commands[next++]);
+				}
+				level.tick();
+			}
+		}
+
+		/**
+		 * Retrieves the number of ticks a replay of this recording runs.
+		 *
+		 * @return The recorded tick count, or, if the segment is incomplete, the tick count after the tick of the
+		 *         last command, so that the last commands are still applied.
+		 */
+		public long getReplayTickCount() {
+			if (tickCount != INCOMPLETE) {
+				return tickCount;
+			}
+			return commands.length == 0 ? 0 : ticks[commands.length - 1] + 1;
+		}
+
+		/**
+		 * Retrieves the registry identifier of the recorded level.
+		 *
+		 * @return The level's identifier.
+		 */
+		public String getLevelId() {
+			return levelId;
+		}
+
+		/**
+		 * Retrieves the random seed of the recorded level.
+		 *
+		 * @return The seed passed to the level.
+		 */
+		public long getSeed() {
+			return seed;
+		}
+
+		/**
+		 * Retrieves the screen height of the recorded level.
+		 *
+		 * @return The height in pixels.
+		 */
+		public double getScreenHeight() {
+			return screenHeight;
+		}
+
+		/**
+		 * Retrieves the screen width of the recorded level.
+		 *
+		 * @return The width in pixels.
+		 */
+		public double getScreenWidth() {
+			return screenWidth;
+		}
+
+		/**
+		 * Retrieves the number of recorded commands.
+		 *
+		 * @return The command count.
+		 */
+		public int getCommandCount() {
+			return commands.length;
+		}
+
+		/**
+		 * Retrieves the number of ticks the level ran when it was recorded.
+		 *
+		 * @return The tick count, or {@link #INCOMPLETE} if the segment was not ended.
+		 */
+		public long getTickCount() {
+			return tickCount;
+		}
+	}
+}
@@ -1,14 +1,15 @@
 package com.example.demo;
 
-import javafx.scene.control.Label;
-import javafx.scene.image.Image;
+import javafx.scene.Group;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 
 /**
  * Represents a display for the player's kill count in the game.
- * <p>The {@code KillCDisplay} class uses an {@link HBox} container to arrange an image and a kill count label horizontally.
- * The kill count can be dynamically updated to reflect the player's progress.</p>
+ * <p>The {@code KillCDisplay} class places an image and a {@link DigitCounter} side by side at fixed positions
+ * in a {@link Group}. The kill count can be dynamically updated to reflect the player's progress; updating it
+ * only touches the digits that change.</p>
  */
 public class KillCDisplay {
 
@@ -18,11 +19,17 @@ public class KillCDisplay {
     /** The height of the kill count image in pixels. */
     private static final int KILLC_HEIGHT = 50;
 
-    /** The container that holds the kill count image and label. */
-    private HBox container;
+    /** The space between the kill count image and the number, in pixels. */
+    private static final double SPACING = 10;
 
-    /** The label displaying the current number of kills. */
-    private Label numberOfKills;
+    /** The font size of the number, in pixels. */
+    private static final double FONT_SIZE = 40;
+
+    /** The container that holds the kill count image and number. */
+    private Group container;
+
+    /** The counter displaying the current number of kills. */
+    private DigitCounter numberOfKills;
 
     /** The X-coordinate of the container's position on the screen. */
     private double containerXPosition;
@@ -45,52 +52,49 @@ public class KillCDisplay {
 
     /**
      * Initializes the container for the kill count display.
-     * <p>The {@link HBox} container is created and its position on the screen is set
-     * using the specified X and Y coordinates. A spacing of 10 pixels is added between child elements.</p>
+     * <p>The {@link Group} container is created and its position on the screen is set
+     * using the specified X and Y coordinates.</p>
      */
     private void initializeContainer() {
-        container = new HBox();
+        container = new Group();
         container.setLayoutX(containerXPosition);
         container.setLayoutY(containerYPosition);
-        container.setSpacing(10); // Spacing between the kill count image and text
     }
 
     /**
-     * Initializes the kill count display by adding the image and label to the container.
-     * <p>An {@link ImageView} is used to display the kill count icon, and a {@link Label} is
-     * used to display the numeric kill count. The label is styled to have large, white text.</p>
+     * Initializes the kill count display by adding the image and number to the container.
+     * <p>An {@link ImageView} is used to display the kill count icon, and a {@link DigitCounter} is
+     * used to display the numeric kill count in large, white digits, {@code SPACING} pixels to its right.</p>
      */
     private void initializeKillcount() {
         // Create and configure kill count image
-        ImageView killc = new ImageView(new Image(getClass().getResource(KILLC_IMAGE_NAME).toExternalForm()));
-        killc.setFitHeight(KILLC_HEIGHT);
-        killc.setPreserveRatio(true);
+        ImageView killc = new ImageView();
+        SpriteRegion.forImage(KILLC_IMAGE_NAME, 0, KILLC_HEIGHT, true).applyTo(killc);
         container.getChildren().add(killc);
 
-        // Create and configure kill count label
-        numberOfKills = new Label("0");
-        numberOfKills.setStyle("-fx-font-size: 40px; -fx-text-fill: white;"); // Styling the text
-        numberOfKills.setLayoutX(killc.getLayoutX() + killc.getFitWidth() + 10);
-        numberOfKills.setLayoutY(killc.getLayoutY());
+        // Create and configure kill count number
+        numberOfKills = new DigitCounter(Font.font(FONT_SIZE), Color.WHITE, 0);
+        numberOfKills.setLayoutX(killc.getFitWidth() + SPACING);
         container.getChildren().add(numberOfKills);
     }
 
     /**
-     * Updates the kill count displayed in the label.
+     * Updates the kill count displayed by the counter.
+     * <p>Does nothing if the count has not changed.</p>
      *
      * @param killCount The current kill count to display.
      */
     public void updateKillC(int killCount) {
-        numberOfKills.setText("" + killCount); // Convert killCount to string and update label
+        numberOfKills.setValue(killCount);
     }
 
     /**
      * Retrieves the container holding the kill count display.
-     * <p>This container includes both the kill count icon and the label displaying the actual count.</p>
+     * <p>This container includes both the kill count icon and the counter displaying the actual count.</p>
      *
-     * @return The {@link HBox} containing the kill count display elements.
+     * @return The {@link Group} containing the kill count display elements.
      */
-    public HBox getContainer() {
+    public Group getContainer() {
         return container;
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * Counts durations in fixed-width buckets, so that percentiles over an arbitrarily long run can be reported
+ * without keeping every sample.
+ * <p>Unlike {@link TickProfiler}, which describes a short window of recent ticks, a histogram summarizes
+ * everything recorded since it was created or reset. Durations are counted in buckets of
+ * {@value #BUCKET_NANOS} nanoseconds up to {@value #RANGE_NANOS} nanoseconds; longer durations share the last
+ * bucket, but the exact maximum is always kept. Recording does not allocate. A histogram is not thread-safe;
+ * histograms filled on different threads are combined with {@link #add(LatencyHistogram)}.</p>
+ */
+public class LatencyHistogram {
+
+	/** The width of a bucket in nanoseconds. */
+	public static final long BUCKET_NANOS = 10_000L;
+
+	/** The longest duration that is counted in its own bucket, in nanoseconds. */
+	public static final long RANGE_NANOS = 250_000_000L;
+
+	/** The number of buckets, the last of which also counts every longer duration. */
+	private static final int BUCKET_COUNT = (int) (RANGE_NANOS / BUCKET_NANOS);
+
+	/** The number of durations in each bucket. */
+	private final long[] counts;
+
+	/** The number of durations recorded. */
+	private long count;
+
+	/** The sum of the durations recorded, in nanoseconds. */
+	private long totalNanos;
+
+	/** The longest duration recorded, in nanoseconds. */
+	private long maxNanos;
+
+	/**
+	 * Constructs an empty {@code LatencyHistogram}.
+	 */
+	public LatencyHistogram() {
+		this.counts = new long[BUCKET_COUNT];
+	}
+
+	/**
+	 * Counts a duration.
+	 *
+	 * @param nanos The duration in nanoseconds; negative durations are counted as {@code 0}.
+	 */
+	public void record(long nanos) {
+		long duration = Math.max(0, nanos);
+		counts[(int) Math.min(duration / BUCKET_NANOS, BUCKET_COUNT - 1)]++;
+		count++;
+		totalNanos += duration;
+		maxNanos = Math.max(maxNanos, duration);
+	}
+
+	/**
+	 * Adds every duration counted by another histogram to this one.
+	 *
+	 * @param other The histogram to add.
+	 */
+	public void add(LatencyHistogram other) {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] += other.counts[i];
+		}
+		count += other.count;
+		totalNanos += other.totalNanos;
+		maxNanos = Math.max(maxNanos, other.maxNanos);
+	}
+
+	/**
+	 * Forgets every duration counted so far.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		totalNanos = 0;
+		maxNanos = 0;
+	}
+
+	/**
+	 * Retrieves the number of durations counted.
+	 *
+	 * @return The number of durations.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Computes the mean of the durations counted.
+	 *
+	 * @return The mean duration in nanoseconds, or {@code 0} if nothing was counted.
+	 */
+	public double getMeanNanos() {
+		return count == 0 ? 0 : (double) totalNanos / count;
+	}
+
+	/**
+	 * Retrieves the longest duration counted.
+	 *
+	 * @return The longest duration in nanoseconds, or {@code 0} if nothing was counted.
+	 */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * Estimates a percentile of the durations counted.
+	 * <p>The result is the upper edge of the bucket holding the percentile, but never more than the longest
+	 * duration counted.</p>
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}.
+	 * @return The duration in nanoseconds, or {@code 0} if nothing was counted.
+	 */
+	public long getPercentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min((i + 1) * BUCKET_NANOS, maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+}
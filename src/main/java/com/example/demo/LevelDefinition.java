@@ -0,0 +1,64 @@
+package com.example.demo;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Describes a level known to the {@link LevelRegistry}: its identifier, how to create it and which level
+ * follows it.
+ * <p>Together, the definitions form the level graph. A level that is completed with
+ * {@link LevelParent#goToNextLevel()} continues with the level named by {@link #getNextLevelId()}; a definition
+ * without a next level marks the end of the game.</p>
+ */
+public final class LevelDefinition {
+
+	/** The unique identifier of the level. */
+	private final String id;
+
+	/** Creates instances of the level. */
+	private final LevelFactory factory;
+
+	/** The identifier of the level that follows this one, or {@code null} for a final level. */
+	private final String nextLevelId;
+
+	/**
+	 * Constructs a {@code LevelDefinition}.
+	 *
+	 * @param id          The unique identifier of the level, such as {@code "level-one"}.
+	 * @param factory     Creates instances of the level.
+	 * @param nextLevelId The identifier of the level that follows this one, or {@code null} if this is a final
+	 *                    level.
+	 */
+	public LevelDefinition(String id, LevelFactory factory, String nextLevelId) {
+		this.id = Objects.requireNonNull(id, "id");
+		this.factory = Objects.requireNonNull(factory, "factory");
+		this.nextLevelId = nextLevelId;
+	}
+
+	/**
+	 * Retrieves the identifier of the level.
+	 *
+	 * @return The level's unique identifier.
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Retrieves the factory that creates the level.
+	 *
+	 * @return The level's factory.
+	 */
+	public LevelFactory getFactory() {
+		return factory;
+	}
+
+	/**
+	 * Retrieves the identifier of the level that follows this one.
+	 *
+	 * @return The next level's identifier, or an empty {@code Optional} if this is a final level.
+	 */
+	public Optional<String> getNextLevelId() {
+		return Optional.ofNullable(nextLevelId);
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.demo;
+
+/**
+ * Creates new instances of one kind of level.
+ * <p>Level constructors taking the screen size and a seed can be used directly as factories, for example
+ * {@code LevelOne::new}.</p>
+ */
+@FunctionalInterface
+public interface LevelFactory {
+
+	/**
+	 * Creates a new, uninitialized level.
+	 *
+	 * @param screenHeight The height of the game screen in pixels.
+	 * @param screenWidth  The width of the game screen in pixels.
+	 * @param seed         The seed of the level's random number streams.
+	 * @return The new level.
+	 */
+	LevelParent create(double screenHeight, double screenWidth, long seed);
+}
@@ -11,15 +11,15 @@ public class LevelOne extends LevelParent {
 	/** The file path to the background image for Level One. */
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
 
-	/** The fully qualified name of the next level class to transition to upon completion. */
-	private static final String NEXT_LEVEL = "com.example.demo.LevelTwo";
-
 	/** The total number of enemies allowed on the screen at any given time. */
 	private static final int TOTAL_ENEMIES = 5;
 
 	/** The number of kills required by the player to proceed to the next level. */
 	private static final int KILLS_TO_ADVANCE = 10;
 
+	/** The number of kills short of {@code KILLS_TO_ADVANCE} at which the next level starts loading. */
+	private static final int KILLS_BEFORE_PRELOAD = 3;
+
 	/** The probability of spawning an enemy when an enemy spawn attempt is made. */
 	private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
 
@@ -27,37 +27,52 @@ public class LevelOne extends LevelParent {
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 
 	/**
-	 * Constructs a {@code LevelOne} instance with the specified screen dimensions.
+	 * Constructs a {@code LevelOne} instance with the specified screen dimensions and a random seed.
 	 *
 	 * @param screenHeight The height of the game screen in pixels.
 	 * @param screenWidth The width of the game screen in pixels.
 	 */
 	public LevelOne(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+		this(screenHeight, screenWidth, LevelRandom.newSeed());
+	}
+
+	/**
+	 * Constructs a {@code LevelOne} instance with the specified screen dimensions and random seed.
+	 *
+	 * @param screenHeight The height of the game screen in pixels.
+	 * @param screenWidth The width of the game screen in pixels.
+	 * @param seed The seed of the level's random number streams.
+	 */
+	public LevelOne(double screenHeight, double screenWidth, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
 	}
 
 	/**
 	 * Checks if the game is over, either due to the player's destruction
 	 * or achieving the required kills to advance to the next level.
 	 * <p>If the player's health is depleted, the game ends with a loss.
-	 * If the player reaches the kill target, they advance to the next level.</p>
+	 * If the player reaches the kill target, they advance to the next level. Once the player is
+	 * within {@code KILLS_BEFORE_PRELOAD} kills of the target, the next level is announced so that it
+	 * can be loaded in the background.</p>
 	 */
 	@Override
 	protected void checkIfGameOver() {
 		if (userIsDestroyed()) {
 			loseGame();
 		} else if (userHasReachedKillTarget()) {
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel();
+		} else if (getUser().getNumberOfKills() >= KILLS_TO_ADVANCE - KILLS_BEFORE_PRELOAD) {
+			announceNextLevel();
 		}
 	}
 
 	/**
 	 * Initializes and adds friendly units (such as the player's character) to the level.
-	 * <p>For Level One, this involves adding the player character to the scene's root.</p>
+	 * <p>For Level One, this involves adding the player character to the level.</p>
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		addFriendlyUnit(getUser());
 	}
 
 	/**
@@ -68,25 +83,17 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
+		GameRandom spawnRandom = getRandom().getSpawning();
 		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
 		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-				ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
+			if (spawnRandom.nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+				double newEnemyInitialYPosition = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
+				ActiveActorDestructible newEnemy = acquireEnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
 				addEnemyUnit(newEnemy);
 			}
 		}
 	}
 
-	/**
-	 * Instantiates and returns the view for the level.
-	 *
-	 * @return A {@link LevelView} object configured with the root node and player's initial health.
-	 */
-	@Override
-	protected LevelView instantiateLevelView() {
-		return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
-	}
 
 	/**
 	 * Checks whether the player has reached the required number of kills to advance.
@@ -1,48 +1,88 @@
 package com.example.demo;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
-import javafx.animation.*;
-import javafx.scene.Group;
-import javafx.scene.Scene;
-import javafx.scene.image.*;
-import javafx.scene.input.*;
-import javafx.util.Duration;
 
 /**
  * Represents the base class for all game levels, managing game logic, user interaction,
  * and the lifecycle of game objects such as enemies, projectiles, and the user-controlled plane.
- * <p>This class defines core mechanics like collision handling, actor updates, and timeline
- * management, which are common across different levels of the game. Specific level behavior
- * can be achieved by extending this class and implementing the abstract methods.</p>
+ * <p>This class defines core mechanics like collision handling and actor updates, which are common across
+ * different levels of the game. Specific level behavior can be achieved by extending this class and
+ * implementing the abstract methods.</p>
+ * <p>A level is a headless simulation: it works on plain {@link ActiveActor} objects and advances one step
+ * each time {@link #tick()} is called. It does not create any JavaFX nodes, so it can be run without a
+ * JavaFX toolkit. {@link LevelScene} displays a level by mirroring its actors into the scene graph.</p>
+ * <p>What happens in the level is published on its {@link EventBus}: the end of the level, destroyed actors,
+ * damage to the player, kills and changes of an enemy's shield. The HUD and the game's controller subscribe
+ * to these events instead of inspecting the level every frame.</p>
+ * <p>The individual update phases are package-private so that the benchmarks in the {@code benchmarks}
+ * module can measure them in isolation.</p>
  */
-public abstract class LevelParent extends Observable {
+public abstract class LevelParent {
 
 	/**
 	 * Adjustment value for determining the maximum vertical position of enemy units.
 	 */
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-	/**
-	 * The delay, in milliseconds, between each game update cycle.
-	 */
-	private static final int MILLISECOND_DELAY = 50;
+
+	/** The Y-coordinate at which a second player's plane starts, below the first player's plane. */
+	private static final double SECOND_PLAYER_Y_POSITION = 400.0;
+
+	/** The possible statuses of a level, indexed by ordinal, for restoring snapshots without allocating. */
+	private static final LevelStatus[] STATUSES = LevelStatus.values();
+
+	private final String backgroundImageName;
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 
-	private final Group root;
-	private final Timeline timeline;
 	private final UserPlane user;
-	private final Scene scene;
-	private final ImageView background;
+
+	/** The second player's plane, or {@code null} while the level is played by one player. */
+	private UserPlane secondUser;
 
 	private final List<ActiveActorDestructible> friendlyUnits;
 	private final List<ActiveActorDestructible> enemyUnits;
 	private final List<ActiveActorDestructible> userProjectiles;
 	private final List<ActiveActorDestructible> enemyProjectiles;
 
+	private final ActorPool<UserProjectile> userProjectilePool;
+	private final ActorPool<EnemyProjectile> enemyProjectilePool;
+	private final ActorPool<BossProjectile> bossProjectilePool;
+	private final ActorPool<EnemyPlane> enemyPlanePool;
+
+	private final CollisionGrid collisionGrid;
+	private final BiConsumer<ActiveActorDestructible, ActiveActorDestructible> collisionPairHandler;
+
+	private final TickProfiler profiler;
+	private final LevelRandom random;
+	private final EventBus eventBus;
+
 	private int currentNumberOfEnemies;
-	private final LevelView levelView;
+	private LevelStatus status;
+	private long tickCount;
+	private ActorListener actorListener;
+	private Runnable nextLevelAnnouncementHandler;
+	private boolean nextLevelAnnounced;
+
+	/** The health the player's plane starts the level with. */
+	private final int playerInitialHealth;
+
+	/** The player's health as last published, used to detect damage. */
+	private int reportedHealth;
+
+	/** The player's kills as last published. */
+	private int reportedKills;
+
+	/** Whether the end of the level is only published when {@link #publishCompletion()} is called. */
+	private boolean completionDeferred;
+
+	/** Whether the end of the level has been published. */
+	private boolean completionPublished;
+
+	/** Whether an enemy's shield was active when last published. */
+	private boolean reportedShieldActive;
 
 	/**
 	 * Initializes the game level with the specified parameters.
@@ -51,31 +91,56 @@ public abstract class LevelParent extends Observable {
 	 * @param screenHeight        The height of the game screen.
 	 * @param screenWidth         The width of the game screen.
 	 * @param playerInitialHealth The initial health of the player's plane.
+	 * @param seed                The seed of the level's {@link LevelRandom}.
 	 */
-	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
-		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
-		this.user = new UserPlane(playerInitialHealth);
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+			long seed) {
+		this.random = new LevelRandom(seed);
+		this.userProjectilePool = new ActorPool<>(() -> new UserProjectile(0, 0));
+		this.enemyProjectilePool = new ActorPool<>(() -> new EnemyProjectile(0, 0));
+		this.bossProjectilePool = new ActorPool<>(() -> new BossProjectile(0));
+		this.enemyPlanePool = new ActorPool<>(() -> new EnemyPlane(0, 0, enemyProjectilePool, random.getEnemyFire()));
+		this.user = new UserPlane(playerInitialHealth, userProjectilePool);
+		prefillPools();
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
 		this.enemyProjectiles = new ArrayList<>();
 
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this.backgroundImageName = backgroundImageName;
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-		this.levelView = instantiateLevelView();
+		this.collisionGrid = new CollisionGrid(screenWidth, screenHeight);
+		this.collisionPairHandler = this::handleNearbyPair;
+		this.profiler = new TickProfiler();
+		this.eventBus = new EventBus();
+		this.playerInitialHealth = playerInitialHealth;
+		this.reportedHealth = playerInitialHealth;
 		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
-		friendlyUnits.add(user);
+		this.status = LevelStatus.PLAYING;
+		this.actorListener = ActorListener.NONE;
+		this.nextLevelAnnouncementHandler = () -> {
+		};
 	}
 
 	/**
-	 * Initializes any friendly units (e.g., allied planes) for the game level.
-	 * <p>This method is abstract and must be implemented by subclasses to define
-	 * the behavior and initialization of allied units.</p>
+	 * Constructs one actor of every pooled type.
+	 * <p>Constructing an actor builds the {@link CollisionMask} of its sprite the first time the sprite is
+	 * used. Doing so while the level is created, which may happen on a background thread, keeps the decoding
+	 * of the sprites out of the first ticks that spawn each type of actor.</p>
+	 */
+	private void prefillPools() {
+		userProjectilePool.prefill(1);
+		enemyProjectilePool.prefill(1);
+		bossProjectilePool.prefill(1);
+		enemyPlanePool.prefill(1);
+	}
+
+	/**
+	 * Initializes any friendly units (e.g., the player's plane) for the game level.
+	 * <p>This method is abstract and must be implemented by subclasses to add the level's
+	 * friendly units with {@link #addFriendlyUnit(ActiveActorDestructible)}.</p>
 	 */
 	protected abstract void initializeFriendlyUnits();
 
@@ -94,111 +159,306 @@ public abstract class LevelParent extends Observable {
 	protected abstract void spawnEnemyUnits();
 
 	/**
-	 * Creates and returns a view instance associated with this level.
+	 * Retrieves the number of hearts shown for the player's health when the level is displayed.
+	 * <p>By default this is the player's initial health. The level does not create its view itself: the JavaFX
+	 * layer builds the {@link LevelView}, so the level can also run without a JavaFX toolkit.</p>
 	 *
-	 * @return The {@link LevelView} object for managing UI components.
+	 * @return The number of hearts to display at the start of the level.
 	 */
-	protected abstract LevelView instantiateLevelView();
+	public int getHeartsToDisplay() {
+		return playerInitialHealth;
+	}
 
 	/**
-	 * Initializes the game scene, including the background, friendly units, and display elements.
-	 *
-	 * @return The {@link Scene} object configured for the level.
+	 * Prepares the level for play by adding its friendly units.
+	 * <p>This must be called once before the first {@link #tick()}. Any {@link ActorListener} should be
+	 * registered beforehand so that it is notified of the initial units.</p>
 	 */
-	public Scene initializeScene() {
-		initializeBackground();
+	public void initializeLevel() {
 		initializeFriendlyUnits();
-		levelView.showHeartDisplay();
-		//levelView.showShields();
-		levelView.showKillCDisplay();
-		return scene;
+		if (secondUser != null) {
+			addFriendlyUnit(secondUser);
+		}
 	}
 
 	/**
-	 * Starts the game timeline, initiating gameplay updates.
+	 * Adds a plane for a second player, who plays the level together with the first.
+	 * <p>This must be called before {@link #initializeLevel()}. The second plane starts below the first and fires
+	 * from the same pool. Enemies that get past the defenders damage the first player while their plane is still
+	 * flying and the second player after that, kills count towards the first player's total, and the level is
+	 * lost only once both planes are destroyed.</p>
 	 */
-	public void startGame() {
-		background.requestFocus();
-		timeline.play();
+	public void enableSecondPlayer() {
+		if (secondUser == null) {
+			secondUser = new UserPlane(user.getHealth(), userProjectilePool, SECOND_PLAYER_Y_POSITION);
+		}
 	}
 
 	/**
-	 * Transitions to the next level by stopping the current game timeline and notifying observers.
+	 * Checks whether the level is played by two players.
 	 *
-	 * @param levelName The name of the next level to load.
+	 * @return {@code true} if {@link #enableSecondPlayer()} has been called.
 	 */
-	public void goToNextLevel(String levelName) {
-		timeline.stop();
-		setChanged();
-		notifyObservers(levelName);
+	public boolean hasSecondPlayer() {
+		return secondUser != null;
 	}
 
 	/**
-	 * Updates all game elements during each game loop cycle.
+	 * Advances the level by one simulation step.
 	 * <p>This method handles spawning enemies, updating actor states, generating projectiles,
-	 * resolving collisions, and checking victory or defeat conditions.</p>
+	 * resolving collisions, and checking victory or defeat conditions. It does nothing once the
+	 * level is no longer {@link LevelStatus#PLAYING}. Each phase is timed by the level's
+	 * {@link TickProfiler}.</p>
 	 */
-	private void updateScene() {
+	public void tick() {
+		if (status != LevelStatus.PLAYING) {
+			return;
+		}
+		tickCount++;
+		long time = profiler.start();
 		spawnEnemyUnits();
+		time = profiler.record(TickPhase.SPAWN_ENEMIES, time);
 		updateActors();
+		time = profiler.record(TickPhase.UPDATE_ACTORS, time);
+		retireOutOfBoundsProjectiles();
+		time = profiler.record(TickPhase.RETIRE_OFF_SCREEN, time);
 		generateEnemyFire();
+		time = profiler.record(TickPhase.ENEMY_FIRE, time);
 		updateNumberOfEnemies();
+		time = profiler.record(TickPhase.COUNT_ENEMIES, time);
 		handleEnemyPenetration();
+		time = profiler.record(TickPhase.ENEMY_PENETRATION, time);
 		handleUserProjectileCollisions();
+		time = profiler.record(TickPhase.USER_PROJECTILE_COLLISIONS, time);
 		handleEnemyProjectileCollisions();
+		time = profiler.record(TickPhase.ENEMY_PROJECTILE_COLLISIONS, time);
 		handlePlaneCollisions();
+		time = profiler.record(TickPhase.PLANE_COLLISIONS, time);
 		removeAllDestroyedActors();
+		time = profiler.record(TickPhase.REMOVE_DESTROYED, time);
 		updateKillCount();
-		updateLevelView();
+		publishStateChanges();
+		time = profiler.record(TickPhase.KILL_COUNT, time);
 		checkIfGameOver();
+		profiler.record(TickPhase.GAME_OVER_CHECK, time);
 	}
 
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	/**
+	 * Applies a command issued by the player to the player's plane.
+	 *
+	 * @param command The {@link PlayerCommand} to apply.
+	 */
+	public void applyCommand(PlayerCommand command) {
+		applyCommand(0, command);
 	}
 
-	private void initializeBackground() {
-		background.setFocusTraversable(true);
-		background.setFitHeight(screenHeight);
-		background.setFitWidth(screenWidth);
+	/**
+	 * Applies a command issued by one of the players to that player's plane.
+	 * <p>Commands for a plane that has been destroyed are ignored.</p>
+	 *
+	 * @param player  The player who issued the command: {@code 0} for the first player, {@code 1} for the second.
+	 * @param command The {@link PlayerCommand} to apply.
+	 * @throws IllegalArgumentException If there is no such player in the level.
+	 */
+	public void applyCommand(int player, PlayerCommand command) {
+		UserPlane plane = player == 0 ? user : player == 1 ? secondUser : null;
+		if (plane == null) {
+			throw new IllegalArgumentException("No player " + player + " in this level");
+		}
+		if (plane.isDestroyed()) {
+			return;
+		}
+		switch (command) {
+			case MOVE_UP -> plane.moveUp();
+			case MOVE_DOWN -> plane.moveDown();
+			case STOP -> plane.stop();
+			case FIRE -> fireProjectile(plane);
+		}
+	}
 
-		// Use dedicated methods for key press and release handling
-		background.setOnKeyPressed(this::handleKeyPressed);
-		background.setOnKeyReleased(this::handleKeyReleased);
+	/**
+	 * Copies the state of the level into a snapshot, replacing the snapshot's contents.
+	 * <p>The snapshot holds everything the next ticks depend on: the tick count and status, the random number
+	 * streams, the actors in play with their state, the actors waiting in the pools and whatever the level's
+	 * subclass saves in {@link #saveLevelState(LevelSnapshot)}. It does not hold what has already been published
+	 * on the event bus, so after a restore the next tick publishes any difference from what the listeners last
+	 * saw. Actors are referenced rather than copied, which keeps a snapshot to a few numbers per actor.</p>
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	public void saveSnapshot(LevelSnapshot snapshot) {
+		snapshot.clear();
+		snapshot.putLong(tickCount);
+		snapshot.putInt(status.ordinal());
+		snapshot.putInt(currentNumberOfEnemies);
+		random.saveState(snapshot);
+		saveActors(friendlyUnits, snapshot, false);
+		saveActors(enemyUnits, snapshot, true);
+		saveActors(userProjectiles, snapshot, true);
+		saveActors(enemyProjectiles, snapshot, true);
+		user.saveState(snapshot);
+		if (secondUser != null) {
+			secondUser.saveState(snapshot);
+		}
+		userProjectilePool.saveState(snapshot);
+		enemyProjectilePool.saveState(snapshot);
+		bossProjectilePool.saveState(snapshot);
+		enemyPlanePool.saveState(snapshot);
+		saveLevelState(snapshot);
+	}
 
-		root.getChildren().add(background);
+	/**
+	 * Returns the level to the state saved in a snapshot by {@link #saveSnapshot(LevelSnapshot)}.
+	 * <p>The actor listener is told that every actor in play has been removed and that every actor in the restored
+	 * level has been added, so that views follow the level back in time. A level whose end has been published
+	 * must not be restored to a point before its end.</p>
+	 *
+	 * @param snapshot The snapshot to read from. It must have been saved from this level.
+	 */
+	public void restoreSnapshot(LevelSnapshot snapshot) {
+		snapshot.rewind();
+		notifyActorsRemoved();
+		tickCount = snapshot.getLong();
+		status = STATUSES[snapshot.getInt()];
+		currentNumberOfEnemies = snapshot.getInt();
+		random.restoreState(snapshot);
+		restoreActors(friendlyUnits, snapshot, false);
+		restoreActors(enemyUnits, snapshot, true);
+		restoreActors(userProjectiles, snapshot, true);
+		restoreActors(enemyProjectiles, snapshot, true);
+		user.restoreState(snapshot);
+		if (secondUser != null) {
+			secondUser.restoreState(snapshot);
+		}
+		userProjectilePool.restoreState(snapshot);
+		enemyProjectilePool.restoreState(snapshot);
+		bossProjectilePool.restoreState(snapshot);
+		enemyPlanePool.restoreState(snapshot);
+		restoreLevelState(snapshot);
+		notifyActorsAdded();
 	}
 
 	/**
-	 * Handles key press events to manage user input for movement and shooting.
+	 * Writes state specific to the level's subclass to a snapshot, after the state common to all levels.
+	 * <p>Levels that keep mutable state of their own, or actors that are not always in play such as a boss that
+	 * has not appeared yet, override this method and {@link #restoreLevelState(LevelSnapshot)}.</p>
 	 *
-	 * @param event The {@link KeyEvent} triggered by a key press.
+	 * @param snapshot The snapshot to write to.
 	 */
-	private void handleKeyPressed(KeyEvent event) {
-		KeyCode keyCode = event.getCode();
-		switch (keyCode) {
-			case UP, W -> user.moveUp();
-			case DOWN, S -> user.moveDown();
-			case SPACE -> fireProjectile();
-			default -> {
+	protected void saveLevelState(LevelSnapshot snapshot) {
+	}
+
+	/**
+	 * Reads the state written by {@link #saveLevelState(LevelSnapshot)} back from a snapshot.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	protected void restoreLevelState(LevelSnapshot snapshot) {
+	}
+
+	/**
+	 * Writes the actors of one of the level's lists to a snapshot.
+	 *
+	 * @param actors    The list to write.
+	 * @param snapshot  The snapshot to write to.
+	 * @param withState Whether to write the state of each actor as well as the reference to it.
+	 */
+	private static void saveActors(List<ActiveActorDestructible> actors, LevelSnapshot snapshot,
+			boolean withState) {
+		snapshot.putInt(actors.size());
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			snapshot.putReference(actor);
+			if (withState) {
+				actor.saveState(snapshot);
 			}
 		}
 	}
 
 	/**
-	 * Handles key release events to stop movement when the corresponding keys are released.
+	 * Replaces the contents of one of the level's lists with the actors written by
+	 * {@link #saveActors(List, LevelSnapshot, boolean)}.
 	 *
-	 * @param event The {@link KeyEvent} triggered by a key release.
+	 * @param actors    The list to restore.
+	 * @param snapshot  The snapshot to read from.
+	 * @param withState Whether the state of each actor was written as well.
+	 */
+	private static void restoreActors(List<ActiveActorDestructible> actors, LevelSnapshot snapshot,
+			boolean withState) {
+		actors.clear();
+		int count = snapshot.getInt();
+		for (int i = 0; i < count; i++) {
+			ActiveActorDestructible actor = snapshot.getReference();
+			if (withState) {
+				actor.restoreState(snapshot);
+			}
+			actors.add(actor);
+		}
+	}
+
+	private void notifyActorsRemoved() {
+		notifyActorsRemoved(friendlyUnits);
+		notifyActorsRemoved(enemyUnits);
+		notifyActorsRemoved(userProjectiles);
+		notifyActorsRemoved(enemyProjectiles);
+	}
+
+	private void notifyActorsRemoved(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actorListener.actorRemoved(actors.get(i));
+		}
+	}
+
+	private void notifyActorsAdded() {
+		notifyActorsAdded(friendlyUnits);
+		notifyActorsAdded(enemyUnits);
+		notifyActorsAdded(userProjectiles);
+		notifyActorsAdded(enemyProjectiles);
+	}
+
+	private void notifyActorsAdded(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actorListener.actorAdded(actors.get(i));
+		}
+	}
+
+	/**
+	 * Transitions to the next level by ending this level and publishing its completion.
+	 * <p>Which level follows is declared in the {@link LevelRegistry}, not by the level itself.</p>
+	 */
+	public void goToNextLevel() {
+		endLevel(LevelStatus.ADVANCED);
+	}
+
+	/**
+	 * Announces that the player is close to reaching the next level, so that it can be prepared in advance.
+	 * <p>Only the first announcement is passed on to the handler; later calls do nothing.</p>
 	 */
-	private void handleKeyReleased(KeyEvent event) {
-		KeyCode keyCode = event.getCode();
-		if (keyCode == KeyCode.UP || keyCode == KeyCode.DOWN || keyCode == KeyCode.W || keyCode == KeyCode.S) {
-			user.stop();
+	protected void announceNextLevel() {
+		if (!nextLevelAnnounced) {
+			nextLevelAnnounced = true;
+			nextLevelAnnouncementHandler.run();
 		}
 	}
 
+	/**
+	 * Registers the handler that is told when the level is close to being completed, before it is completed.
+	 *
+	 * @param nextLevelAnnouncementHandler Runs when the next level is announced.
+	 */
+	public void setNextLevelAnnouncementHandler(Runnable nextLevelAnnouncementHandler) {
+		this.nextLevelAnnouncementHandler = nextLevelAnnouncementHandler;
+	}
+
+	/**
+	 * Registers the listener that is notified when actors enter or leave the level.
+	 *
+	 * @param actorListener The listener, or {@link ActorListener#NONE} to stop notifications.
+	 */
+	public void setActorListener(ActorListener actorListener) {
+		this.actorListener = actorListener;
+	}
+
 	private void handlePlaneCollisions() {
 		handleCollisionsBetween(friendlyUnits, enemyUnits);
 	}
@@ -211,20 +471,25 @@ public abstract class LevelParent extends Observable {
 		handleCollisionsBetween(enemyProjectiles, friendlyUnits);
 	}
 
-	// New method for handling collisions between two groups of actors
-	private void handleCollisionsBetween(List<ActiveActorDestructible> group1, List<ActiveActorDestructible> group2) {
-		for (ActiveActorDestructible actor1 : group1) {
-			for (ActiveActorDestructible actor2 : group2) {
-				if (areActorsColliding(actor1, actor2)) {
-					applyCollisionEffects(actor1, actor2);
-				}
-			}
+	/**
+	 * Handles collisions between two groups of actors.
+	 * <p>The {@link CollisionGrid} broadphase limits the exact intersection test to pairs of actors that
+	 * occupy the same grid cells.</p>
+	 */
+	void handleCollisionsBetween(List<ActiveActorDestructible> group1, List<ActiveActorDestructible> group2) {
+		collisionGrid.forEachNearbyPair(group1, group2, collisionPairHandler);
+	}
+
+	// Runs the exact collision test on a pair of actors reported by the broadphase
+	private void handleNearbyPair(ActiveActorDestructible actor1, ActiveActorDestructible actor2) {
+		if (areActorsColliding(actor1, actor2)) {
+			applyCollisionEffects(actor1, actor2);
 		}
 	}
 
-	// Checks if two actors are colliding
+	// Checks if two actors are colliding using their bounding boxes and then their collision masks
 	private boolean areActorsColliding(ActiveActorDestructible actor1, ActiveActorDestructible actor2) {
-		return actor1.getBoundsInParent().intersects(actor2.getBoundsInParent());
+		return actor1.collidesWith(actor2);
 	}
 
 	// Applies effects  to both actors involved in a collision
@@ -233,40 +498,91 @@ public abstract class LevelParent extends Observable {
 		actor2.takeDamage();
 	}
 
+	/**
+	 * Destroys every enemy that has got past the defenders and damages the defending plane once for each.
+	 * <p>Like the other phases of a tick, this walks the list by index so that no iterator, stream or lambda is
+	 * allocated.</p>
+	 */
 	private void handleEnemyPenetration() {
-		// Use streams for cleaner iteration and action
-		enemyUnits.stream()
-				.filter(this::enemyHasPenetratedDefenses)
-				.forEach(enemy -> {
-					user.takeDamage();
-					enemy.destroy();
-				});
-	}
-	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			ActiveActorDestructible enemy = enemyUnits.get(i);
+			if (enemyHasPenetratedDefenses(enemy)) {
+				getDefender().takeDamage();
+				enemy.destroy();
+			}
+		}
+	}
+
+	private void fireProjectile(UserPlane plane) {
+		ActiveActorDestructible projectile = plane.fireProjectile();
 		userProjectiles.add(projectile);
+		actorListener.actorAdded(projectile);
 	}
 
-	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+	/**
+	 * Gives every enemy unit the chance to fire a projectile this tick.
+	 */
+	void generateEnemyFire() {
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			spawnEnemyProjectile(((FighterPlane) enemyUnits.get(i)).fireProjectile());
+		}
 	}
 
 	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
 			enemyProjectiles.add(projectile);
+			actorListener.actorAdded(projectile);
 		}
 	}
 
 	/**
-	 * Updates the position and state of all active game objects (actors) in the scene.
+	 * Updates the position and state of all active game objects (actors) in the level.
 	 */
-	private void updateActors() {
-		friendlyUnits.forEach(ActiveActorDestructible::updateActor);
-		enemyUnits.forEach(ActiveActorDestructible::updateActor);
-		userProjectiles.forEach(ActiveActorDestructible::updateActor);
-		enemyProjectiles.forEach(ActiveActorDestructible::updateActor);
+	void updateActors() {
+		updateActors(friendlyUnits);
+		updateActors(enemyUnits);
+		updateActors(userProjectiles);
+		updateActors(enemyProjectiles);
+	}
+
+	/**
+	 * Updates every actor in a list and then refreshes its cached bounding box for this tick.
+	 * <p>Each actor's position before the update is saved so that the view can interpolate between ticks.</p>
+	 */
+	private void updateActors(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			actor.savePreviousPosition();
+			actor.updateActor();
+			actor.updateBounds();
+		}
+	}
+
+	/**
+	 * Destroys projectiles that have left the screen so that they are retired with the other destroyed actors.
+	 */
+	private void retireOutOfBoundsProjectiles() {
+		retireOutOfBoundsProjectiles(userProjectiles);
+		retireOutOfBoundsProjectiles(enemyProjectiles);
+	}
+
+	private void retireOutOfBoundsProjectiles(List<ActiveActorDestructible> projectiles) {
+		for (int i = 0; i < projectiles.size(); i++) {
+			ActiveActorDestructible projectile = projectiles.get(i);
+			if (isOutOfBounds(projectile)) {
+				projectile.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Checks whether an actor lies entirely outside the horizontal extent of the screen.
+	 *
+	 * @param actor The actor to check.
+	 * @return {@code true} if the actor can no longer be seen; {@code false} otherwise.
+	 */
+	private boolean isOutOfBounds(ActiveActorDestructible actor) {
+		return actor.getMaxX() < 0 || actor.getMinX() > screenWidth;
 	}
 
 	private void removeAllDestroyedActors() {
@@ -277,44 +593,193 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Removes all actors marked as destroyed from the game scene and internal lists.
+	 * Removes all actors marked as destroyed from one of the level's internal lists.
+	 * <p>The list is scanned once for its first destroyed actor; when there is none the list is left untouched.
+	 * Otherwise the surviving actors are shifted down over the destroyed ones in a single pass, keeping their
+	 * order, and the leftover tail is cut off from the end. Removal is therefore linear in the size of the
+	 * list however many actors were destroyed.</p>
+	 *
+	 * @param actors The list to remove destroyed actors from.
 	 */
-	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(ActiveActorDestructible::isDestroyed)
-				.toList();
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+	void removeDestroyedActors(List<ActiveActorDestructible> actors) {
+		int size = actors.size();
+		int firstDestroyed = 0;
+		while (firstDestroyed < size && !actors.get(firstDestroyed).isDestroyed()) {
+			firstDestroyed++;
+		}
+		if (firstDestroyed == size) {
+			return;
+		}
+		int survivors = firstDestroyed;
+		for (int i = firstDestroyed; i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				retireActor(actor);
+			} else {
+				actors.set(survivors++, actor);
+			}
+		}
+		for (int i = size - 1; i >= survivors; i--) {
+			actors.remove(i);
+		}
 	}
 
-	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
-		levelView.updateKillC(user.getNumberOfKills());
+	/**
+	 * Takes a destroyed actor out of play.
+	 * <p>Pooled actors are returned to their pool so they can be reused, and the actor listener is
+	 * notified so that any view of the actor can be retired as well. The destruction is then published.</p>
+	 *
+	 * @param actor The destroyed actor.
+	 */
+	private void retireActor(ActiveActorDestructible actor) {
+		ActorPool<?> pool = actor.getPool();
+		if (pool != null) {
+			pool.release(actor);
+		}
+		actorListener.actorRemoved(actor);
+		eventBus.publishActorDestroyed(actor);
 	}
 
 	private void updateKillCount() {
-		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
+		int kills = currentNumberOfEnemies - enemyUnits.size();
+		for (int i = 0; i < kills; i++) {
 			user.incrementKillCount();
 		}
 	}
 
+	/**
+	 * Publishes the changes to the player's kills and health and to enemy shields made during this tick.
+	 * <p>Each value is compared with the one last published rather than with its value before the tick, so that
+	 * after {@link #restoreSnapshot(LevelSnapshot)} the listeners are brought up to date even if the restored
+	 * player has fewer kills or more health than they were last told.</p>
+	 */
+	private void publishStateChanges() {
+		int kills = user.getNumberOfKills();
+		if (kills != reportedKills) {
+			reportedKills = kills;
+			eventBus.publishKillScored(kills);
+		}
+		int health = user.getHealth();
+		if (health != reportedHealth) {
+			reportedHealth = health;
+			eventBus.publishPlayerDamaged(health);
+		}
+		boolean shieldActive = isShieldActive();
+		if (shieldActive != reportedShieldActive) {
+			reportedShieldActive = shieldActive;
+			eventBus.publishBossShieldChanged(shieldActive);
+		}
+	}
+
 	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
 		return Math.abs(enemy.getTranslateX()) > screenWidth;
 	}
 
 	/**
-	 * Displays the win screen and stops the game when the victory conditions are satisfied.
+	 * Ends the level with a win when the victory conditions are satisfied.
 	 */
 	protected void winGame() {
-		timeline.stop();
-		levelView.showWinImage();
+		endLevel(LevelStatus.WON);
 	}
 
 	/**
-	 * Displays the game-over screen and stops the game when the defeat conditions are satisfied.
+	 * Ends the level with a loss when the defeat conditions are satisfied.
 	 */
 	protected void loseGame() {
-		timeline.stop();
-		levelView.showGameOverImage();
+		endLevel(LevelStatus.LOST);
+	}
+
+	/**
+	 * Ends the level and publishes how it ended. Does nothing if the level has already ended.
+	 *
+	 * @param outcome The final status of the level.
+	 */
+	private void endLevel(LevelStatus outcome) {
+		if (status != LevelStatus.PLAYING) {
+			return;
+		}
+		status = outcome;
+		if (!completionDeferred) {
+			publishCompletion();
+		}
+	}
+
+	/**
+	 * Makes the end of the level wait for {@link #publishCompletion()} instead of being published at once.
+	 * <p>A level played over the network may end on a tick that is later rolled back, and must not be left until
+	 * every player's input for that tick has arrived.</p>
+	 *
+	 * @param completionDeferred {@code true} to defer the end of the level; {@code false} to publish it at once.
+	 */
+	public void setCompletionDeferred(boolean completionDeferred) {
+		this.completionDeferred = completionDeferred;
+	}
+
+	/**
+	 * Publishes how the level ended, if it has ended and this has not been published yet.
+	 */
+	public void publishCompletion() {
+		if (status != LevelStatus.PLAYING && !completionPublished) {
+			completionPublished = true;
+			eventBus.publishLevelCompleted(status);
+		}
+	}
+
+	/**
+	 * Retrieves the current progress of the level.
+	 *
+	 * @return The {@link LevelStatus} of the level.
+	 */
+	public LevelStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Retrieves the number of ticks the level has run.
+	 * <p>Player commands are stamped with this count when they are recorded, so that a replay applies
+	 * them before the same tick as in the original session.</p>
+	 *
+	 * @return The number of completed calls to {@link #tick()} while the level was playing.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Checks whether an enemy in the level currently has an active shield.
+	 * <p>Levels with shielded enemies override this so the view can display the shield.</p>
+	 *
+	 * @return {@code true} if a shield should be displayed; {@code false} otherwise.
+	 */
+	public boolean isShieldActive() {
+		return false;
+	}
+
+	/**
+	 * Retrieves the random number streams of the level.
+	 *
+	 * @return The level's {@link LevelRandom}.
+	 */
+	public LevelRandom getRandom() {
+		return random;
+	}
+
+	/**
+	 * Retrieves the bus on which the level publishes its events.
+	 *
+	 * @return The level's {@link EventBus}.
+	 */
+	public EventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * Retrieves the profiler that times the phases of each tick.
+	 *
+	 * @return The level's {@link TickProfiler}.
+	 */
+	public TickProfiler getProfiler() {
+		return profiler;
 	}
 
 	/**
@@ -327,12 +792,50 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Retrieves the root {@link Group}, which contains all visual elements of the level.
+	 * Retrieves the friendly units currently in the level. The returned list must not be modified.
+	 *
+	 * @return The friendly units, including the player's plane.
+	 */
+	List<ActiveActorDestructible> getFriendlyUnits() {
+		return friendlyUnits;
+	}
+
+	/**
+	 * Retrieves the enemy units currently in the level. The returned list must not be modified.
 	 *
-	 * @return The root node of the scene graph.
+	 * @return The enemy units.
 	 */
-	protected Group getRoot() {
-		return root;
+	List<ActiveActorDestructible> getEnemyUnits() {
+		return enemyUnits;
+	}
+
+	/**
+	 * Retrieves the projectiles fired by the player that are currently in the level.
+	 * The returned list must not be modified.
+	 *
+	 * @return The player's projectiles.
+	 */
+	List<ActiveActorDestructible> getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Retrieves the projectiles fired by enemies that are currently in the level.
+	 * The returned list must not be modified.
+	 *
+	 * @return The enemies' projectiles.
+	 */
+	List<ActiveActorDestructible> getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	/**
+	 * Counts the actors currently in the level.
+	 *
+	 * @return The number of friendly units, enemy units and projectiles.
+	 */
+	public int getActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
 	}
 
 	protected int getCurrentNumberOfEnemies() {
@@ -340,13 +843,56 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Adds a new enemy unit to the game, displaying it in the scene and tracking it internally.
+	 * Adds a friendly unit, such as the player's plane, to the level.
+	 *
+	 * @param friendlyUnit The friendly unit to be added.
+	 */
+	protected void addFriendlyUnit(ActiveActorDestructible friendlyUnit) {
+		friendlyUnits.add(friendlyUnit);
+		actorListener.actorAdded(friendlyUnit);
+	}
+
+	/**
+	 * Adds a new enemy unit to the game and tracks it internally.
 	 *
 	 * @param enemy The enemy unit to be added.
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+		actorListener.actorAdded(enemy);
+	}
+
+	/**
+	 * Takes an enemy plane from the level's pool and places it at the given position.
+	 * <p>The plane still has to be added to the level with {@link #addEnemyUnit(ActiveActorDestructible)}.</p>
+	 *
+	 * @param initialXPos The initial X-coordinate of the enemy plane.
+	 * @param initialYPos The initial Y-coordinate of the enemy plane.
+	 * @return A reset {@link EnemyPlane} ready to be added to the level.
+	 */
+	protected EnemyPlane acquireEnemyPlane(double initialXPos, double initialYPos) {
+		return enemyPlanePool.acquire(initialXPos, initialYPos);
+	}
+
+	/**
+	 * Retrieves the number of actors the level's pools have constructed so far.
+	 * <p>The number grows only on ticks that spawn more actors of a type than the level has ever held at once;
+	 * every other tick reuses pooled actors.</p>
+	 *
+	 * @return The number of actors created by the level's pools.
+	 */
+	int getCreatedActorCount() {
+		return userProjectilePool.getCreatedCount() + enemyProjectilePool.getCreatedCount()
+				+ bossProjectilePool.getCreatedCount() + enemyPlanePool.getCreatedCount();
+	}
+
+	/**
+	 * Retrieves the pool that supplies projectiles fired by boss enemies in this level.
+	 *
+	 * @return The boss projectile pool.
+	 */
+	protected ActorPool<BossProjectile> getBossProjectilePool() {
+		return bossProjectilePool;
 	}
 
 	/**
@@ -358,22 +904,50 @@ public abstract class LevelParent extends Observable {
 		return enemyMaximumYPosition;
 	}
 
+	/**
+	 * Retrieves the file path of the level's background image.
+	 *
+	 * @return The resource path of the background image.
+	 */
+	public String getBackgroundImageName() {
+		return backgroundImageName;
+	}
+
 	/**
 	 * Retrieves the screen width of the game level.
 	 *
 	 * @return The screen width.
 	 */
-	protected double getScreenWidth() {
+	public double getScreenWidth() {
 		return screenWidth;
 	}
 
+	/**
+	 * Retrieves the screen height of the game level.
+	 *
+	 * @return The screen height.
+	 */
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
 	/**
 	 * Checks if the player's plane is destroyed.
+	 * <p>When the level has a second player, both planes have to be destroyed.</p>
 	 *
 	 * @return {@code true} if the user's plane is destroyed; {@code false} otherwise.
 	 */
 	protected boolean userIsDestroyed() {
-		return user.isDestroyed();
+		return user.isDestroyed() && (secondUser == null || secondUser.isDestroyed());
+	}
+
+	/**
+	 * Chooses the plane that takes the damage when an enemy gets past the defenders.
+	 *
+	 * @return The first player's plane, or the second player's plane once the first has been destroyed.
+	 */
+	private UserPlane getDefender() {
+		return user.isDestroyed() && secondUser != null ? secondUser : user;
 	}
 
 	private void updateNumberOfEnemies() {
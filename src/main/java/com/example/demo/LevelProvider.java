@@ -0,0 +1,19 @@
+package com.example.demo;
+
+import java.util.List;
+
+/**
+ * Supplies levels to the {@link LevelRegistry}.
+ * <p>Besides the game's own {@link BuiltInLevels}, providers are discovered with {@link java.util.ServiceLoader}.
+ * A module on the module path adds levels by declaring
+ * {@code provides com.example.demo.LevelProvider with ...} in its module descriptor.</p>
+ */
+public interface LevelProvider {
+
+	/**
+	 * Retrieves the levels offered by this provider.
+	 *
+	 * @return The definitions of the levels.
+	 */
+	List<LevelDefinition> getLevels();
+}
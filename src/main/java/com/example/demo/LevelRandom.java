@@ -0,0 +1,111 @@
+package com.example.demo;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Supplies the random numbers used by a level.
+ * <p>Every level owns one {@code LevelRandom} created from a seed. It is split into an independent
+ * {@link GameRandom} for each subsystem that makes random decisions, so that for example the number
+ * of shots fired by enemies does not change where the next enemy spawns. A level created with the same seed
+ * and driven by the same player commands therefore plays out identically.</p>
+ * <p>The streams are split in a fixed order when the {@code LevelRandom} is created. New subsystems must be
+ * split after the existing ones so that existing streams keep their values for a given seed.</p>
+ * <p>The streams are {@link GameRandom}s, which produce the same values as {@link java.util.SplittableRandom}
+ * but can be saved in a {@link LevelSnapshot} and rewound.</p>
+ * <p>Like the rest of the simulation, the streams are not thread-safe and must only be used by the thread
+ * that advances the level.</p>
+ */
+public class LevelRandom {
+
+	/** The seed the streams were created from. */
+	private final long seed;
+
+	/** Decides when and where the level spawns enemies. */
+	private final GameRandom spawning;
+
+	/** Decides when enemy planes fire. */
+	private final GameRandom enemyFire;
+
+	/** Decides how the boss moves, fires and shields itself. */
+	private final GameRandom boss;
+
+	/**
+	 * Constructs a {@code LevelRandom} from a seed.
+	 *
+	 * @param seed The seed from which all streams are derived.
+	 */
+	public LevelRandom(long seed) {
+		this.seed = seed;
+		GameRandom root = new GameRandom(seed);
+		this.spawning = root.split();
+		this.enemyFire = root.split();
+		this.boss = root.split();
+	}
+
+	/**
+	 * Creates a seed for a level that does not need to be reproduced.
+	 *
+	 * @return A randomly chosen seed.
+	 */
+	public static long newSeed() {
+		return ThreadLocalRandom.current().nextLong();
+	}
+
+	/**
+	 * Retrieves the seed the streams were created from.
+	 *
+	 * @return The seed of this level.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Writes the state of every stream to a snapshot.
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	void saveState(LevelSnapshot snapshot) {
+		snapshot.putLong(spawning.getState());
+		snapshot.putLong(enemyFire.getState());
+		snapshot.putLong(boss.getState());
+	}
+
+	/**
+	 * Rewinds every stream to the state written by {@link #saveState(LevelSnapshot)}.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	void restoreState(LevelSnapshot snapshot) {
+		spawning.setState(snapshot.getLong());
+		enemyFire.setState(snapshot.getLong());
+		boss.setState(snapshot.getLong());
+	}
+
+	/**
+	 * Retrieves the stream that decides when and where enemies spawn.
+	 *
+	 * @return The spawning stream.
+	 */
+	public GameRandom getSpawning() {
+		return spawning;
+	}
+
+	/**
+	 * Retrieves the stream that decides when enemy planes fire.
+	 *
+	 * @return The enemy fire stream.
+	 */
+	public GameRandom getEnemyFire() {
+		return enemyFire;
+	}
+
+	/**
+	 * Retrieves the stream that decides how the boss moves, fires and shields itself.
+	 *
+	 * @return The boss stream.
+	 */
+	public GameRandom getBoss() {
+		return boss;
+	}
+}
@@ -0,0 +1,128 @@
+package com.example.demo;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Knows every level of the game and how the levels lead into each other.
+ * <p>Levels are registered as {@link LevelDefinition}s and looked up by identifier, so moving from one level to
+ * the next needs neither class names nor reflection. Since the whole level graph is known up front, the next
+ * level can be created and prepared before the current one is finished.</p>
+ * <p>{@link #createDefault()} registers the {@link BuiltInLevels} and any {@link LevelProvider}s found by
+ * {@link ServiceLoader}, and then checks that every next level named in the graph exists.</p>
+ */
+public class LevelRegistry {
+
+	/** The registered levels, in registration order. */
+	private final Map<String, LevelDefinition> levels;
+
+	/**
+	 * Constructs an empty {@code LevelRegistry}.
+	 */
+	public LevelRegistry() {
+		this.levels = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Creates a registry holding the built-in levels and all levels supplied by discovered providers.
+	 *
+	 * @return The validated registry.
+	 * @throws IllegalStateException If two levels share an identifier or a level names an unknown next level.
+	 */
+	public static LevelRegistry createDefault() {
+		LevelRegistry registry = new LevelRegistry();
+		registry.registerAll(new BuiltInLevels());
+		for (LevelProvider provider : ServiceLoader.load(LevelProvider.class)) {
+			registry.registerAll(provider);
+		}
+		registry.validate();
+		return registry;
+	}
+
+	/**
+	 * Registers every level of a provider.
+	 *
+	 * @param provider The provider of the levels.
+	 * @throws IllegalStateException If one of the levels is already registered.
+	 */
+	public void registerAll(LevelProvider provider) {
+		provider.getLevels().forEach(this::register);
+	}
+
+	/**
+	 * Registers a level.
+	 *
+	 * @param definition The definition of the level.
+	 * @throws IllegalStateException If a level with the same identifier is already registered.
+	 */
+	public void register(LevelDefinition definition) {
+		if (levels.putIfAbsent(definition.getId(), definition) != null) {
+			throw new IllegalStateException("Duplicate level id: " + definition.getId());
+		}
+	}
+
+	/**
+	 * Checks that every next level named by a registered level is registered as well.
+	 *
+	 * @throws IllegalStateException If a level names an unknown next level.
+	 */
+	public void validate() {
+		for (LevelDefinition definition : levels.values()) {
+			definition.getNextLevelId().filter(next -> !levels.containsKey(next)).ifPresent(next -> {
+				throw new IllegalStateException("Level " + definition.getId() + " leads to unknown level " + next);
+			});
+		}
+	}
+
+	/**
+	 * Retrieves the definition of a level.
+	 *
+	 * @param id The identifier of the level.
+	 * @return The level's definition.
+	 * @throws IllegalArgumentException If no level has the given identifier.
+	 */
+	public LevelDefinition get(String id) {
+		LevelDefinition definition = levels.get(id);
+		if (definition == null) {
+			throw new IllegalArgumentException("Unknown level id: " + id);
+		}
+		return definition;
+	}
+
+	/**
+	 * Creates a new instance of a level.
+	 *
+	 * @param id           The identifier of the level.
+	 * @param screenHeight The height of the game screen in pixels.
+	 * @param screenWidth  The width of the game screen in pixels.
+	 * @param seed         The seed of the level's random number streams.
+	 * @return The new, uninitialized level.
+	 * @throws IllegalArgumentException If no level has the given identifier.
+	 */
+	public LevelParent create(String id, double screenHeight, double screenWidth, long seed) {
+		return get(id).getFactory().create(screenHeight, screenWidth, seed);
+	}
+
+	/**
+	 * Retrieves the identifier of the level that follows a level.
+	 *
+	 * @param id The identifier of the current level.
+	 * @return The next level's identifier, or an empty {@code Optional} if the level is a final level.
+	 * @throws IllegalArgumentException If no level has the given identifier.
+	 */
+	public Optional<String> getNextLevelId(String id) {
+		return get(id).getNextLevelId();
+	}
+
+	/**
+	 * Retrieves the identifiers of all registered levels.
+	 *
+	 * @return The level identifiers in registration order.
+	 */
+	public Iterable<String> getLevelIds() {
+		return Collections.unmodifiableSet(levels.keySet());
+	}
+}
@@ -0,0 +1,315 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javafx.scene.Group;
+import javafx.scene.image.*;
+import javafx.scene.input.*;
+
+/**
+ * Displays a {@link LevelParent} with JavaFX and drives it in real time.
+ * <p>{@code LevelScene} is the thin JavaFX layer on top of the headless level simulation. It owns the
+ * level's part of the scene graph, the background, the HUD and the game loop. The {@link FixedTimestepLoop}
+ * advances the level at a fixed tick rate, and every frame its {@link ActorRenderer} draws the level's actors at
+ * positions interpolated between the last two ticks, so motion stays smooth at any frame rate. Depending on the
+ * {@link RenderMode}, actors are drawn as one {@link ActorView} node each or all onto a single canvas; the HUD
+ * consists of nodes in either mode. It also translates key presses into {@link PlayerCommand}s for the level.
+ * Pressing F3 toggles a {@link DebugOverlay} with the timing of each phase of the update, and every tick and
+ * frame is measured by a {@link PerformanceReadout} that can be shown on screen.</p>
+ * <p>The HUD is driven by the level's {@link EventBus}: hearts, the kill count and the shield are only touched
+ * when the level publishes damage, a kill or a shield change, and the end screens are shown when it publishes
+ * the end of the level.</p>
+ * <p>A {@code LevelScene} builds its nodes under a root {@link Group} that is not attached to any scene. Since
+ * JavaFX nodes may be created on any thread until they are shown, the whole level can be prepared on a
+ * background thread and then displayed by making its root the root of the game's single
+ * {@link javafx.scene.Scene}.</p>
+ */
+public class LevelScene implements GameEventListener {
+
+	/**
+	 * The default number of game update cycles per second. Actor speeds are defined per tick, so this
+	 * rate also sets the speed of the game.
+	 */
+	public static final int DEFAULT_TICKS_PER_SECOND = 20;
+
+	/**
+	 * The default maximum number of ticks run in one frame to catch up after a slow frame.
+	 */
+	public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+	private final LevelParent level;
+	private final Group root;
+	private final ActorRenderer actorRenderer;
+	private final FixedTimestepLoop gameLoop;
+	private final ImageView background;
+	private final LevelView levelView;
+	private final DebugOverlay debugOverlay;
+	private final PerformanceReadout performanceReadout;
+
+	/** Records the commands applied to the level, or {@code null} if the session is not recorded. */
+	private InputRecorder inputRecorder;
+
+	/** Plays the level together with another peer, or {@code null} if the level is played locally. */
+	private RollbackSession rollbackSession;
+
+	/**
+	 * Creates the JavaFX view of a level running at the default tick rate, with one node per actor.
+	 *
+	 * @param level The level to display.
+	 */
+	public LevelScene(LevelParent level) {
+		this(level, RenderMode.NODES);
+	}
+
+	/**
+	 * Creates the JavaFX view of a level running at the default tick rate.
+	 *
+	 * @param level      The level to display.
+	 * @param renderMode How the level's actors are drawn.
+	 */
+	public LevelScene(LevelParent level, RenderMode renderMode) {
+		this(level, renderMode, LevelViewFactory.DEFAULT);
+	}
+
+	/**
+	 * Creates the JavaFX view of a level running at the default tick rate, with a HUD of the level's own kind.
+	 *
+	 * @param level       The level to display.
+	 * @param renderMode  How the level's actors are drawn.
+	 * @param viewFactory Creates the level's HUD.
+	 */
+	public LevelScene(LevelParent level, RenderMode renderMode, LevelViewFactory viewFactory) {
+		this(level, DEFAULT_TICKS_PER_SECOND, DEFAULT_MAX_CATCH_UP_TICKS, renderMode, viewFactory);
+	}
+
+	/**
+	 * Creates the JavaFX view of a level.
+	 *
+	 * @param level           The level to display.
+	 * @param ticksPerSecond  The number of times per second the level is advanced.
+	 * @param maxCatchUpTicks The maximum number of ticks run in a single frame.
+	 * @param renderMode      How the level's actors are drawn.
+	 * @param viewFactory     Creates the level's HUD.
+	 */
+	public LevelScene(LevelParent level, int ticksPerSecond, int maxCatchUpTicks, RenderMode renderMode,
+			LevelViewFactory viewFactory) {
+		this.level = level;
+		this.root = new Group();
+		this.actorRenderer = ActorRenderer.create(renderMode, level.getScreenWidth(), level.getScreenHeight());
+		this.gameLoop = new FixedTimestepLoop(ticksPerSecond, maxCatchUpTicks, this::tick, this::render);
+		this.background = new ImageView(SpriteCache.getImage(level.getBackgroundImageName(),
+				level.getScreenWidth(), level.getScreenHeight(), false));
+		root.getChildren().addAll(background, actorRenderer.getNode());
+		this.levelView = viewFactory.create(root, level.getHeartsToDisplay());
+		this.debugOverlay = new DebugOverlay(root);
+		this.performanceReadout = new PerformanceReadout(root);
+	}
+
+	/**
+	 * Initializes the level's nodes, including the background, friendly units, and display elements.
+	 * <p>This may be called on any thread, as long as the root is not yet displayed.</p>
+	 *
+	 * @return The root {@link Group} of the level, ready to be set as the root of a scene.
+	 */
+	public Group initializeRoot() {
+		initializeBackground();
+		level.setActorListener(actorRenderer);
+		level.getEventBus().subscribe(this);
+		level.initializeLevel();
+		levelView.showHeartDisplay();
+		levelView.showKillCDisplay();
+		actorRenderer.render(1);
+		return root;
+	}
+
+	/**
+	 * Starts the game loop, initiating gameplay updates.
+	 * <p>This must be called on the JavaFX application thread once the root is displayed.</p>
+	 */
+	public void startGame() {
+		background.requestFocus();
+		gameLoop.start();
+	}
+
+	/**
+	 * Displays the frame rate and tick duration of the level on screen.
+	 */
+	public void showPerformanceReadout() {
+		performanceReadout.show();
+	}
+
+	/**
+	 * Retrieves the measurements of the frames and ticks run since the level was displayed.
+	 *
+	 * @return The level's {@link PerformanceReadout}.
+	 */
+	public PerformanceReadout getPerformanceReadout() {
+		return performanceReadout;
+	}
+
+	/**
+	 * Records every command the player applies to the level from now on.
+	 *
+	 * @param inputRecorder The recorder of the session, or {@code null} to stop recording.
+	 */
+	public void setInputRecorder(InputRecorder inputRecorder) {
+		this.inputRecorder = inputRecorder;
+	}
+
+	/**
+	 * Plays the level together with another peer: the player's commands are passed to the session, and each
+	 * tick of the game loop advances the session instead of the level.
+	 *
+	 * @param rollbackSession The session, or {@code null} to play the level locally.
+	 */
+	public void setRollbackSession(RollbackSession rollbackSession) {
+		this.rollbackSession = rollbackSession;
+	}
+
+	private void initializeBackground() {
+		background.setFocusTraversable(true);
+		background.setFitHeight(level.getScreenHeight());
+		background.setFitWidth(level.getScreenWidth());
+
+		// Use dedicated methods for key press and release handling
+		background.setOnKeyPressed(this::handleKeyPressed);
+		background.setOnKeyReleased(this::handleKeyReleased);
+	}
+
+	/**
+	 * Stops the game loop when the level ends and shows the win or game-over screen.
+	 *
+	 * @param status How the level ended.
+	 */
+	@Override
+	public void levelCompleted(LevelStatus status) {
+		gameLoop.stop();
+		switch (status) {
+			case WON -> levelView.showWinImage();
+			case LOST -> levelView.showGameOverImage();
+			default -> {
+			}
+		}
+	}
+
+	/**
+	 * Removes the hearts the player has lost from the HUD.
+	 *
+	 * @param health The player's remaining health.
+	 */
+	@Override
+	public void playerDamaged(int health) {
+		levelView.updateHearts(health);
+	}
+
+	/**
+	 * Shows the player's new kill count in the HUD.
+	 *
+	 * @param kills The player's total number of kills.
+	 */
+	@Override
+	public void killScored(int kills) {
+		levelView.updateKillC(kills);
+	}
+
+	/**
+	 * Shows or hides the shield image.
+	 *
+	 * @param active Whether the shield is now active.
+	 */
+	@Override
+	public void bossShieldChanged(boolean active) {
+		if (active) {
+			levelView.showShields();
+		} else {
+			levelView.hideShields();
+		}
+	}
+
+	/**
+	 * Advances the level by one tick and reports how long the tick took.
+	 * <p>In a networked level the tick includes any rollback. If the connection fails, the game loop stops.</p>
+	 */
+	private void tick() {
+		long startTime = System.nanoTime();
+		if (rollbackSession == null) {
+			level.tick();
+		} else {
+			try {
+				rollbackSession.advance();
+			} catch (UncheckedIOException e) {
+				System.err.println(e.getMessage() + ": " + e.getCause().getMessage());
+				gameLoop.stop();
+			}
+		}
+		performanceReadout.tickCompleted(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Draws the current state of the level.
+	 *
+	 * @param alpha How far the frame lies between the previous tick ({@code 0}) and the latest tick ({@code 1}).
+	 */
+	private void render(double alpha) {
+		TickProfiler profiler = level.getProfiler();
+		long startTime = profiler.start();
+		actorRenderer.render(alpha);
+		profiler.record(TickPhase.RENDER, startTime);
+		debugOverlay.update(level);
+		performanceReadout.frameRendered(System.nanoTime(), level.getActorCount());
+	}
+
+	/**
+	 * Handles key press events to manage user input for movement and shooting.
+	 *
+	 * @param event The {@link KeyEvent} triggered by a key press.
+	 */
+	private void handleKeyPressed(KeyEvent event) {
+		KeyCode keyCode = event.getCode();
+		switch (keyCode) {
+			case UP, W -> applyCommand(PlayerCommand.MOVE_UP);
+			case DOWN, S -> applyCommand(PlayerCommand.MOVE_DOWN);
+			case SPACE -> applyCommand(PlayerCommand.FIRE);
+			case F3 -> debugOverlay.toggle();
+			default -> {
+			}
+		}
+	}
+
+	/**
+	 * Handles key release events to stop movement when the corresponding keys are released.
+	 *
+	 * @param event The {@link KeyEvent} triggered by a key release.
+	 */
+	private void handleKeyReleased(KeyEvent event) {
+		KeyCode keyCode = event.getCode();
+		if (keyCode == KeyCode.UP || keyCode == KeyCode.DOWN || keyCode == KeyCode.W || keyCode == KeyCode.S) {
+			applyCommand(PlayerCommand.STOP);
+		}
+	}
+
+	/**
+	 * Applies a player command to the level and records it if the session is being recorded.
+	 * <p>If the recording cannot be written, recording stops and the game carries on. In a networked level the
+	 * command is passed to the {@link RollbackSession}, which applies it before the next tick.</p>
+	 *
+	 * @param command The command to apply.
+	 */
+	private void applyCommand(PlayerCommand command) {
+		if (rollbackSession != null) {
+			rollbackSession.queueCommand(command);
+			return;
+		}
+		level.applyCommand(command);
+		if (inputRecorder == null) {
+			return;
+		}
+		try {
+			inputRecorder.recordCommand(level.getTickCount(), command);
+		} catch (IOException e) {
+			System.err.println("Input recording stopped: " + e.getMessage());
+			inputRecorder = null;
+		}
+	}
+}
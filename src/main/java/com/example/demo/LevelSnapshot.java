@@ -0,0 +1,186 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * A compact copy of the state of a level at the start of a tick, used to rewind the level for rollback.
+ * <p>A snapshot is a flat sequence of numbers and object references. {@link LevelParent#saveSnapshot} writes the
+ * level's counters, random number streams, actor lists and pools, and the actors write their own fields after
+ * them; {@link LevelParent#restoreSnapshot} reads everything back in the same order. Doubles are stored as their
+ * raw bits, so a restored level continues exactly as the saved one did.</p>
+ * <p>Snapshots are meant to be kept in a ring and overwritten: {@link #clear()} keeps the arrays, which only grow
+ * while the level holds more actors than ever before, so saving a level every tick allocates nothing once it has
+ * reached its usual size.</p>
+ */
+public final class LevelSnapshot {
+
+	/** The number of slots the arrays start with; enough for a level with a few dozen actors. */
+	private static final int INITIAL_CAPACITY = 256;
+
+	/** The numbers written so far, in order. */
+	private long[] values;
+
+	/** The object references written so far, in order. */
+	private Object[] references;
+
+	/** The number of numbers written. */
+	private int valueCount;
+
+	/** The number of object references written. */
+	private int referenceCount;
+
+	/** The index of the next number to read. */
+	private int valueCursor;
+
+	/** The index of the next object reference to read. */
+	private int referenceCursor;
+
+	/**
+	 * Constructs an empty {@code LevelSnapshot}.
+	 */
+	public LevelSnapshot() {
+		this.values = new long[INITIAL_CAPACITY];
+		this.references = new Object[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Discards the contents so that the snapshot can be written again, keeping its arrays.
+	 */
+	public void clear() {
+		Arrays.fill(references, 0, referenceCount, null);
+		valueCount = 0;
+		referenceCount = 0;
+		valueCursor = 0;
+		referenceCursor = 0;
+	}
+
+	/**
+	 * Moves back to the start of the snapshot so that it can be read again.
+	 */
+	public void rewind() {
+		valueCursor = 0;
+		referenceCursor = 0;
+	}
+
+	/**
+	 * Retrieves the number of numbers held by the snapshot.
+	 *
+	 * @return The number of values written since the snapshot was last cleared.
+	 */
+	public int getValueCount() {
+		return valueCount;
+	}
+
+	/**
+	 * Retrieves the number of object references held by the snapshot.
+	 *
+	 * @return The number of references written since the snapshot was last cleared.
+	 */
+	public int getReferenceCount() {
+		return referenceCount;
+	}
+
+	/**
+	 * Appends a {@code long}.
+	 *
+	 * @param value The value to write.
+	 */
+	public void putLong(long value) {
+		if (valueCount == values.length) {
+			values = Arrays.copyOf(values, values.length * 2);
+		}
+		values[valueCount++] = value;
+	}
+
+	/**
+	 * Appends an {@code int}.
+	 *
+	 * @param value The value to write.
+	 */
+	public void putInt(int value) {
+		putLong(value);
+	}
+
+	/**
+	 * Appends a {@code double}.
+	 *
+	 * @param value The value to write.
+	 */
+	public void putDouble(double value) {
+		putLong(Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * Appends a {@code boolean}.
+	 *
+	 * @param value The value to write.
+	 */
+	public void putBoolean(boolean value) {
+		putLong(value ? 1 : 0);
+	}
+
+	/**
+	 * Appends an object reference.
+	 *
+	 * @param reference The reference to write, which may be {@code null}.
+	 */
+	public void putReference(Object reference) {
+		if (referenceCount == references.length) {
+			references = Arrays.copyOf(references, references.length * 2);
+		}
+		references[referenceCount++] = reference;
+	}
+
+	/**
+	 * Reads the next {@code long}.
+	 *
+	 * @return The value.
+	 */
+	public long getLong() {
+		if (valueCursor == valueCount) {
+			throw new IllegalStateException("Read past the end of the snapshot");
+		}
+		return values[valueCursor++];
+	}
+
+	/**
+	 * Reads the next {@code int}.
+	 *
+	 * @return The value.
+	 */
+	public int getInt() {
+		return (int) getLong();
+	}
+
+	/**
+	 * Reads the next {@code double}.
+	 *
+	 * @return The value.
+	 */
+	public double getDouble() {
+		return Double.longBitsToDouble(getLong());
+	}
+
+	/**
+	 * Reads the next {@code boolean}.
+	 *
+	 * @return The value.
+	 */
+	public boolean getBoolean() {
+		return getLong() != 0;
+	}
+
+	/**
+	 * Reads the next object reference.
+	 *
+	 * @param <T> The type the reference was written as.
+	 * @return The reference.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getReference() {
+		if (referenceCursor == referenceCount) {
+			throw new IllegalStateException("Read past the end of the snapshot");
+		}
+		return (T) references[referenceCursor++];
+	}
+}
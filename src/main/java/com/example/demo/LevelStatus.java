@@ -0,0 +1,21 @@
+package com.example.demo;
+
+/**
+ * Represents the progress of a level.
+ * <p>A level is {@link #PLAYING} until it is won, lost or completed by moving on to the next level.
+ * Once it leaves {@code PLAYING}, the level no longer advances.</p>
+ */
+public enum LevelStatus {
+
+	/** The level is in progress. */
+	PLAYING,
+
+	/** The player has won the game in this level. */
+	WON,
+
+	/** The player's plane was destroyed. */
+	LOST,
+
+	/** The player has completed the level and moved on to the next one. */
+	ADVANCED
+}
@@ -26,15 +26,51 @@ public class LevelThree extends LevelParent {
     /** The boss enemy for this level. */
     private final Boss boss;
 
+    /** Whether the boss has already been added to the level. */
+    private boolean bossSpawned;
+
     /**
-     * Constructs a new instance of LevelThree with specified screen dimensions.
+     * Constructs a new instance of LevelThree with specified screen dimensions and a random seed.
      *
      * @param screenHeight The height of the game screen in pixels.
      * @param screenWidth  The width of the game screen in pixels.
      */
     public LevelThree(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-        boss = new Boss();
+        this(screenHeight, screenWidth, LevelRandom.newSeed());
+    }
+
+    /**
+     * Constructs a new instance of LevelThree with specified screen dimensions and random seed.
+     *
+     * @param screenHeight The height of the game screen in pixels.
+     * @param screenWidth  The width of the game screen in pixels.
+     * @param seed         The seed of the level's random number streams.
+     */
+    public LevelThree(double screenHeight, double screenWidth, long seed) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+        boss = new Boss(getBossProjectilePool(), getRandom().getBoss());
+    }
+
+    /**
+     * Writes whether the boss has been spawned and the boss's state to a snapshot.
+     *
+     * @param snapshot The snapshot to write to.
+     */
+    @Override
+    protected void saveLevelState(LevelSnapshot snapshot) {
+        snapshot.putBoolean(bossSpawned);
+        boss.saveState(snapshot);
+    }
+
+    /**
+     * Reads whether the boss has been spawned and the boss's state back from a snapshot.
+     *
+     * @param snapshot The snapshot to read from.
+     */
+    @Override
+    protected void restoreLevelState(LevelSnapshot snapshot) {
+        bossSpawned = snapshot.getBoolean();
+        boss.restoreState(snapshot);
     }
 
     /**
@@ -51,41 +87,44 @@ public class LevelThree extends LevelParent {
     }
 
     /**
-     * Initializes the player's flying unit and adds it to the game scene.
+     * Initializes the player's flying unit and adds it to the level.
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        addFriendlyUnit(getUser());
     }
 
     /**
      * Spawns enemy units randomly, maintaining up to the specified number of enemies on the screen.
-     * <p>If the player has reached the required number of kills, the boss is spawned.</p>
+     * <p>If the player has reached the required number of kills, the boss is spawned once.</p>
      */
     @Override
     protected void spawnEnemyUnits() {
+        GameRandom spawnRandom = getRandom().getSpawning();
         int currentNumberOfEnemies = getCurrentNumberOfEnemies();
         for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
+            if (spawnRandom.nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+                double newEnemyInitialYPosition = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
+                ActiveActorDestructible newEnemy = acquireEnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
                 addEnemyUnit(newEnemy);
             }
 
-            if (userHasReachedKillTarget()) {
+            if (userHasReachedKillTarget() && !bossSpawned) {
                 addEnemyUnit(boss);
+                bossSpawned = true;
             }
         }
     }
 
+
     /**
-     * Creates and configures the level's view, initializing it with the player's health display.
+     * Checks whether the boss currently has its shield activated.
      *
-     * @return A {@link LevelView} object configured for LevelThree.
+     * @return {@code true} if the boss is shielded; {@code false} otherwise.
      */
     @Override
-    protected LevelView instantiateLevelView() {
-        return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+    public boolean isShieldActive() {
+        return boss.isShielded();
     }
 
     /**
@@ -10,9 +10,6 @@ public class LevelTwo extends LevelParent {
 	/** The file path for the background image used in this level. */
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 
-	/** The fully qualified class name of the next level (LevelThree). */
-	private static final String NEXT_LEVEL = "com.example.demo.LevelThree";
-
 	/** The initial health of the player in this level. */
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 
@@ -20,42 +17,76 @@ public class LevelTwo extends LevelParent {
 	private final Boss boss;
 
 	/**
-	 * Constructs a new instance of LevelTwo with specified screen dimensions.
+	 * Constructs a new instance of LevelTwo with specified screen dimensions and a random seed.
 	 *
 	 * @param screenHeight The height of the game screen in pixels.
 	 * @param screenWidth  The width of the game screen in pixels.
 	 */
 	public LevelTwo(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-		this.boss = new Boss();
+		this(screenHeight, screenWidth, LevelRandom.newSeed());
+	}
+
+	/**
+	 * Constructs a new instance of LevelTwo with specified screen dimensions and random seed.
+	 *
+	 * @param screenHeight The height of the game screen in pixels.
+	 * @param screenWidth  The width of the game screen in pixels.
+	 * @param seed         The seed of the level's random number streams.
+	 */
+	public LevelTwo(double screenHeight, double screenWidth, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+		this.boss = new Boss(getBossProjectilePool(), getRandom().getBoss());
+	}
+
+	/**
+	 * Writes the boss's state to a snapshot, including before it has been added to the level.
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	@Override
+	protected void saveLevelState(LevelSnapshot snapshot) {
+		boss.saveState(snapshot);
+	}
+
+	/**
+	 * Reads the boss's state back from a snapshot.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	@Override
+	protected void restoreLevelState(LevelSnapshot snapshot) {
+		boss.restoreState(snapshot);
 	}
 
 	/**
 	 * Checks if the game-over conditions for this level are met.
 	 * <p>The game is lost if the player's health is depleted. The player
-	 * advances to the next level if the boss is defeated.</p>
+	 * advances to the next level if the boss is defeated. As soon as the boss has been hit,
+	 * the next level is announced so that it can be loaded in the background.</p>
 	 */
 	@Override
 	protected void checkIfGameOver() {
 		if (userIsDestroyed()) {
 			loseGame();
 		} else if (boss.isDestroyed()) {
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel();
+		} else if (boss.isDamaged()) {
+			announceNextLevel();
 		}
 	}
 
 	/**
-	 * Initializes the player's unit and adds it to the game scene.
+	 * Initializes the player's unit and adds it to the level.
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		addFriendlyUnit(getUser());
 	}
 
 	/**
 	 * Spawns enemy units in the level.
 	 * <p>Only the boss enemy is spawned in this level. If no enemies are currently present,
-	 * the boss is added to the scene.</p>
+	 * the boss is added to the level.</p>
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
@@ -64,13 +95,14 @@ public class LevelTwo extends LevelParent {
 		}
 	}
 
+
 	/**
-	 * Creates and configures the level's view object.
+	 * Checks whether the boss currently has its shield activated.
 	 *
-	 * @return A {@link LevelViewLevelTwo} object tailored for LevelTwo.
+	 * @return {@code true} if the boss is shielded; {@code false} otherwise.
 	 */
 	@Override
-	protected LevelView instantiateLevelView() {
-		return new LevelViewLevelTwo(getRoot(), PLAYER_INITIAL_HEALTH);
+	public boolean isShieldActive() {
+		return boss.isShielded();
 	}
 }
\ No newline at end of file
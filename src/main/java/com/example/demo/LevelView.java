@@ -7,6 +7,9 @@ import javafx.scene.Group;
  * <p>The {@code LevelView} class manages the display of critical UI elements, such as the player's
  * health (hearts), shields, kill count, and game-over/win screens. It interacts with the game's root
  * {@code Group} to add or remove components dynamically during gameplay.</p>
+ * <p>The hearts and the kill count are built with the view, since they are on screen from the first frame. The
+ * shield, win and game-over images are only built, and their images only decoded, when they are first shown, so
+ * that they do not delay the start of a level that may never need them.</p>
  */
 public class LevelView {
 
@@ -40,13 +43,25 @@ public class LevelView {
 	/** Y-coordinate for the game-over image. */
 	private static final int LOSS_SCREEN_Y_POSITION = 0;
 
+	/** The width the win and game-over images are fitted into. */
+	private static final double END_SCREEN_WIDTH = 1300;
+
+	/** The height the win and game-over images are fitted into. */
+	private static final double END_SCREEN_HEIGHT = 750;
+
 	private final Group root;
-	private final WinImage winImage;
-	private final GameOverImage gameOverImage;
 	private final HeartDisplay heartDisplay;
-	private final ShieldImage shieldImage;
 	private final KillCDisplay killDisplay;
 
+	/** The win image, or {@code null} until the level is won. */
+	private WinImage winImage;
+
+	/** The game-over image, or {@code null} until the level is lost. */
+	private GameOverImage gameOverImage;
+
+	/** The shield image, or {@code null} until a shield is first shown. */
+	private ShieldImage shieldImage;
+
 	/**
 	 * Constructs a {@code LevelView} instance with the specified elements to display.
 	 *
@@ -56,9 +71,6 @@ public class LevelView {
 	public LevelView(Group root, int heartsToDisplay) {
 		this.root = root;
 		this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
-		this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION, 1300, 750);
-		this.gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSITION, 1300, 750);
-		this.shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
 		this.killDisplay = new KillCDisplay(KILLC_DISPLAY_X_POSITION, KILLC_DISPLAY_Y_POSITION);
 	}
 
@@ -70,20 +82,23 @@ public class LevelView {
 	}
 
 	/**
-	 * Displays the shield image if it is not already visible and enables its visibility.
+	 * Displays the shield image, adding it to the root group the first time it is shown.
 	 */
 	public void showShields() {
-		if (!root.getChildren().contains(shieldImage)) {
+		if (shieldImage == null) {
+			shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
 			root.getChildren().add(shieldImage);
 		}
 		shieldImage.showShield();
 	}
 
 	/**
-	 * Hides the shield image from view.
+	 * Hides the shield image from view, if it has been shown.
 	 */
 	public void hideShields() {
-		shieldImage.hideShield();
+		if (shieldImage != null) {
+			shieldImage.hideShield();
+		}
 	}
 
 	/**
@@ -106,6 +121,9 @@ public class LevelView {
 	 * Displays the win screen by adding the win image to the root group and enabling its visibility.
 	 */
 	public void showWinImage() {
+		if (winImage == null) {
+			winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION, END_SCREEN_WIDTH, END_SCREEN_HEIGHT);
+		}
 		root.getChildren().add(winImage);
 		winImage.showWinImage();
 	}
@@ -114,18 +132,23 @@ public class LevelView {
 	 * Displays the game-over screen by adding the game-over image to the root group.
 	 */
 	public void showGameOverImage() {
+		if (gameOverImage == null) {
+			gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSITION, END_SCREEN_WIDTH,
+					END_SCREEN_HEIGHT);
+		}
 		root.getChildren().add(gameOverImage);
 	}
 
 	/**
-	 * Removes hearts from the health display to reflect the remaining health of the player.
+	 * Updates the health display to reflect the remaining health of the player.
+	 * <p>Only the hearts that were lost, or regained after a rollback, are touched; the others keep their
+	 * place.</p>
 	 *
 	 * @param heartsRemaining The number of hearts (health) the player currently has.
 	 */
-	public void removeHearts(int heartsRemaining) {
-		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
-		for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
-			heartDisplay.removeHeart();
+	public void updateHearts(int heartsRemaining) {
+		if (heartsRemaining != heartDisplay.getVisibleHearts()) {
+			heartDisplay.showHearts(heartsRemaining);
 		}
 	}
 }
\ No newline at end of file
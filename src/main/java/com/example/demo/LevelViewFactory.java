@@ -0,0 +1,25 @@
+package com.example.demo;
+
+import javafx.scene.Group;
+
+/**
+ * Creates the HUD of a level when the level is displayed.
+ * <p>Levels are plain simulations and do not create their own views. The JavaFX layer chooses a factory for each
+ * level and passes it to the {@link LevelScene}. View constructors taking the root and the number of hearts can be
+ * used directly as factories, for example {@code LevelViewLevelTwo::new}.</p>
+ */
+@FunctionalInterface
+public interface LevelViewFactory {
+
+	/** The factory of the view used by most levels. */
+	LevelViewFactory DEFAULT = LevelView::new;
+
+	/**
+	 * Creates the view of a level.
+	 *
+	 * @param root            The root {@link Group} the view adds its elements to.
+	 * @param heartsToDisplay The number of hearts shown at the start of the level.
+	 * @return The new view.
+	 */
+	LevelView create(Group root, int heartsToDisplay);
+}
@@ -16,7 +16,9 @@ public class LevelViewLevelTwo extends LevelView {
 	private static final int SHIELD_Y_POSITION = 500;
 
 	private final Group root;
-	private final ShieldImage shieldImage;
+
+	/** The shield image, or {@code null} until the shield is first shown. */
+	private ShieldImage shieldImage;
 
 	/**
 	 * Constructs a {@code LevelViewLevelTwo} instance with the specified root group and initial health display.
@@ -27,31 +29,28 @@ public class LevelViewLevelTwo extends LevelView {
 	public LevelViewLevelTwo(Group root, int heartsToDisplay) {
 		super(root, heartsToDisplay);
 		this.root = root;
-		this.shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
-		addImagesToRoot();
-	}
-
-	/**
-	 * Adds the shield image to the root group.
-	 * <p>This method is called during object construction to initialize the HUD elements
-	 * specific to Level Two.</p>
-	 */
-	private void addImagesToRoot() {
-		root.getChildren().addAll(shieldImage);
 	}
 
 	/**
 	 * Displays the shield on the HUD by making it visible.
+	 * <p>The shield image is built and added to the root group the first time it is shown, so that its image is
+	 * not decoded while the level is being prepared.</p>
 	 */
 	public void showShield() {
+		if (shieldImage == null) {
+			shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
+			root.getChildren().add(shieldImage);
+		}
 		shieldImage.showShield();
 	}
 
 	/**
-	 * Hides the shield on the HUD by making it invisible.
+	 * Hides the shield on the HUD by making it invisible, if it has been shown.
 	 */
 	public void hideShield() {
-		shieldImage.hideShield();
+		if (shieldImage != null) {
+			shieldImage.hideShield();
+		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.example.demo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * Displays every actor as its own {@link ActorView} node.
+ * <p>Actor views are created when the level reports a new actor and are hidden and kept for reuse when the
+ * actor leaves the level, so the scene graph does not grow with every projectile fired.</p>
+ */
+public class NodeActorRenderer implements ActorRenderer {
+
+	/** The group holding the actor views. */
+	private final Group actorLayer;
+
+	/** The view displaying each actor currently in the level. */
+	private final Map<ActiveActorDestructible, ActorView> actorViews;
+
+	/** The views that are currently bound to an actor, synchronized every frame. */
+	private final List<ActorView> boundViews;
+
+	/** The views that are hidden and ready to display another actor. */
+	private final Deque<ActorView> spareViews;
+
+	/**
+	 * Constructs a {@code NodeActorRenderer} without any views.
+	 */
+	public NodeActorRenderer() {
+		this.actorLayer = new Group();
+		this.actorViews = new IdentityHashMap<>();
+		this.boundViews = new ArrayList<>();
+		this.spareViews = new ArrayDeque<>();
+	}
+
+	/**
+	 * Retrieves the group holding the actor views.
+	 *
+	 * @return The actor layer.
+	 */
+	@Override
+	public Node getNode() {
+		return actorLayer;
+	}
+
+	/**
+	 * Creates a view for an actor that has entered the level.
+	 *
+	 * @param actor The actor that was added.
+	 */
+	@Override
+	public void actorAdded(ActiveActorDestructible actor) {
+		ActorView view = spareViews.poll();
+		if (view == null) {
+			view = new ActorView();
+			actorLayer.getChildren().add(view);
+		}
+		view.bind(actor);
+		view.setIndex(boundViews.size());
+		boundViews.add(view);
+		actorViews.put(actor, view);
+	}
+
+	/**
+	 * Hides the view of an actor that has left the level and keeps it for reuse.
+	 *
+	 * @param actor The actor that was removed.
+	 */
+	@Override
+	public void actorRemoved(ActiveActorDestructible actor) {
+		ActorView view = actorViews.remove(actor);
+		if (view == null) {
+			return;
+		}
+		int index = view.getIndex();
+		ActorView last = boundViews.remove(boundViews.size() - 1);
+		if (last != view) {
+			boundViews.set(index, last);
+			last.setIndex(index);
+		}
+		view.unbind();
+		spareViews.push(view);
+	}
+
+	/**
+	 * Copies the interpolated position of every actor into its view.
+	 *
+	 * @param alpha How far the frame lies between the previous tick ({@code 0}) and the latest tick ({@code 1}).
+	 */
+	@Override
+	public void render(double alpha) {
+		for (int i = 0; i < boundViews.size(); i++) {
+			boundViews.get(i).synchronize(alpha);
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package com.example.demo;
+
+import java.util.Locale;
+
+import javafx.scene.Group;
+import javafx.scene.control.Label;
+
+/**
+ * Measures the frame rate and tick durations of a displayed level and can show them on screen.
+ * <p>{@link LevelScene} reports every tick and every frame to its {@code PerformanceReadout}. The durations are
+ * counted in {@link LatencyHistogram}s for the whole time the level is displayed, which costs a few arithmetic
+ * operations per tick and frame and no allocation. When shown, the readout displays the frames and ticks per
+ * second, the 99th percentile tick duration and the number of actors, refreshed a few times per second like
+ * the {@link DebugOverlay}. {@link #getSummary()} describes the whole run, for example at the end of a
+ * {@link StressLevel}.</p>
+ */
+public class PerformanceReadout {
+
+	/** X-coordinate of the readout. */
+	private static final double X_POSITION = 5;
+
+	/** Y-coordinate of the readout, where the normal levels show their hearts. */
+	private static final double Y_POSITION = 25;
+
+	/** The minimum time between two refreshes of the text, in nanoseconds. */
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+	/** The number of nanoseconds in one second. */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/** The number of nanoseconds in one millisecond. */
+	private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+	/** The root group the readout is added to. */
+	private final Group root;
+
+	/** The label holding the figures. */
+	private final Label label;
+
+	/** The time between consecutive frames. */
+	private final LatencyHistogram frameTimes;
+
+	/** The time taken by each tick. */
+	private final LatencyHistogram tickTimes;
+
+	/** Whether the readout is currently displayed. */
+	private boolean showing;
+
+	/** The time of the first frame in nanoseconds, or {@code 0} before the first frame. */
+	private long firstFrameTime;
+
+	/** The time of the latest frame in nanoseconds. */
+	private long lastFrameTime;
+
+	/** The largest number of actors seen in a frame. */
+	private int peakActorCount;
+
+	/** The time of the last refresh of the text, in nanoseconds. */
+	private long lastRefreshTime;
+
+	/** The number of frames counted at the last refresh. */
+	private long framesAtLastRefresh;
+
+	/** The number of ticks counted at the last refresh. */
+	private long ticksAtLastRefresh;
+
+	/**
+	 * Constructs a hidden {@code PerformanceReadout} without measurements.
+	 *
+	 * @param root The root {@link Group} the readout is added to when shown.
+	 */
+	public PerformanceReadout(Group root) {
+		this.root = root;
+		this.label = new Label();
+		this.frameTimes = new LatencyHistogram();
+		this.tickTimes = new LatencyHistogram();
+		label.setLayoutX(X_POSITION);
+		label.setLayoutY(Y_POSITION);
+		label.setMouseTransparent(true);
+		label.setStyle("-fx-font-family: monospace; -fx-font-size: 16px; -fx-text-fill: white; "
+				+ "-fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 6;");
+	}
+
+	/**
+	 * Displays the readout. Does nothing if it is already shown.
+	 */
+	public void show() {
+		if (!showing) {
+			showing = true;
+			root.getChildren().add(label);
+		}
+	}
+
+	/**
+	 * Counts the duration of one tick.
+	 *
+	 * @param nanos The time the tick took, in nanoseconds.
+	 */
+	public void tickCompleted(long nanos) {
+		tickTimes.record(nanos);
+	}
+
+	/**
+	 * Counts a frame and refreshes the displayed figures if the readout is shown and the refresh interval has
+	 * passed.
+	 *
+	 * @param now        The time of the frame in nanoseconds.
+	 * @param actorCount The number of actors drawn in the frame.
+	 */
+	public void frameRendered(long now, int actorCount) {
+		if (firstFrameTime == 0) {
+			firstFrameTime = now;
+			lastRefreshTime = now;
+		} else {
+			frameTimes.record(now - lastFrameTime);
+		}
+		lastFrameTime = now;
+		peakActorCount = Math.max(peakActorCount, actorCount);
+		if (!showing || now - lastRefreshTime < REFRESH_INTERVAL_NANOS) {
+			return;
+		}
+		double seconds = (now - lastRefreshTime) / NANOS_PER_SECOND;
+		label.toFront();
+		label.setText(String.format(Locale.ROOT, "FPS %5.1f  TPS %5.1f  tick p99 %6.2f ms  actors %d",
+				(frameTimes.getCount() - framesAtLastRefresh) / seconds,
+				(tickTimes.getCount() - ticksAtLastRefresh) / seconds,
+				tickTimes.getPercentile(99) / NANOS_PER_MILLISECOND, actorCount));
+		lastRefreshTime = now;
+		framesAtLastRefresh = frameTimes.getCount();
+		ticksAtLastRefresh = tickTimes.getCount();
+	}
+
+	/**
+	 * Retrieves the time between consecutive frames counted so far.
+	 *
+	 * @return The frame time histogram.
+	 */
+	public LatencyHistogram getFrameTimes() {
+		return frameTimes;
+	}
+
+	/**
+	 * Retrieves the tick durations counted so far.
+	 *
+	 * @return The tick duration histogram.
+	 */
+	public LatencyHistogram getTickTimes() {
+		return tickTimes;
+	}
+
+	/**
+	 * Describes every frame and tick counted so far.
+	 *
+	 * @return The elapsed time, frame rate, frame and tick duration percentiles and peak actor count, one
+	 *         figure per line.
+	 */
+	public String getSummary() {
+		double seconds = (lastFrameTime - firstFrameTime) / NANOS_PER_SECOND;
+		StringBuilder summary = new StringBuilder();
+		summary.append(String.format(Locale.ROOT, "elapsed      %10.2f s%n", seconds));
+		summary.append(String.format(Locale.ROOT, "frames       %10d (%.1f FPS)%n", frameTimes.getCount(),
+				seconds > 0 ? frameTimes.getCount() / seconds : 0));
+		appendDurations(summary, "frame time", frameTimes);
+		summary.append(String.format(Locale.ROOT, "ticks        %10d (%.1f TPS)%n", tickTimes.getCount(),
+				seconds > 0 ? tickTimes.getCount() / seconds : 0));
+		appendDurations(summary, "tick time", tickTimes);
+		summary.append(String.format(Locale.ROOT, "peak actors  %10d", peakActorCount));
+		return summary.toString();
+	}
+
+	/**
+	 * Appends the mean, percentiles and maximum of a histogram to a summary.
+	 *
+	 * @param summary   The summary being built.
+	 * @param name      The name of the measured duration.
+	 * @param histogram The durations.
+	 */
+	private static void appendDurations(StringBuilder summary, String name, LatencyHistogram histogram) {
+		summary.append(String.format(Locale.ROOT, "%-12s mean %.2f  p50 %.2f  p99 %.2f  max %.2f ms%n", name,
+				histogram.getMeanNanos() / NANOS_PER_MILLISECOND,
+				histogram.getPercentile(50) / NANOS_PER_MILLISECOND,
+				histogram.getPercentile(99) / NANOS_PER_MILLISECOND,
+				histogram.getMaxNanos() / NANOS_PER_MILLISECOND));
+	}
+}
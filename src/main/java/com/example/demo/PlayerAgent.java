@@ -0,0 +1,72 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays a level in place of a human player by applying {@link PlayerCommand}s before each tick.
+ * <p>Agents let levels be played headlessly, for example by the {@link BatchSimulator}. An agent only sees
+ * the level through its public methods and decides what to do from the tick count and its own state.</p>
+ */
+@FunctionalInterface
+public interface PlayerAgent {
+
+	/** The number of ticks between two shots of the scripted agent. */
+	int SCRIPTED_FIRE_INTERVAL = 3;
+
+	/** The number of ticks the scripted agent moves in one direction before it turns around. */
+	int SCRIPTED_SWEEP_TICKS = 20;
+
+	/** The probability of the random agent firing before a tick. */
+	double RANDOM_FIRE_PROBABILITY = 0.3;
+
+	/** The probability of the random agent changing its movement before a tick. */
+	double RANDOM_MOVE_PROBABILITY = 0.05;
+
+	/**
+	 * Applies the commands the agent chooses for the next tick of a level.
+	 *
+	 * @param level The level about to be ticked.
+	 */
+	void act(LevelParent level);
+
+	/**
+	 * Creates an agent that fires at a steady rate and sweeps up and down the screen.
+	 * <p>The scripted agent keeps no state, so one instance may play any number of levels at once.</p>
+	 *
+	 * @return The scripted agent.
+	 */
+	static PlayerAgent scripted() {
+		return level -> {
+			long tick = level.getTickCount();
+			if (tick % SCRIPTED_FIRE_INTERVAL == 0) {
+				level.applyCommand(PlayerCommand.FIRE);
+			}
+			if (tick % (2 * SCRIPTED_SWEEP_TICKS) == 0) {
+				level.applyCommand(PlayerCommand.MOVE_UP);
+			} else if (tick % (2 * SCRIPTED_SWEEP_TICKS) == SCRIPTED_SWEEP_TICKS) {
+				level.applyCommand(PlayerCommand.MOVE_DOWN);
+			}
+		};
+	}
+
+	/**
+	 * Creates an agent that fires and changes direction at random.
+	 * <p>The random agent owns its random number stream, so every level played at the same time needs its own
+	 * instance. The same seed always produces the same sequence of commands.</p>
+	 *
+	 * @param seed The seed of the agent's random number stream.
+	 * @return A new random agent.
+	 */
+	static PlayerAgent random(long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		PlayerCommand[] moves = {PlayerCommand.MOVE_UP, PlayerCommand.MOVE_DOWN, PlayerCommand.STOP};
+		return level -> {
+			if (random.nextDouble() < RANDOM_FIRE_PROBABILITY) {
+				level.applyCommand(PlayerCommand.FIRE);
+			}
+			if (random.nextDouble() < RANDOM_MOVE_PROBABILITY) {
+				level.applyCommand(moves[random.nextInt(moves.length)]);
+			}
+		};
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.demo;
+
+/**
+ * Represents a command issued by the player to their plane.
+ * <p>The JavaFX layer translates key presses into {@code PlayerCommand}s, which keeps the game rules
+ * independent of the input device and lets input be supplied without a keyboard.</p>
+ */
+public enum PlayerCommand {
+
+	/** Starts moving the plane upwards. */
+	MOVE_UP,
+
+	/** Starts moving the plane downwards. */
+	MOVE_DOWN,
+
+	/** Stops the plane's vertical movement. */
+	STOP,
+
+	/** Fires a projectile from the plane. */
+	FIRE
+}
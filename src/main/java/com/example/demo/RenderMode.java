@@ -0,0 +1,20 @@
+package com.example.demo;
+
+/**
+ * Selects how {@link LevelScene} draws the actors of a level.
+ */
+public enum RenderMode {
+
+	/**
+	 * Every actor is displayed by its own {@link ActorView} node in the scene graph. Nodes are reused, but each
+	 * visible actor still takes part in CSS, bounds and dirty-region processing.
+	 */
+	NODES,
+
+	/**
+	 * All actors are drawn onto a single {@link javafx.scene.canvas.Canvas} every frame, grouped by sprite. The
+	 * scene graph holds one node for the actors however many there are, which suits levels with thousands of
+	 * projectiles on screen.
+	 */
+	CANVAS
+}
@@ -0,0 +1,65 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Replays a recorded session headlessly at full speed and reports how each level performed.
+ * <p>Every recorded level is recreated from its identifier in the {@link LevelRegistry}, its seed and its
+ * screen size and driven by its recorded commands without a JavaFX toolkit or game loop, so a long session
+ * replays in a fraction of the time it took to play. For each level the outcome and the wall-clock time are printed, together with the p50 and p99
+ * duration of every tick phase over its last {@value TickProfiler#WINDOW_SIZE} ticks and its peak duration
+ * over the whole level, which makes a stutter reported from a real session reproducible offline.</p>
+ * <p>Usage: {@code ReplayRunner <recording file>}</p>
+ */
+public class ReplayRunner {
+
+	/** The number of nanoseconds in one millisecond. */
+	private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+	private ReplayRunner() {
+	}
+
+	/**
+	 * Replays the recording named on the command line.
+	 *
+	 * @param args The path of the recording file.
+	 * @throws IOException If the recording cannot be read.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.err.println("Usage: ReplayRunner <recording file>");
+			System.exit(2);
+		}
+		InputReplay replay = InputReplay.read(Path.of(args[0]));
+		LevelRegistry registry = LevelRegistry.createDefault();
+		for (InputReplay.LevelRecording recording : replay.getLevels()) {
+			LevelParent level = registry.create(recording.getLevelId(), recording.getScreenHeight(),
+					recording.getScreenWidth(), recording.getSeed());
+			long startTime = System.nanoTime();
+			recording.replayInto(level);
+			long elapsed = System.nanoTime() - startTime;
+			report(recording, level, elapsed);
+		}
+	}
+
+	private static void report(InputReplay.LevelRecording recording, LevelParent level, long elapsedNanos) {
+		System.out.printf(Locale.ROOT, "%s seed=%d commands=%d ticks=%d/%s status=%s time=%.1f ms%n",
+				recording.getLevelId(), recording.getSeed(), recording.getCommandCount(),
+				level.getTickCount(),
+				recording.getTickCount() == InputReplay.LevelRecording.INCOMPLETE ? "incomplete"
+						: Long.toString(recording.getTickCount()),
+				level.getStatus(), elapsedNanos / NANOS_PER_MILLISECOND);
+		TickProfiler profiler = level.getProfiler();
+		for (TickPhase phase : TickPhase.values()) {
+			if (profiler.getSampleCount(phase) == 0) {
+				continue;
+			}
+			System.out.printf(Locale.ROOT, "  %-12s p50=%8.3f p99=%8.3f peak=%8.3f ms%n", phase.getLabel(),
+					profiler.getPercentile(phase, 50) / NANOS_PER_MILLISECOND,
+					profiler.getPercentile(phase, 99) / NANOS_PER_MILLISECOND,
+					profiler.getPeak(phase) / NANOS_PER_MILLISECOND);
+		}
+	}
+}
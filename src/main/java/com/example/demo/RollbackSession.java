@@ -0,0 +1,353 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Plays a level for two players on two machines, or two processes, with rollback networking.
+ * <p>Each peer runs the complete simulation. Before every tick the session applies both players' input for that
+ * tick, first player first, so that both peers compute the same level. The local player's input is known at once
+ * and sent to the other peer; the remote player's input arrives later, so the session predicts that the remote
+ * player issues no new command: their plane keeps moving as it was and does not fire. The level is saved in a
+ * {@link LevelSnapshot} before every tick. When the remote input for a tick that has already been simulated
+ * turns out to differ from the prediction, the session restores the snapshot taken before that tick and simulates
+ * the ticks up to the present again with the corrected input.</p>
+ * <p>The session never runs more than {@value #MAX_ROLLBACK_TICKS} ticks ahead of the last remote input it has
+ * received. If the other peer falls further behind, the session waits for it instead of advancing, which also
+ * keeps the two peers' clocks together. A rollback therefore restores one snapshot and simulates at most
+ * {@value #MAX_ROLLBACK_TICKS} ticks, all within one call to {@link #advance()}; the time this takes is recorded
+ * in {@link #getRollbackTimes()}.</p>
+ * <p>A level that ends on a predicted tick may still be rolled back, so the level's end is deferred and only
+ * published once the remote input for every tick up to the end has arrived.</p>
+ * <p>An input is one byte: the last movement command issued during the tick and whether the player fired. The
+ * session is used by the thread that plays the game and is not thread-safe.</p>
+ */
+public final class RollbackSession {
+
+	/** The largest number of ticks that are simulated again when late input arrives. */
+	public static final int MAX_ROLLBACK_TICKS = 8;
+
+	/** The number of snapshots kept, a power of two above {@link #MAX_ROLLBACK_TICKS}. */
+	private static final int SNAPSHOT_COUNT = 16;
+
+	/** The number of inputs of each player kept, a power of two; bounds the inputs not yet acknowledged. */
+	private static final int INPUT_HISTORY = UdpPeer.MAX_INPUTS_PER_PACKET;
+
+	/** The bits of an input that hold its movement command. */
+	private static final int MOVE_MASK = 3;
+
+	/** The movement bits of an input that moves the plane up. */
+	private static final byte MOVE_UP = 1;
+
+	/** The movement bits of an input that moves the plane down. */
+	private static final byte MOVE_DOWN = 2;
+
+	/** The movement bits of an input that stops the plane. */
+	private static final byte STOP = 3;
+
+	/** The bit of an input that fires a projectile. */
+	private static final byte FIRE = 4;
+
+	/** The input predicted for the remote player: no new command. */
+	private static final byte NO_INPUT = 0;
+
+	/** The number of times the last inputs are sent when the level ends, in case a datagram is lost. */
+	private static final int FINAL_PACKET_REPEATS = 5;
+
+	/** The level played by both peers. */
+	private final LevelParent level;
+
+	/** The connection to the other peer. */
+	private final UdpPeer peer;
+
+	/** The local player: {@code 0} for the first player, {@code 1} for the second. */
+	private final int localPlayer;
+
+	/** The number of the level in the game, so that late datagrams of a previous level are ignored. */
+	private final int levelNumber;
+
+	/** The level as it was before each of the last ticks, indexed by tick. */
+	private final LevelSnapshot[] snapshots;
+
+	/** The local player's inputs, indexed by tick. */
+	private final byte[] localInputs;
+
+	/** The remote player's inputs, received or predicted, indexed by tick. */
+	private final byte[] remoteInputs;
+
+	/** Handles the inputs received from the other peer. */
+	private final UdpPeer.InputHandler inputHandler;
+
+	/** The time taken by each rollback, from restoring the snapshot to catching up with the present. */
+	private final LatencyHistogram rollbackTimes;
+
+	/** The input collected from the local player for the next tick. */
+	private byte pendingInput;
+
+	/** The next tick to simulate. */
+	private int nextTick;
+
+	/** The last tick for which the remote input has been received, with all ticks before it. */
+	private int confirmedRemoteTick;
+
+	/** The last tick of the local player's inputs the other peer has acknowledged. */
+	private int acknowledgedLocalTick;
+
+	/** The earliest simulated tick whose remote input turned out to be mispredicted, or {@code -1}. */
+	private int mispredictedTick;
+
+	/** The number of ticks simulated again because of late input. */
+	private long resimulatedTicks;
+
+	/** The number of calls to {@link #advance()} that waited for the other peer instead of simulating a tick. */
+	private long stalledTicks;
+
+	/** Whether the end of the level has been confirmed and published. */
+	private boolean finished;
+
+	/**
+	 * Constructs a {@code RollbackSession} for a level about to be played.
+	 * <p>The level must have a second player and must defer its end, and must not have been ticked yet.</p>
+	 *
+	 * @param level       The level, with {@link LevelParent#enableSecondPlayer()} and
+	 *                    {@link LevelParent#setCompletionDeferred(boolean)} applied.
+	 * @param peer        The connection to the other peer.
+	 * @param levelNumber The number of the level counted from the start of the game, the same on both peers.
+	 */
+	public RollbackSession(LevelParent level, UdpPeer peer, int levelNumber) {
+		if (!level.hasSecondPlayer()) {
+			throw new IllegalArgumentException("The level has no second player");
+		}
+		this.level = level;
+		this.peer = peer;
+		this.localPlayer = peer.getLocalPlayer();
+		this.levelNumber = levelNumber;
+		this.snapshots = new LevelSnapshot[SNAPSHOT_COUNT];
+		for (int i = 0; i < SNAPSHOT_COUNT; i++) {
+			snapshots[i] = new LevelSnapshot();
+		}
+		this.localInputs = new byte[INPUT_HISTORY];
+		this.remoteInputs = new byte[INPUT_HISTORY];
+		this.inputHandler = this::inputsReceived;
+		this.rollbackTimes = new LatencyHistogram();
+		this.confirmedRemoteTick = -1;
+		this.acknowledgedLocalTick = -1;
+		this.mispredictedTick = -1;
+	}
+
+	/**
+	 * Collects a command from the local player for the next tick.
+	 * <p>If several movement commands are issued before a tick, only the last one is kept.</p>
+	 *
+	 * @param command The command.
+	 */
+	public void queueCommand(PlayerCommand command) {
+		switch (command) {
+			case MOVE_UP -> pendingInput = (byte) ((pendingInput & ~MOVE_MASK) | MOVE_UP);
+			case MOVE_DOWN -> pendingInput = (byte) ((pendingInput & ~MOVE_MASK) | MOVE_DOWN);
+			case STOP -> pendingInput = (byte) ((pendingInput & ~MOVE_MASK) | STOP);
+			case FIRE -> pendingInput = (byte) (pendingInput | FIRE);
+		}
+	}
+
+	/**
+	 * Advances the session by one step of the game loop.
+	 * <p>Receives the remote inputs that have arrived and rolls back if one was mispredicted, then simulates the
+	 * next tick with the local input collected since the last call, unless the other peer is too far behind.
+	 * Finally it sends the local inputs the other peer has not acknowledged, and publishes the end of the level
+	 * once it is confirmed.</p>
+	 *
+	 * @throws UncheckedIOException If the connection to the other peer fails.
+	 */
+	public void advance() {
+		if (finished) {
+			return;
+		}
+		try {
+			peer.receive(inputHandler);
+			if (mispredictedTick >= 0) {
+				rollBack();
+			}
+			if (canSimulateNextTick()) {
+				localInputs[nextTick & (INPUT_HISTORY - 1)] = pendingInput;
+				pendingInput = NO_INPUT;
+				simulate(nextTick++);
+			} else {
+				stalledTicks++;
+			}
+			sendInputs();
+			if (level.getStatus() != LevelStatus.PLAYING && confirmedRemoteTick >= level.getTickCount() - 1) {
+				finished = true;
+				for (int i = 1; i < FINAL_PACKET_REPEATS; i++) {
+					sendInputs();
+				}
+				level.publishCompletion();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Connection to the other player failed", e);
+		}
+	}
+
+	/**
+	 * Checks whether the next tick may be simulated without getting too far ahead of the other peer.
+	 *
+	 * @return {@code true} if the remote input is known for all but the last {@value #MAX_ROLLBACK_TICKS} ticks and
+	 *         every local input not yet acknowledged still fits into the history.
+	 */
+	private boolean canSimulateNextTick() {
+		return nextTick - confirmedRemoteTick <= MAX_ROLLBACK_TICKS && nextTick - acknowledgedLocalTick < INPUT_HISTORY;
+	}
+
+	/**
+	 * Saves the level and simulates one tick with both players' inputs.
+	 * <p>Once the level has ended, inputs are no longer applied, but ticks are still counted so that the end can
+	 * be rolled back if it was reached with mispredicted input.</p>
+	 *
+	 * @param tick The tick to simulate.
+	 */
+	private void simulate(int tick) {
+		level.saveSnapshot(snapshots[tick & (SNAPSHOT_COUNT - 1)]);
+		if (tick > confirmedRemoteTick) {
+			remoteInputs[tick & (INPUT_HISTORY - 1)] = NO_INPUT;
+		}
+		if (level.getStatus() != LevelStatus.PLAYING) {
+			return;
+		}
+		byte localInput = localInputs[tick & (INPUT_HISTORY - 1)];
+		byte remoteInput = remoteInputs[tick & (INPUT_HISTORY - 1)];
+		applyInput(0, localPlayer == 0 ? localInput : remoteInput);
+		applyInput(1, localPlayer == 1 ? localInput : remoteInput);
+		level.tick();
+	}
+
+	/**
+	 * Restores the level to before the earliest mispredicted tick and simulates it again up to the present.
+	 */
+	private void rollBack() {
+		long startTime = System.nanoTime();
+		int firstTick = mispredictedTick;
+		mispredictedTick = -1;
+		level.restoreSnapshot(snapshots[firstTick & (SNAPSHOT_COUNT - 1)]);
+		for (int tick = firstTick; tick < nextTick; tick++) {
+			simulate(tick);
+		}
+		resimulatedTicks += nextTick - firstTick;
+		rollbackTimes.record(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Applies one player's input for a tick to the level.
+	 *
+	 * @param player The player.
+	 * @param input  The player's input.
+	 */
+	private void applyInput(int player, byte input) {
+		switch (input & MOVE_MASK) {
+			case MOVE_UP -> level.applyCommand(player, PlayerCommand.MOVE_UP);
+			case MOVE_DOWN -> level.applyCommand(player, PlayerCommand.MOVE_DOWN);
+			case STOP -> level.applyCommand(player, PlayerCommand.STOP);
+			default -> {
+			}
+		}
+		if ((input & FIRE) != 0) {
+			level.applyCommand(player, PlayerCommand.FIRE);
+		}
+	}
+
+	/**
+	 * Stores the remote inputs carried by a datagram and notes the earliest one that was mispredicted.
+	 * <p>Inputs are only taken in order: a run that starts after a gap is ignored until the gap has been filled
+	 * by a later datagram, which repeats every input that has not been acknowledged.</p>
+	 *
+	 * @param levelNumber The number of the level the inputs belong to.
+	 * @param ackTick     The last tick of the local inputs the other peer has received.
+	 * @param firstTick   The tick of the first input.
+	 * @param inputs      The inputs.
+	 */
+	private void inputsReceived(int levelNumber, int ackTick, int firstTick, ByteBuffer inputs) {
+		if (levelNumber != this.levelNumber) {
+			return;
+		}
+		acknowledgedLocalTick = Math.max(acknowledgedLocalTick, Math.min(ackTick, nextTick - 1));
+		int tick = firstTick;
+		while (inputs.hasRemaining()) {
+			byte input = inputs.get();
+			if (tick == confirmedRemoteTick + 1 && tick - nextTick < INPUT_HISTORY) {
+				int index = tick & (INPUT_HISTORY - 1);
+				if (tick < nextTick && remoteInputs[index] != input
+						&& (mispredictedTick < 0 || tick < mispredictedTick)) {
+					mispredictedTick = tick;
+				}
+				remoteInputs[index] = input;
+				confirmedRemoteTick = tick;
+			}
+			tick++;
+		}
+	}
+
+	/**
+	 * Sends every local input the other peer has not acknowledged yet.
+	 *
+	 * @throws IOException If the datagram cannot be sent.
+	 */
+	private void sendInputs() throws IOException {
+		int firstTick = acknowledgedLocalTick + 1;
+		peer.sendInputs(levelNumber, confirmedRemoteTick, firstTick, nextTick - firstTick, localInputs,
+				INPUT_HISTORY - 1);
+	}
+
+	/**
+	 * Retrieves the number of ticks simulated so far, not counting ticks simulated again.
+	 *
+	 * @return The next tick to simulate.
+	 */
+	public int getTick() {
+		return nextTick;
+	}
+
+	/**
+	 * Retrieves the last tick for which the remote player's input has arrived.
+	 *
+	 * @return The last confirmed tick, or {@code -1} if no remote input has arrived yet.
+	 */
+	public int getConfirmedTick() {
+		return confirmedRemoteTick;
+	}
+
+	/**
+	 * Retrieves the time taken by each rollback, from restoring the snapshot to catching up with the present.
+	 *
+	 * @return The rollback durations recorded so far; the number of rollbacks is its count.
+	 */
+	public LatencyHistogram getRollbackTimes() {
+		return rollbackTimes;
+	}
+
+	/**
+	 * Retrieves the number of ticks simulated again because of late input.
+	 *
+	 * @return The number of ticks simulated again.
+	 */
+	public long getResimulatedTicks() {
+		return resimulatedTicks;
+	}
+
+	/**
+	 * Retrieves the number of steps that waited for the other peer instead of simulating a tick.
+	 *
+	 * @return The number of stalled steps.
+	 */
+	public long getStalledTicks() {
+		return stalledTicks;
+	}
+
+	/**
+	 * Checks whether the end of the level has been confirmed by both players' input and published.
+	 *
+	 * @return {@code true} once the session has finished.
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+}
@@ -0,0 +1,381 @@
+package com.example.demo;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs many independent headless {@link GameSession}s in one JVM, each on its own virtual thread.
+ * <p>Every session owns its levels, and therefore its actor lists and random number streams, and keeps its
+ * own tick clock: it plays a tick, then sleeps until the next tick is due. A sleeping virtual thread does not
+ * hold an operating system thread, so thousands of sessions share a carrier thread per core and each core
+ * runs as many ticks as it can fit. What never changes is shared: the {@link LevelRegistry} and the
+ * {@link CollisionMask}s of the sprites are built once per JVM rather than once per session.</p>
+ * <p>The host measures how long each tick takes and how late it started compared to its session's clock.
+ * Sessions record into a small set of shared {@link LatencyHistogram}s, picked by session identifier and
+ * locked only for the update, so the metrics cost a few bytes per session rather than a histogram each. A
+ * tick rate of {@code 0} lets every session tick as fast as it can, yielding between ticks.</p>
+ * <p>Usage: {@code SessionHost <sessions> <seconds> [ticks per second]} keeps the given number of sessions
+ * with scripted players running for the given time, replacing each session that ends, and prints the metrics
+ * every second.</p>
+ */
+public class SessionHost implements AutoCloseable {
+
+	/** The default number of ticks per second of each session, as in the game. */
+	public static final int DEFAULT_TICKS_PER_SECOND = LevelScene.DEFAULT_TICKS_PER_SECOND;
+
+	/** The width of the simulated screen in pixels, as in the game. */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The height of the simulated screen in pixels, as in the game. */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** The number of ticks a session may fall behind its clock before it skips them instead of catching up. */
+	private static final int MAX_CATCH_UP_TICKS = LevelScene.DEFAULT_MAX_CATCH_UP_TICKS;
+
+	/** How long {@link #close()} waits for the sessions' threads to finish. */
+	private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+	/** The number of shared histograms per core that sessions record into. */
+	private static final int HISTOGRAM_STRIPES_PER_CORE = 4;
+
+	/** The number of nanoseconds in one second. */
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	/** The number of nanoseconds in one millisecond. */
+	private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+	/** Creates the levels of every session. */
+	private final LevelRegistry registry;
+
+	/** The time between two ticks of a session in nanoseconds, or {@code 0} to tick as fast as possible. */
+	private final long tickIntervalNanos;
+
+	/** The sessions that are running, by identifier. */
+	private final Map<Long, GameSession> sessions;
+
+	/** The threads of the running sessions, by session identifier. */
+	private final Map<Long, Thread> threads;
+
+	/** Hands out session identifiers. */
+	private final AtomicLong nextSessionId;
+
+	/** The number of ticks played by all sessions. */
+	private final LongAdder tickCount;
+
+	/** Whether the host has been closed, after which no session may start. */
+	private boolean closed;
+
+	/** The durations of the ticks, striped by session. */
+	private final LatencyHistogram[] tickTimes;
+
+	/** How late each tick started compared to its session's clock, striped by session. */
+	private final LatencyHistogram[] tickLateness;
+
+	/**
+	 * Constructs a {@code SessionHost} without sessions.
+	 *
+	 * @param registry       Creates the levels of every session. It must not be changed once sessions run.
+	 * @param ticksPerSecond The tick rate of every session, or {@code 0} to tick as fast as possible.
+	 */
+	public SessionHost(LevelRegistry registry, int ticksPerSecond) {
+		if (ticksPerSecond < 0) {
+			throw new IllegalArgumentException("Tick rate must not be negative: " + ticksPerSecond);
+		}
+		this.registry = registry;
+		this.tickIntervalNanos = ticksPerSecond == 0 ? 0 : NANOS_PER_SECOND / ticksPerSecond;
+		this.sessions = new ConcurrentHashMap<>();
+		this.threads = new ConcurrentHashMap<>();
+		this.nextSessionId = new AtomicLong();
+		this.tickCount = new LongAdder();
+		int stripes = Runtime.getRuntime().availableProcessors() * HISTOGRAM_STRIPES_PER_CORE;
+		this.tickTimes = new LatencyHistogram[stripes];
+		this.tickLateness = new LatencyHistogram[stripes];
+		for (int i = 0; i < stripes; i++) {
+			tickTimes[i] = new LatencyHistogram();
+			tickLateness[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * Keeps sessions with scripted players running and prints the host's metrics every second.
+	 *
+	 * @param args The number of sessions, the number of seconds to run and optionally the tick rate.
+	 * @throws InterruptedException If interrupted while running.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		if (args.length < 2 || args.length > 3) {
+			System.err.println("Usage: SessionHost <sessions> <seconds> [ticks per second]");
+			System.exit(2);
+		}
+		int sessionCount = Integer.parseInt(args[0]);
+		int seconds = Integer.parseInt(args[1]);
+		int ticksPerSecond = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TICKS_PER_SECOND;
+		SplittableRandom seeds = new SplittableRandom(LevelRandom.newSeed());
+		try (SessionHost host = new SessionHost(LevelRegistry.createDefault(), ticksPerSecond)) {
+			for (int i = 0; i < sessionCount; i++) {
+				keepRunning(host, seeds.split());
+			}
+			for (int second = 1; second <= seconds; second++) {
+				long ticksBefore = host.getTickCount();
+				Thread.sleep(Duration.ofSeconds(1));
+				LatencyHistogram times = host.drainTickTimes();
+				LatencyHistogram lateness = host.drainTickLateness();
+				System.out.printf(Locale.ROOT, "%3d s  sessions %d (%.1f per core)  ticks/s %d  "
+						+ "tick p50 %.3f p99 %.3f max %.3f ms  late p99 %.3f ms%n", second,
+						host.getSessionCount(), host.getSessionsPerCore(), host.getTickCount() - ticksBefore,
+						times.getPercentile(50) / NANOS_PER_MILLISECOND,
+						times.getPercentile(99) / NANOS_PER_MILLISECOND,
+						times.getMaxNanos() / NANOS_PER_MILLISECOND,
+						lateness.getPercentile(99) / NANOS_PER_MILLISECOND);
+			}
+		}
+	}
+
+	/**
+	 * Starts a session and starts another one whenever it ends, until the host is closed.
+	 *
+	 * @param host  The host to run the sessions on.
+	 * @param seeds The random stream the sessions' seeds are drawn from; used by one chain of sessions only.
+	 */
+	private static void keepRunning(SessionHost host, SplittableRandom seeds) {
+		GameSession session = host.startIfOpen(BuiltInLevels.LEVEL_ONE, seeds.nextLong(), PlayerAgent.scripted());
+		if (session != null) {
+			session.getCompletion().whenComplete((status, failure) -> keepRunning(host, seeds));
+		}
+	}
+
+	/**
+	 * Starts a session on a new virtual thread.
+	 *
+	 * @param firstLevelId The registry identifier of the level the session starts at.
+	 * @param seed         The seed the session's level seeds are drawn from.
+	 * @param agent        The player of the session. It is only called from the session's thread.
+	 * @return The running session.
+	 * @throws IllegalArgumentException If the level is not registered.
+	 * @throws IllegalStateException    If the host has been closed.
+	 */
+	public GameSession start(String firstLevelId, long seed, PlayerAgent agent) {
+		GameSession session = startIfOpen(firstLevelId, seed, agent);
+		if (session == null) {
+			throw new IllegalStateException("The session host has been closed");
+		}
+		return session;
+	}
+
+	/**
+	 * Starts a session on a new virtual thread unless the host has been closed.
+	 *
+	 * @param firstLevelId The registry identifier of the level the session starts at.
+	 * @param seed         The seed the session's level seeds are drawn from.
+	 * @param agent        The player of the session.
+	 * @return The running session, or {@code null} if the host has been closed.
+	 * @throws IllegalArgumentException If the level is not registered.
+	 */
+	private synchronized GameSession startIfOpen(String firstLevelId, long seed, PlayerAgent agent) {
+		registry.get(firstLevelId);
+		if (closed) {
+			return null;
+		}
+		GameSession session = new GameSession(nextSessionId.getAndIncrement(), firstLevelId, seed);
+		Thread thread = Thread.ofVirtual().name("session-" + session.getId())
+				.unstarted(() -> run(session, agent));
+		sessions.put(session.getId(), session);
+		threads.put(session.getId(), thread);
+		thread.start();
+		return session;
+	}
+
+	/**
+	 * Plays a session to the end on the calling thread.
+	 *
+	 * @param session The session to play.
+	 * @param agent   The player of the session.
+	 */
+	private void run(GameSession session, PlayerAgent agent) {
+		int stripe = (int) (session.getId() % tickTimes.length);
+		SplittableRandom levelSeeds = new SplittableRandom(session.getSeed());
+		LevelStatus status = LevelStatus.PLAYING;
+		try {
+			String levelId = session.getLevelId();
+			while (levelId != null && !session.isStopRequested()) {
+				session.setLevelId(levelId);
+				LevelParent level = registry.create(levelId, SCREEN_HEIGHT, SCREEN_WIDTH, levelSeeds.nextLong());
+				level.getProfiler().setEnabled(false);
+				level.initializeLevel();
+				status = play(session, level, agent, stripe);
+				levelId = status == LevelStatus.ADVANCED ? registry.getNextLevelId(levelId).orElse(null) : null;
+			}
+			session.getCompletion().complete(status);
+		} catch (InterruptedException e) {
+			session.getCompletion().complete(LevelStatus.PLAYING);
+		} catch (RuntimeException | Error e) {
+			session.getCompletion().completeExceptionally(e);
+		} finally {
+			sessions.remove(session.getId());
+			threads.remove(session.getId());
+		}
+	}
+
+	/**
+	 * Ticks a level on the session's clock until it ends or the session is stopped.
+	 *
+	 * @param session The session playing the level.
+	 * @param level   The level to play.
+	 * @param agent   The player of the session.
+	 * @param stripe  The index of the histograms the session records into.
+	 * @return The status of the level when it stopped being played.
+	 * @throws InterruptedException If the session's thread is interrupted while sleeping.
+	 */
+	private LevelStatus play(GameSession session, LevelParent level, PlayerAgent agent, int stripe)
+			throws InterruptedException {
+		long nextTickTime = System.nanoTime();
+		while (level.getStatus() == LevelStatus.PLAYING && !session.isStopRequested()) {
+			long startTime = System.nanoTime();
+			agent.act(level);
+			level.tick();
+			long endTime = System.nanoTime();
+			session.tickCompleted();
+			tickCount.increment();
+			record(tickTimes[stripe], endTime - startTime);
+			if (tickIntervalNanos == 0) {
+				Thread.yield();
+				continue;
+			}
+			record(tickLateness[stripe], startTime - nextTickTime);
+			nextTickTime += tickIntervalNanos;
+			if (endTime - nextTickTime > MAX_CATCH_UP_TICKS * tickIntervalNanos) {
+				// Too far behind: skip the missed ticks rather than running them back to back
+				nextTickTime = endTime;
+			}
+			long sleepNanos = nextTickTime - System.nanoTime();
+			if (sleepNanos > 0) {
+				Thread.sleep(Duration.ofNanos(sleepNanos));
+			}
+		}
+		return level.getStatus();
+	}
+
+	/**
+	 * Records a duration in a shared histogram.
+	 *
+	 * @param histogram The histogram.
+	 * @param nanos     The duration in nanoseconds.
+	 */
+	private static void record(LatencyHistogram histogram, long nanos) {
+		synchronized (histogram) {
+			histogram.record(nanos);
+		}
+	}
+
+	/**
+	 * Combines the shared histograms into one and empties them.
+	 *
+	 * @param stripes The histograms.
+	 * @return The combined durations.
+	 */
+	private static LatencyHistogram drain(LatencyHistogram[] stripes) {
+		LatencyHistogram combined = new LatencyHistogram();
+		for (LatencyHistogram stripe : stripes) {
+			synchronized (stripe) {
+				combined.add(stripe);
+				stripe.reset();
+			}
+		}
+		return combined;
+	}
+
+	/**
+	 * Takes the durations of the ticks played since the last call.
+	 *
+	 * @return The tick durations of all sessions.
+	 */
+	public LatencyHistogram drainTickTimes() {
+		return drain(tickTimes);
+	}
+
+	/**
+	 * Takes how late the ticks played since the last call started compared to their sessions' clocks.
+	 * <p>Lateness shows how well the carrier threads keep up with the sessions: it grows when more ticks are due
+	 * than the cores can run. It is not measured when sessions tick as fast as possible.</p>
+	 *
+	 * @return The tick lateness of all sessions.
+	 */
+	public LatencyHistogram drainTickLateness() {
+		return drain(tickLateness);
+	}
+
+	/**
+	 * Counts the sessions that are running.
+	 *
+	 * @return The number of sessions.
+	 */
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	/**
+	 * Computes the number of running sessions per available processor.
+	 *
+	 * @return The sessions per core.
+	 */
+	public double getSessionsPerCore() {
+		return (double) sessions.size() / Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Counts the ticks played by all sessions since the host was created.
+	 *
+	 * @return The number of ticks.
+	 */
+	public long getTickCount() {
+		return tickCount.sum();
+	}
+
+	/**
+	 * Waits for the threads of the running sessions to finish.
+	 *
+	 * @param timeout How long to wait at most.
+	 * @return {@code true} if every thread has finished; {@code false} if the time ran out first.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	public boolean awaitTermination(Duration timeout) throws InterruptedException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		for (Thread thread : threads.values()) {
+			long remainingNanos = deadline - System.nanoTime();
+			if (remainingNanos <= 0 || !thread.join(Duration.ofNanos(remainingNanos))) {
+				return threads.isEmpty();
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Stops every running session and waits a few seconds for their threads to finish. No session can be started
+	 * afterwards.
+	 * <p>A session still inside a tick when the time runs out is left to finish it on its own; its virtual thread
+	 * does not keep the JVM alive. If the calling thread is interrupted while waiting, it stops waiting and its
+	 * interrupt flag is set again.</p>
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			closed = true;
+		}
+		for (GameSession session : sessions.values()) {
+			session.stop();
+		}
+		for (Thread thread : threads.values()) {
+			thread.interrupt();
+		}
+		try {
+			awaitTermination(CLOSE_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -25,10 +24,8 @@ public class ShieldImage extends ImageView {
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		SpriteRegion.forImage(IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE, false).applyTo(this);
 		this.setVisible(false);
-		this.setFitHeight(SHIELD_SIZE);
-		this.setFitWidth(SHIELD_SIZE);
 	}
 
 	/**
@@ -0,0 +1,204 @@
+package com.example.demo;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+
+/**
+ * A process-wide cache of decoded, pre-scaled sprite images.
+ * <p>Images are keyed by their resource path and the size they are decoded at, so every actor,
+ * projectile and HUD icon that uses the same sprite at the same size shares a single {@link Image}
+ * instance instead of decoding the file again. Images are scaled while decoding, which means the
+ * cached pixels already match the size they are displayed at. When the build's asset pipeline has
+ * prepared a variant of the image for the requested size (see {@link AssetManifest}), that smaller file is
+ * decoded instead of the original.</p>
+ * <p>The cache is bounded by the number of decoded bytes it holds and evicts the least recently used
+ * entries once that budget is exceeded. Hit, miss, eviction and byte-size statistics are kept for
+ * diagnostics.</p>
+ */
+public final class SpriteCache {
+
+	/** The maximum number of decoded bytes the cache keeps before evicting entries. */
+	private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+	/** The number of bytes used by a single decoded ARGB pixel. */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/** The cached images, ordered from least to most recently used. */
+	private static final Map<String, Image> IMAGES = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The number of lookups that were served from the cache. */
+	private static long hitCount;
+
+	/** The number of lookups that required an image to be decoded. */
+	private static long missCount;
+
+	/** The number of entries evicted to stay within {@link #MAX_CACHED_BYTES}. */
+	private static long evictionCount;
+
+	/** The total number of decoded bytes currently held by the cache. */
+	private static long cachedBytes;
+
+	/**
+	 * Prevents instantiation of this utility class.
+	 */
+	private SpriteCache() {
+	}
+
+	/**
+	 * Retrieves a sprite scaled to the given height while preserving its aspect ratio.
+	 *
+	 * @param resourcePath    The absolute resource path of the image file.
+	 * @param requestedHeight The height, in pixels, the image should be decoded at.
+	 * @return The shared, pre-scaled {@link Image}.
+	 */
+	public static Image getImage(String resourcePath, double requestedHeight) {
+		return getImage(resourcePath, 0, requestedHeight, true);
+	}
+
+	/**
+	 * Retrieves a sprite decoded at the requested size.
+	 * <p>A requested width or height of {@code 0} leaves that dimension to be derived from the other one
+	 * (or from the source image when both are {@code 0}).</p>
+	 *
+	 * @param resourcePath    The absolute resource path of the image file.
+	 * @param requestedWidth  The width, in pixels, the image should be decoded at.
+	 * @param requestedHeight The height, in pixels, the image should be decoded at.
+	 * @param preserveRatio   Whether the image should keep its aspect ratio when scaled.
+	 * @return The shared, pre-scaled {@link Image}.
+	 * @throws IllegalArgumentException If no image exists at the given resource path.
+	 */
+	public static synchronized Image getImage(String resourcePath, double requestedWidth, double requestedHeight,
+			boolean preserveRatio) {
+		String key = createKey(resourcePath, requestedWidth, requestedHeight, preserveRatio);
+		Image image = IMAGES.get(key);
+		if (image != null) {
+			hitCount++;
+			return image;
+		}
+		missCount++;
+		AssetManifest.Variant variant = AssetManifest.find(resourcePath, requestedWidth, requestedHeight,
+				preserveRatio);
+		if (variant != null) {
+			image = new Image(locate(variant.getResourcePath()), 0, 0, true, true);
+		} else {
+			image = new Image(locate(resourcePath), requestedWidth, requestedHeight, preserveRatio, true);
+		}
+		IMAGES.put(key, image);
+		cachedBytes += sizeOf(image);
+		evictIfNecessary();
+		return image;
+	}
+
+	/**
+	 * Removes every cached image and resets the statistics.
+	 */
+	public static synchronized void clear() {
+		IMAGES.clear();
+		cachedBytes = 0;
+		hitCount = 0;
+		missCount = 0;
+		evictionCount = 0;
+	}
+
+	/**
+	 * Retrieves the number of lookups that were served from the cache.
+	 *
+	 * @return The cache hit count.
+	 */
+	public static synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Retrieves the number of lookups that required an image to be decoded.
+	 *
+	 * @return The cache miss count.
+	 */
+	public static synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Retrieves the number of entries evicted to keep the cache within its byte budget.
+	 *
+	 * @return The cache eviction count.
+	 */
+	public static synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Retrieves the approximate number of decoded bytes currently held by the cache.
+	 *
+	 * @return The cached size in bytes.
+	 */
+	public static synchronized long getCachedBytes() {
+		return cachedBytes;
+	}
+
+	/**
+	 * Retrieves the number of images currently held by the cache.
+	 *
+	 * @return The number of cached images.
+	 */
+	public static synchronized int size() {
+		return IMAGES.size();
+	}
+
+	/**
+	 * Evicts the least recently used images until the cache fits within {@link #MAX_CACHED_BYTES}.
+	 * <p>The most recently added image is always kept, even if it exceeds the budget on its own.</p>
+	 */
+	private static void evictIfNecessary() {
+		Iterator<Image> iterator = IMAGES.values().iterator();
+		while (cachedBytes > MAX_CACHED_BYTES && IMAGES.size() > 1) {
+			Image eldest = iterator.next();
+			iterator.remove();
+			cachedBytes -= sizeOf(eldest);
+			evictionCount++;
+		}
+	}
+
+	/**
+	 * Resolves an image resource path to a URL string that {@link Image} can load.
+	 *
+	 * @param resourcePath The absolute resource path of the image file.
+	 * @return The external form of the resource URL.
+	 * @throws IllegalArgumentException If no image exists at the given resource path.
+	 */
+	private static String locate(String resourcePath) {
+		URL resource = SpriteCache.class.getResource(resourcePath);
+		if (resource == null) {
+			throw new IllegalArgumentException("Image resource not found: " + resourcePath);
+		}
+		return resource.toExternalForm();
+	}
+
+	/**
+	 * Builds the cache key for an image at a given decode size.
+	 *
+	 * @param resourcePath    The absolute resource path of the image file.
+	 * @param requestedWidth  The requested decode width.
+	 * @param requestedHeight The requested decode height.
+	 * @param preserveRatio   Whether the aspect ratio is preserved.
+	 * @return The cache key.
+	 */
+	private static String createKey(String resourcePath, double requestedWidth, double requestedHeight,
+			boolean preserveRatio) {
+		return resourcePath + '@' + requestedWidth + 'x' + requestedHeight + (preserveRatio ? "" : "!");
+	}
+
+	/**
+	 * Estimates the decoded size of an image in bytes.
+	 *
+	 * @param image The image to measure.
+	 * @return The approximate number of bytes held by the decoded pixels.
+	 */
+	private static long sizeOf(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+}
@@ -0,0 +1,185 @@
+package com.example.demo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * The part of an image that shows one sprite or HUD icon at the size it is displayed at.
+ * <p>When the build has packed the sprite into an atlas page (see {@link AssetManifest}), the region is a
+ * viewport onto that shared page, so every actor and icon drawn from the page uses the same texture and the
+ * graphics pipeline does not switch textures between them. Otherwise the region covers the whole of the
+ * sprite's own image, exactly as it was displayed before the atlas existed.</p>
+ * <p>Regions are immutable and shared: they are looked up once per sprite and display size and then applied
+ * to any number of {@link ImageView}s or drawn onto a canvas.</p>
+ */
+public final class SpriteRegion {
+
+	/** The regions looked up so far, keyed by resource path and display size. */
+	private static final Map<String, SpriteRegion> REGIONS = new ConcurrentHashMap<>();
+
+	/** The image the region is part of. */
+	private final Image image;
+
+	/** The part of the image to display, or {@code null} to display the whole image. */
+	private final Rectangle2D viewport;
+
+	/** The horizontal distance from the sprite's position to the displayed pixels. */
+	private final double offsetX;
+
+	/** The vertical distance from the sprite's position to the displayed pixels. */
+	private final double offsetY;
+
+	/**
+	 * Constructs a {@code SpriteRegion}.
+	 *
+	 * @param image    The image the region is part of.
+	 * @param viewport The part of the image to display, or {@code null} to display the whole image.
+	 * @param offsetX  The horizontal distance from the sprite's position to the displayed pixels.
+	 * @param offsetY  The vertical distance from the sprite's position to the displayed pixels.
+	 */
+	private SpriteRegion(Image image, Rectangle2D viewport, double offsetX, double offsetY) {
+		this.image = image;
+		this.viewport = viewport;
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+	}
+
+	/**
+	 * Retrieves the region showing an actor's sprite, using the cropped variant when the build has produced
+	 * one.
+	 *
+	 * @param imagePath   The absolute resource path of the sprite.
+	 * @param imageHeight The height the sprite is displayed at, with its aspect ratio preserved.
+	 * @return The shared region.
+	 */
+	public static SpriteRegion forActor(String imagePath, int imageHeight) {
+		return REGIONS.computeIfAbsent(imagePath + '@' + imageHeight + ".crop", key -> {
+			AssetManifest.Variant cropped = AssetManifest.findCropped(imagePath, imageHeight);
+			if (cropped == null) {
+				return fromImage(SpriteCache.getImage(imagePath, imageHeight), 0, 0);
+			}
+			return fromVariant(cropped);
+		});
+	}
+
+	/**
+	 * Retrieves the region showing an image at a requested size.
+	 *
+	 * @param imagePath       The absolute resource path of the image.
+	 * @param requestedWidth  The requested width, or {@code 0} to derive it from the height.
+	 * @param requestedHeight The requested height, or {@code 0} to derive it from the width.
+	 * @param preserveRatio   Whether the image keeps its aspect ratio.
+	 * @return The shared region.
+	 */
+	public static SpriteRegion forImage(String imagePath, double requestedWidth, double requestedHeight,
+			boolean preserveRatio) {
+		return REGIONS.computeIfAbsent(imagePath + '@' + requestedWidth + 'x' + requestedHeight
+				+ (preserveRatio ? "" : "!"), key -> {
+			AssetManifest.Variant variant = AssetManifest.find(imagePath, requestedWidth, requestedHeight,
+					preserveRatio);
+			if (variant == null) {
+				return fromImage(SpriteCache.getImage(imagePath, requestedWidth, requestedHeight, preserveRatio), 0,
+						0);
+			}
+			return fromVariant(variant);
+		});
+	}
+
+	/**
+	 * Creates the region of a build-time variant, on its atlas page if it was packed into one.
+	 *
+	 * @param variant The variant.
+	 * @return The region.
+	 */
+	private static SpriteRegion fromVariant(AssetManifest.Variant variant) {
+		if (variant.getAtlasPagePath() == null) {
+			return fromImage(SpriteCache.getImage(variant.getResourcePath(), 0, 0, true), variant.getOffsetX(),
+					variant.getOffsetY());
+		}
+		return new SpriteRegion(SpriteCache.getImage(variant.getAtlasPagePath(), 0, 0, true),
+				new Rectangle2D(variant.getAtlasX(), variant.getAtlasY(), variant.getWidth(), variant.getHeight()),
+				variant.getOffsetX(), variant.getOffsetY());
+	}
+
+	/**
+	 * Creates a region covering a whole image.
+	 *
+	 * @param image   The image.
+	 * @param offsetX The horizontal distance from the sprite's position to the image.
+	 * @param offsetY The vertical distance from the sprite's position to the image.
+	 * @return The region.
+	 */
+	private static SpriteRegion fromImage(Image image, double offsetX, double offsetY) {
+		return new SpriteRegion(image, null, offsetX, offsetY);
+	}
+
+	/**
+	 * Makes a view display this region unscaled.
+	 *
+	 * @param view The view to configure.
+	 */
+	public void applyTo(ImageView view) {
+		view.setImage(image);
+		view.setViewport(viewport);
+		view.setPreserveRatio(false);
+		view.setFitWidth(getWidth());
+		view.setFitHeight(getHeight());
+	}
+
+	/**
+	 * Draws this region unscaled onto a canvas.
+	 *
+	 * @param graphics The context to draw with.
+	 * @param x        The horizontal position of the sprite, before the offset of the region is added.
+	 * @param y        The vertical position of the sprite, before the offset of the region is added.
+	 */
+	public void draw(GraphicsContext graphics, double x, double y) {
+		if (viewport == null) {
+			graphics.drawImage(image, x + offsetX, y + offsetY);
+		} else {
+			graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(),
+					viewport.getHeight(), x + offsetX, y + offsetY, viewport.getWidth(), viewport.getHeight());
+		}
+	}
+
+	/**
+	 * Retrieves the width of the displayed pixels.
+	 *
+	 * @return The width in pixels.
+	 */
+	public double getWidth() {
+		return viewport == null ? image.getWidth() : viewport.getWidth();
+	}
+
+	/**
+	 * Retrieves the height of the displayed pixels.
+	 *
+	 * @return The height in pixels.
+	 */
+	public double getHeight() {
+		return viewport == null ? image.getHeight() : viewport.getHeight();
+	}
+
+	/**
+	 * Retrieves the horizontal distance from the sprite's position to the displayed pixels.
+	 *
+	 * @return The X-offset in pixels; {@code 0} unless the region shows a cropped variant.
+	 */
+	public double getOffsetX() {
+		return offsetX;
+	}
+
+	/**
+	 * Retrieves the vertical distance from the sprite's position to the displayed pixels.
+	 *
+	 * @return The Y-offset in pixels; {@code 0} unless the region shows a cropped variant.
+	 */
+	public double getOffsetY() {
+		return offsetY;
+	}
+}
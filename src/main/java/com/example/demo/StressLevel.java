@@ -0,0 +1,156 @@
+package com.example.demo;
+
+/**
+ * A load-generating level that fills the screen with enemy planes and their projectiles.
+ * <p>The {@code StressLevel} keeps {@link StressSettings#getEnemyCount()} enemy planes in the level, each firing
+ * at the configured rate with projectiles of the configured speed, so thousands of actors are updated and
+ * tested for collisions every tick. The player's plane fires on its own and cannot be destroyed, and the level
+ * is won once the configured number of ticks has passed, so a run needs no player and always takes the same
+ * number of ticks. It is not part of the normal level order; the game plays it when started with
+ * {@code --stress}, and it can be created headlessly like any other level.</p>
+ * <p>The first enemies are spread across the whole screen rather than entering together from the right, so
+ * the load is steady from the first seconds instead of arriving in waves.</p>
+ */
+public class StressLevel extends LevelParent {
+
+	/** The registry identifier of the stress level. */
+	public static final String ID = "stress";
+
+	/** The file path to the background image for the stress level. */
+	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+
+	/** The health of the player's plane, which the enemies cannot exhaust within any practical run. */
+	private static final int PLAYER_INITIAL_HEALTH = Integer.MAX_VALUE;
+
+	/** The number of ticks between two shots of the player's plane. */
+	private static final int USER_FIRE_INTERVAL = 2;
+
+	/** The configured load. */
+	private final StressSettings settings;
+
+	/** The pool that supplies the projectiles of the stress level's enemies. */
+	private final ActorPool<EnemyProjectile> stressProjectilePool;
+
+	/** The pool that supplies the stress level's enemy planes. */
+	private final ActorPool<EnemyPlane> stressEnemyPool;
+
+	/** Whether the enemies have been spawned for the first time. */
+	private boolean populated;
+
+	/**
+	 * Constructs a {@code StressLevel} with the specified screen dimensions, random seed and load.
+	 * <p>The level's pools are filled with as many enemy planes and projectiles as the settings are expected
+	 * to need, so the actors are constructed here rather than during the first ticks.</p>
+	 *
+	 * @param screenHeight The height of the game screen in pixels.
+	 * @param screenWidth  The width of the game screen in pixels.
+	 * @param seed         The seed of the level's random number streams.
+	 * @param settings     The load to generate.
+	 */
+	public StressLevel(double screenHeight, double screenWidth, long seed, StressSettings settings) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+		this.settings = settings;
+		this.stressProjectilePool = new ActorPool<>(
+				() -> new EnemyProjectile(0, 0, settings.getProjectileSpeed()));
+		this.stressEnemyPool = new ActorPool<>(() -> new EnemyPlane(0, 0, stressProjectilePool,
+				getRandom().getEnemyFire(), settings.getFireRate()));
+		stressEnemyPool.prefill(settings.getEnemyCount());
+		stressProjectilePool.prefill(settings.estimateProjectileCount(screenWidth));
+	}
+
+	/**
+	 * Constructs a {@code StressLevel} with the default load.
+	 *
+	 * @param screenHeight The height of the game screen in pixels.
+	 * @param screenWidth  The width of the game screen in pixels.
+	 * @param seed         The seed of the level's random number streams.
+	 */
+	public StressLevel(double screenHeight, double screenWidth, long seed) {
+		this(screenHeight, screenWidth, seed, StressSettings.DEFAULT);
+	}
+
+	/**
+	 * Writes the contents of the stress level's own pools and whether it has been populated to a snapshot.
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	@Override
+	protected void saveLevelState(LevelSnapshot snapshot) {
+		stressProjectilePool.saveState(snapshot);
+		stressEnemyPool.saveState(snapshot);
+		snapshot.putBoolean(populated);
+	}
+
+	/**
+	 * Reads the contents of the stress level's own pools and whether it has been populated back from a snapshot.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	@Override
+	protected void restoreLevelState(LevelSnapshot snapshot) {
+		stressProjectilePool.restoreState(snapshot);
+		stressEnemyPool.restoreState(snapshot);
+		populated = snapshot.getBoolean();
+	}
+
+	/**
+	 * Retrieves the number of actors created by the level's pools, including the stress level's own pools.
+	 *
+	 * @return The number of actors created by all the pools of the level.
+	 */
+	@Override
+	int getCreatedActorCount() {
+		return super.getCreatedActorCount() + stressProjectilePool.getCreatedCount() + stressEnemyPool.getCreatedCount();
+	}
+
+	/**
+	 * Ends the level with a win once the configured number of ticks has passed.
+	 * <p>The player's plane is never destroyed in practice, but a loss is still reported if it is.</p>
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		} else if (getTickCount() >= settings.getDurationTicks()) {
+			winGame();
+		}
+	}
+
+	/**
+	 * Adds the player's plane to the level.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+		addFriendlyUnit(getUser());
+	}
+
+	/**
+	 * Replaces every enemy that has left the level and lets the player's plane fire.
+	 * <p>Replacement enemies enter from the right edge of the screen. On the first tick, the enemies are placed
+	 * at random positions across the whole screen instead.</p>
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		GameRandom spawnRandom = getRandom().getSpawning();
+		int missingEnemies = settings.getEnemyCount() - getCurrentNumberOfEnemies();
+		for (int i = 0; i < missingEnemies; i++) {
+			double x = populated ? getScreenWidth() : spawnRandom.nextDouble() * getScreenWidth();
+			double y = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
+			addEnemyUnit(stressEnemyPool.acquire(x, y));
+		}
+		populated = true;
+		if (getTickCount() % USER_FIRE_INTERVAL == 0) {
+			applyCommand(PlayerCommand.FIRE);
+		}
+	}
+
+	/**
+	 * Retrieves the number of hearts shown for the player's health, which is none since the player cannot lose any.
+	 *
+	 * @return {@code 0}.
+	 */
+	@Override
+	public int getHeartsToDisplay() {
+		return 0;
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.demo;
+
+/**
+ * Configures the load generated by a {@link StressLevel}.
+ */
+public final class StressSettings {
+
+	/** The settings used when none are given: a few thousand actors for one minute at the default tick rate. */
+	public static final StressSettings DEFAULT = new StressSettings(300, 0.05, 8, 1200);
+
+	/** The number of enemy planes kept in the level. */
+	private final int enemyCount;
+
+	/** The probability of each enemy plane firing during a tick. */
+	private final double fireRate;
+
+	/** The distance enemy projectiles move each tick, in pixels. */
+	private final double projectileSpeed;
+
+	/** The number of ticks after which the level ends. */
+	private final long durationTicks;
+
+	/**
+	 * Constructs {@code StressSettings}.
+	 *
+	 * @param enemyCount      The number of enemy planes kept in the level.
+	 * @param fireRate        The probability of each enemy plane firing during a tick, between {@code 0} and
+	 *                        {@code 1}.
+	 * @param projectileSpeed The distance enemy projectiles move each tick, in pixels.
+	 * @param durationTicks   The number of ticks after which the level ends.
+	 * @throws IllegalArgumentException If a setting is out of range.
+	 */
+	public StressSettings(int enemyCount, double fireRate, double projectileSpeed, long durationTicks) {
+		if (enemyCount < 0) {
+			throw new IllegalArgumentException("Enemy count must not be negative: " + enemyCount);
+		}
+		if (!(fireRate >= 0 && fireRate <= 1)) {
+			throw new IllegalArgumentException("Fire rate must be between 0 and 1: " + fireRate);
+		}
+		if (!(projectileSpeed > 0)) {
+			throw new IllegalArgumentException("Projectile speed must be positive: " + projectileSpeed);
+		}
+		if (durationTicks <= 0) {
+			throw new IllegalArgumentException("Duration must be positive: " + durationTicks);
+		}
+		this.enemyCount = enemyCount;
+		this.fireRate = fireRate;
+		this.projectileSpeed = projectileSpeed;
+		this.durationTicks = durationTicks;
+	}
+
+	/**
+	 * Retrieves the number of enemy planes kept in the level.
+	 *
+	 * @return The number of enemy planes.
+	 */
+	public int getEnemyCount() {
+		return enemyCount;
+	}
+
+	/**
+	 * Retrieves the probability of each enemy plane firing during a tick.
+	 *
+	 * @return The fire rate.
+	 */
+	public double getFireRate() {
+		return fireRate;
+	}
+
+	/**
+	 * Retrieves the distance enemy projectiles move each tick.
+	 *
+	 * @return The projectile speed in pixels per tick.
+	 */
+	public double getProjectileSpeed() {
+		return projectileSpeed;
+	}
+
+	/**
+	 * Retrieves the number of ticks after which the level ends.
+	 *
+	 * @return The duration in ticks.
+	 */
+	public long getDurationTicks() {
+		return durationTicks;
+	}
+
+	/**
+	 * Estimates how many enemy projectiles are in flight at once once the level has filled up.
+	 *
+	 * @param screenWidth The width of the screen the projectiles cross.
+	 * @return The expected number of enemy projectiles.
+	 */
+	public int estimateProjectileCount(double screenWidth) {
+		return (int) Math.ceil(enemyCount * fireRate * screenWidth / projectileSpeed);
+	}
+
+	/**
+	 * Describes the settings.
+	 *
+	 * @return The settings as {@code name=value} pairs.
+	 */
+	@Override
+	public String toString() {
+		return "enemies=" + enemyCount + " fireRate=" + fireRate + " projectileSpeed=" + projectileSpeed
+				+ " durationTicks=" + durationTicks;
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.demo;
+
+/**
+ * Represents one phase of a game update, as timed by the {@link TickProfiler}.
+ * <p>The simulation phases are listed in the order {@link LevelParent#tick()} runs them. {@link #RENDER}
+ * is timed by the JavaFX layer when it mirrors the level into the scene graph.</p>
+ */
+public enum TickPhase {
+
+	/** Spawning new enemy units. */
+	SPAWN_ENEMIES("spawn"),
+
+	/** Moving every actor. */
+	UPDATE_ACTORS("update"),
+
+	/** Destroying projectiles that have left the screen. */
+	RETIRE_OFF_SCREEN("off-screen"),
+
+	/** Letting enemies fire projectiles. */
+	ENEMY_FIRE("enemy fire"),
+
+	/** Counting the enemies before collisions are resolved. */
+	COUNT_ENEMIES("count"),
+
+	/** Damaging the player for enemies that got past them. */
+	ENEMY_PENETRATION("penetration"),
+
+	/** Resolving hits of the player's projectiles on enemies. */
+	USER_PROJECTILE_COLLISIONS("user hits"),
+
+	/** Resolving hits of enemy projectiles on the player. */
+	ENEMY_PROJECTILE_COLLISIONS("enemy hits"),
+
+	/** Resolving collisions between planes. */
+	PLANE_COLLISIONS("plane hits"),
+
+	/** Removing destroyed actors from the level. */
+	REMOVE_DESTROYED("remove"),
+
+	/** Crediting kills to the player and publishing damage, kills and shield changes. */
+	KILL_COUNT("kills"),
+
+	/** Checking for the end of the level. */
+	GAME_OVER_CHECK("end check"),
+
+	/** Mirroring the level into the scene graph. */
+	RENDER("render");
+
+	/** The short name shown in the debug overlay. */
+	private final String label;
+
+	/**
+	 * Constructs a {@code TickPhase}.
+	 *
+	 * @param label The short name shown in the debug overlay.
+	 */
+	TickPhase(String label) {
+		this.label = label;
+	}
+
+	/**
+	 * Retrieves the short name of the phase.
+	 *
+	 * @return The name shown in the debug overlay.
+	 */
+	public String getLabel() {
+		return label;
+	}
+}
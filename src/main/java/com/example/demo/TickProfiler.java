@@ -0,0 +1,167 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * Measures how long each {@link TickPhase} takes.
+ * <p>Every phase keeps its most recent durations in a fixed-size ring buffer, so the profiler always
+ * describes the last {@link #WINDOW_SIZE} samples and does not allocate while recording. Percentiles
+ * are computed on request by sorting a copy of the window, which is only done when the numbers are
+ * displayed.</p>
+ * <p>A phase is timed by passing the time it started to {@link #record(TickPhase, long)}, which returns
+ * the current time so that consecutive phases can be timed with one clock read each:</p>
+ * <pre>{@code
+ * long time = profiler.start();
+ * spawnEnemyUnits();
+ * time = profiler.record(TickPhase.SPAWN_ENEMIES, time);
+ * updateActors();
+ * time = profiler.record(TickPhase.UPDATE_ACTORS, time);
+ * }</pre>
+ */
+public class TickProfiler {
+
+	/** The number of recent samples kept for each phase. */
+	public static final int WINDOW_SIZE = 240;
+
+	/** The recent durations of each phase in nanoseconds, indexed by phase ordinal. */
+	private final long[][] samples;
+
+	/** The total number of samples recorded for each phase. */
+	private final long[] sampleCounts;
+
+	/** The longest duration of each phase since the profiler was created or reset. */
+	private final long[] peaks;
+
+	/** Reused when sorting a window to compute percentiles. */
+	private final long[] sortBuffer;
+
+	/** Whether durations are currently recorded. */
+	private boolean enabled;
+
+	/**
+	 * Constructs an enabled {@code TickProfiler} with no samples.
+	 */
+	public TickProfiler() {
+		TickPhase[] phases = TickPhase.values();
+		this.samples = new long[phases.length][WINDOW_SIZE];
+		this.sampleCounts = new long[phases.length];
+		this.peaks = new long[phases.length];
+		this.sortBuffer = new long[WINDOW_SIZE];
+		this.enabled = true;
+	}
+
+	/**
+	 * Reads the clock at the start of the first timed phase.
+	 *
+	 * @return The current time in nanoseconds, or {@code 0} if the profiler is disabled.
+	 */
+	public long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records that a phase has just finished.
+	 *
+	 * @param phase     The phase that finished.
+	 * @param startTime The time the phase started, as returned by {@link #start()} or the previous call.
+	 * @return The current time, which is also the start time of the next phase.
+	 */
+	public long record(TickPhase phase, long startTime) {
+		if (!enabled) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		int index = phase.ordinal();
+		long duration = now - startTime;
+		samples[index][(int) (sampleCounts[index] % WINDOW_SIZE)] = duration;
+		sampleCounts[index]++;
+		if (duration > peaks[index]) {
+			peaks[index] = duration;
+		}
+		return now;
+	}
+
+	/**
+	 * Retrieves a percentile of the recent durations of a phase.
+	 *
+	 * @param phase      The phase to report.
+	 * @param percentile The percentile to compute, between {@code 0} and {@code 100}.
+	 * @return The duration in nanoseconds, or {@code 0} if the phase has no samples.
+	 */
+	public long getPercentile(TickPhase phase, double percentile) {
+		int count = getWindowCount(phase);
+		if (count == 0) {
+			return 0;
+		}
+		System.arraycopy(samples[phase.ordinal()], 0, sortBuffer, 0, count);
+		Arrays.sort(sortBuffer, 0, count);
+		int rank = (int) Math.ceil(percentile / 100 * count) - 1;
+		return sortBuffer[Math.max(0, Math.min(count - 1, rank))];
+	}
+
+	/**
+	 * Retrieves the longest recent duration of a phase.
+	 *
+	 * @param phase The phase to report.
+	 * @return The duration in nanoseconds, or {@code 0} if the phase has no samples.
+	 */
+	public long getMax(TickPhase phase) {
+		long[] window = samples[phase.ordinal()];
+		long max = 0;
+		for (int i = 0; i < getWindowCount(phase); i++) {
+			max = Math.max(max, window[i]);
+		}
+		return max;
+	}
+
+	/**
+	 * Retrieves the longest duration of a phase since the profiler was created or reset, including samples that
+	 * have left the window.
+	 *
+	 * @param phase The phase to report.
+	 * @return The duration in nanoseconds, or {@code 0} if the phase has no samples.
+	 */
+	public long getPeak(TickPhase phase) {
+		return peaks[phase.ordinal()];
+	}
+
+	/**
+	 * Retrieves the number of samples recorded for a phase since the profiler was created or reset.
+	 *
+	 * @param phase The phase to report.
+	 * @return The total number of samples.
+	 */
+	public long getSampleCount(TickPhase phase) {
+		return sampleCounts[phase.ordinal()];
+	}
+
+	/**
+	 * Discards all recorded samples.
+	 */
+	public void reset() {
+		Arrays.fill(sampleCounts, 0);
+		Arrays.fill(peaks, 0);
+	}
+
+	/**
+	 * Checks whether durations are currently recorded.
+	 *
+	 * @return {@code true} if the profiler is enabled; {@code false} otherwise.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Turns recording on or off. While disabled, timing a phase does not read the clock.
+	 *
+	 * @param enabled {@code true} to record durations; {@code false} to ignore them.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	private int getWindowCount(TickPhase phase) {
+		return (int) Math.min(sampleCounts[phase.ordinal()], WINDOW_SIZE);
+	}
+}
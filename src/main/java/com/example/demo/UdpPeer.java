@@ -0,0 +1,295 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.time.Duration;
+
+/**
+ * The connection between the two players of a co-op game, exchanging their input as UDP datagrams.
+ * <p>Both peers run on the same machine: the first player binds {@code base port}, the second {@code base port + 1},
+ * and each sends to the other's port on the loopback address. {@link #connect} repeats a greeting until the
+ * other peer answers it, and the two agree on the seed of the game, which is always the first player's.</p>
+ * <p>After the greeting, every datagram carries a run of one player's inputs for consecutive ticks of one level,
+ * together with the last tick of the other player's inputs received so far. The {@link RollbackSession} that
+ * sends them repeats every input the other peer has not acknowledged, so a lost datagram only delays input
+ * instead of losing it. The channel is non-blocking and the buffers are allocated once, so exchanging input
+ * allocates nothing while a level is played.</p>
+ * <p>A peer is used by the thread that plays the game and is not thread-safe.</p>
+ */
+public final class UdpPeer implements AutoCloseable {
+
+	/** The port the first player binds to unless another is chosen. */
+	public static final int DEFAULT_PORT = 41942;
+
+	/** The largest number of inputs a single datagram carries. */
+	public static final int MAX_INPUTS_PER_PACKET = 64;
+
+	/** The first four bytes of every datagram, so that stray datagrams are ignored. */
+	private static final int MAGIC = 0x31393432;
+
+	/** The type of the datagram that opens the connection. */
+	private static final byte HELLO = 1;
+
+	/** The type of the datagram that carries inputs. */
+	private static final byte INPUTS = 2;
+
+	/** The size of the header of an input datagram: magic, type, level, acknowledged tick, first tick, count. */
+	private static final int INPUT_HEADER_SIZE = 4 + 1 + 4 + 4 + 4 + 1;
+
+	/** The size of the largest datagram. */
+	private static final int MAX_PACKET_SIZE = INPUT_HEADER_SIZE + MAX_INPUTS_PER_PACKET;
+
+	/** The time between two greetings while waiting for the other peer. */
+	private static final long HELLO_INTERVAL_NANOS = 100_000_000L;
+
+	/** The time to sleep between polls for the other peer's greeting. */
+	private static final long HELLO_POLL_MILLIS = 5;
+
+	/** The channel bound to this peer's port and connected to the other peer's port. */
+	private final DatagramChannel channel;
+
+	/** The buffer datagrams are written to before they are sent. */
+	private final ByteBuffer sendBuffer;
+
+	/** The buffer datagrams are received into. */
+	private final ByteBuffer receiveBuffer;
+
+	/** This peer's player: {@code 0} for the first player, {@code 1} for the second. */
+	private final int localPlayer;
+
+	/** The seed of the game, which is the first player's proposal once the peers are connected. */
+	private long seed;
+
+	/** Whether the other peer's greeting has been received. */
+	private boolean connected;
+
+	/**
+	 * Receives the inputs carried by a datagram.
+	 */
+	@FunctionalInterface
+	public interface InputHandler {
+
+		/**
+		 * Called for every input datagram received.
+		 *
+		 * @param level     The number of the level the inputs belong to, counted from the start of the game.
+		 * @param ackTick   The last tick of the receiver's inputs the sender has received, or {@code -1}.
+		 * @param firstTick The tick of the first input.
+		 * @param inputs    The inputs, one byte per tick, between the buffer's position and its limit. The
+		 *                  buffer is only valid during the call.
+		 */
+		void inputsReceived(int level, int ackTick, int firstTick, ByteBuffer inputs);
+	}
+
+	/**
+	 * Constructs a {@code UdpPeer} on an open channel.
+	 *
+	 * @param channel     The channel, bound and connected.
+	 * @param localPlayer This peer's player.
+	 * @param seed        The seed this peer proposes for the game.
+	 */
+	private UdpPeer(DatagramChannel channel, int localPlayer, long seed) {
+		this.channel = channel;
+		this.localPlayer = localPlayer;
+		this.seed = seed;
+		this.sendBuffer = ByteBuffer.allocateDirect(MAX_PACKET_SIZE);
+		this.receiveBuffer = ByteBuffer.allocateDirect(MAX_PACKET_SIZE);
+	}
+
+	/**
+	 * Opens this peer's port and waits until the other peer has answered.
+	 *
+	 * @param localPlayer  This peer's player: {@code 0} for the first player, {@code 1} for the second.
+	 * @param basePort     The port of the first player; the second player uses the port after it.
+	 * @param proposedSeed The seed of the game if this is the first player; ignored for the second player.
+	 * @param timeout      How long to wait for the other peer.
+	 * @return The connected peer.
+	 * @throws IOException If the port cannot be opened, the other peer does not answer in time or the other
+	 *                     peer is the same player.
+	 */
+	public static UdpPeer connect(int localPlayer, int basePort, long proposedSeed, Duration timeout)
+			throws IOException {
+		if (localPlayer != 0 && localPlayer != 1) {
+			throw new IllegalArgumentException("Player must be 0 or 1: " + localPlayer);
+		}
+		InetAddress loopback = InetAddress.getLoopbackAddress();
+		DatagramChannel channel = DatagramChannel.open();
+		try {
+			channel.bind(new InetSocketAddress(loopback, basePort + localPlayer));
+			channel.connect(new InetSocketAddress(loopback, basePort + 1 - localPlayer));
+			channel.configureBlocking(false);
+			UdpPeer peer = new UdpPeer(channel, localPlayer, proposedSeed);
+			peer.awaitConnection(timeout);
+			return peer;
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Greets the other peer until its greeting has been received.
+	 *
+	 * @param timeout How long to wait.
+	 * @throws IOException If the other peer does not answer in time or is the same player.
+	 */
+	private void awaitConnection(Duration timeout) throws IOException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		long nextHello = System.nanoTime();
+		while (!connected) {
+			long now = System.nanoTime();
+			if (now - deadline > 0) {
+				throw new IOException("No answer from the other player within " + timeout.toSeconds() + " s");
+			}
+			if (now - nextHello >= 0) {
+				sendHello(false);
+				nextHello = now + HELLO_INTERVAL_NANOS;
+			}
+			receive(null);
+			if (!connected) {
+				try {
+					Thread.sleep(HELLO_POLL_MILLIS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted while waiting for the other player", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieves this peer's player.
+	 *
+	 * @return {@code 0} for the first player, {@code 1} for the second.
+	 */
+	public int getLocalPlayer() {
+		return localPlayer;
+	}
+
+	/**
+	 * Retrieves the seed both peers agreed on.
+	 *
+	 * @return The seed of the game.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Sends a run of this peer's inputs for consecutive ticks of a level.
+	 *
+	 * @param level     The number of the level, counted from the start of the game.
+	 * @param ackTick   The last tick of the other player's inputs received so far, or {@code -1}.
+	 * @param firstTick The tick of the first input to send.
+	 * @param count     The number of inputs to send, at most {@value #MAX_INPUTS_PER_PACKET}.
+	 * @param inputs    A ring of inputs indexed by tick.
+	 * @param mask      The mask that turns a tick into an index of {@code inputs}.
+	 * @throws IOException If the datagram cannot be sent.
+	 */
+	public void sendInputs(int level, int ackTick, int firstTick, int count, byte[] inputs, int mask)
+			throws IOException {
+		if (count < 0 || count > MAX_INPUTS_PER_PACKET) {
+			throw new IllegalArgumentException("Cannot send " + count + " inputs in one datagram");
+		}
+		sendBuffer.clear();
+		sendBuffer.putInt(MAGIC).put(INPUTS).putInt(level).putInt(ackTick).putInt(firstTick).put((byte) count);
+		for (int i = 0; i < count; i++) {
+			sendBuffer.put(inputs[(firstTick + i) & mask]);
+		}
+		send();
+	}
+
+	/**
+	 * Receives every datagram that has arrived and passes their inputs to a handler.
+	 * <p>A greeting from the other peer is answered, in case the answer to its earlier greeting was lost.</p>
+	 *
+	 * @param handler The handler for the inputs, or {@code null} to discard them.
+	 * @throws IOException If the channel fails.
+	 */
+	public void receive(InputHandler handler) throws IOException {
+		while (true) {
+			receiveBuffer.clear();
+			try {
+				if (channel.receive(receiveBuffer) == null) {
+					return;
+				}
+			} catch (PortUnreachableException e) {
+				// The other peer has not opened its port yet, or has closed it
+				return;
+			}
+			receiveBuffer.flip();
+			if (receiveBuffer.remaining() < 5 || receiveBuffer.getInt() != MAGIC) {
+				continue;
+			}
+			byte type = receiveBuffer.get();
+			if (type == HELLO && receiveBuffer.remaining() >= 10) {
+				handleHello(receiveBuffer.get(), receiveBuffer.get() != 0, receiveBuffer.getLong());
+			} else if (type == INPUTS && receiveBuffer.remaining() >= INPUT_HEADER_SIZE - 5) {
+				int level = receiveBuffer.getInt();
+				int ackTick = receiveBuffer.getInt();
+				int firstTick = receiveBuffer.getInt();
+				int count = Byte.toUnsignedInt(receiveBuffer.get());
+				if (handler != null && receiveBuffer.remaining() >= count) {
+					receiveBuffer.limit(receiveBuffer.position() + count);
+					handler.inputsReceived(level, ackTick, firstTick, receiveBuffer);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the other peer's greeting and answers it unless it is itself an answer.
+	 *
+	 * @param player The other peer's player.
+	 * @param answer Whether the greeting answers one of this peer's greetings.
+	 * @param seed   The seed the other peer proposes.
+	 * @throws IOException If the other peer is the same player, or the answer cannot be sent.
+	 */
+	private void handleHello(byte player, boolean answer, long seed) throws IOException {
+		if (player == localPlayer) {
+			throw new IOException("Both peers are player " + (localPlayer + 1));
+		}
+		if (!connected && localPlayer == 1) {
+			this.seed = seed;
+		}
+		connected = true;
+		if (!answer) {
+			sendHello(true);
+		}
+	}
+
+	/**
+	 * Sends a greeting with this peer's player and seed.
+	 *
+	 * @param answer Whether the greeting answers one from the other peer.
+	 * @throws IOException If the greeting cannot be sent.
+	 */
+	private void sendHello(boolean answer) throws IOException {
+		sendBuffer.clear();
+		sendBuffer.putInt(MAGIC).put(HELLO).put((byte) localPlayer).put((byte) (answer ? 1 : 0)).putLong(seed);
+		send();
+	}
+
+	private void send() throws IOException {
+		sendBuffer.flip();
+		try {
+			channel.write(sendBuffer);
+		} catch (PortUnreachableException e) {
+			// The other peer is not listening; unacknowledged inputs are sent again with the next datagram
+		}
+	}
+
+	/**
+	 * Closes this peer's port.
+	 *
+	 * @throws IOException If the channel cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
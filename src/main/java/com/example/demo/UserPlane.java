@@ -34,16 +34,33 @@ public class UserPlane extends FighterPlane {
 	/** The Y-coordinate offset for projectiles fired by the airplane. */
 	private static final int PROJECTILE_Y_POSITION_OFFSET = 0;
 
+	/** The pool that supplies the projectiles fired by the airplane. */
+	private final ActorPool<UserProjectile> projectilePool;
+
 	private int velocityMultiplier;
 	private int numberOfKills;
 
 	/**
 	 * Constructs a new {@code UserPlane} with the specified initial health.
 	 *
-	 * @param initialHealth The starting health of the user's airplane.
+	 * @param initialHealth  The starting health of the user's airplane.
+	 * @param projectilePool The pool that supplies the projectiles fired by the airplane.
 	 */
-	public UserPlane(int initialHealth) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+	public UserPlane(int initialHealth, ActorPool<UserProjectile> projectilePool) {
+		this(initialHealth, projectilePool, INITIAL_Y_POSITION);
+	}
+
+	/**
+	 * Constructs a new {@code UserPlane} with the specified initial health and starting height.
+	 * <p>A second player's plane starts at a different height so that the two planes do not overlap.</p>
+	 *
+	 * @param initialHealth  The starting health of the user's airplane.
+	 * @param projectilePool The pool that supplies the projectiles fired by the airplane.
+	 * @param initialYPos    The initial Y-coordinate of the airplane.
+	 */
+	public UserPlane(int initialHealth, ActorPool<UserProjectile> projectilePool, double initialYPos) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos, initialHealth);
+		this.projectilePool = projectilePool;
 		this.velocityMultiplier = 0;
 	}
 
@@ -75,11 +92,11 @@ public class UserPlane extends FighterPlane {
 	/**
 	 * Fires a projectile from the airplane's current position.
 	 *
-	 * @return A {@link UserProjectile} instance representing the projectile fired by the user.
+	 * @return A pooled {@link UserProjectile} instance representing the projectile fired by the user.
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+		return projectilePool.acquire(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
 	}
 
 	/**
@@ -112,6 +129,30 @@ public class UserPlane extends FighterPlane {
 		velocityMultiplier = 0;
 	}
 
+	/**
+	 * Writes the airplane's state, including its movement and kill count, to a snapshot.
+	 *
+	 * @param snapshot The snapshot to write to.
+	 */
+	@Override
+	protected void saveState(LevelSnapshot snapshot) {
+		super.saveState(snapshot);
+		snapshot.putInt(velocityMultiplier);
+		snapshot.putInt(numberOfKills);
+	}
+
+	/**
+	 * Reads the airplane's state, including its movement and kill count, back from a snapshot.
+	 *
+	 * @param snapshot The snapshot to read from.
+	 */
+	@Override
+	protected void restoreState(LevelSnapshot snapshot) {
+		super.restoreState(snapshot);
+		velocityMultiplier = snapshot.getInt();
+		numberOfKills = snapshot.getInt();
+	}
+
 	/**
 	 * Gets the current kill count of the player's airplane.
 	 *
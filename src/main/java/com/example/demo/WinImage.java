@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -28,7 +27,7 @@ public class WinImage extends ImageView {
 	 * @param height    The height to set for the win image.
 	 */
 	public WinImage(double xPosition, double yPosition, double width, double height) {
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		setImage(SpriteCache.getImage(IMAGE_NAME, width, height, true));
 
 		// Set layout position
 		setLayoutX(xPosition);
@@ -1,95 +1,397 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import javafx.application.Platform;
+import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
+import com.example.demo.BuiltInLevels;
+import com.example.demo.GameEventListener;
+import com.example.demo.InputRecorder;
+import com.example.demo.LevelDefinition;
 import com.example.demo.LevelParent;
+import com.example.demo.LevelRandom;
+import com.example.demo.LevelRegistry;
+import com.example.demo.LevelScene;
+import com.example.demo.LevelStatus;
+import com.example.demo.LevelView;
+import com.example.demo.LevelViewFactory;
+import com.example.demo.LevelViewLevelTwo;
+import com.example.demo.RenderMode;
+import com.example.demo.RollbackSession;
+import com.example.demo.StressLevel;
+import com.example.demo.StressSettings;
+import com.example.demo.UdpPeer;
 
 /**
  * The controller class manages the transitions between levels in the game.
  * <p>It interacts with the {@link LevelParent} and handles communication between the game's levels and the primary {@link Stage}.</p>
- * Implements {@link Observer} to listen for level transition events.
+ * <p>Levels are created through the {@link LevelRegistry}, which also declares which level follows which. When a
+ * level announces that it is nearly completed, the controller looks up the level that follows it, builds that
+ * level, decodes its images and creates its nodes on a background thread. The transition itself then only makes
+ * the prepared root the root of the stage's single {@link Scene}, so there is no pause between levels.</p>
+ * <p>The first level is prepared the same way. {@link #launchGame()} first shows the stage with an empty scene,
+ * which the toolkit can draw at once, and only then builds level one on the background thread. The level is
+ * displayed once it is ready, so the window appears without waiting for the level's images to be decoded.</p>
+ * <p>For qualifying builds and hardware, {@link #launchStressTest(StressSettings)} plays a {@link StressLevel}
+ * instead of the game, prints a performance summary when it ends and exits.</p>
+ * Implements {@link GameEventListener} to learn from each level's event bus when the level is completed.
  */
-public class Controller implements Observer {
+public class Controller implements GameEventListener {
 
-	/** The fully qualified class name for the first level of the game. */
-	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.LevelOne";
+	/** The HUDs of the levels that do not use the default {@link LevelView}, by registry identifier. */
+	private static final Map<String, LevelViewFactory> LEVEL_VIEWS = Map.of(
+			BuiltInLevels.LEVEL_TWO, LevelViewLevelTwo::new);
+
+	/** The fill of the scene while the first level is being prepared. */
+	private static final Color LOADING_FILL = Color.BLACK;
 
 	/** The primary {@link Stage} used to display the game. */
 	private final Stage stage;
 
+	/** Creates the levels and declares the order in which they are played. */
+	private final LevelRegistry levelRegistry;
+
+	/** How the actors of each level are drawn. */
+	private final RenderMode renderMode;
+
+	/** Records the player's input for later replay, or {@code null} if the session is not recorded. */
+	private InputRecorder inputRecorder;
+
+	/** The level currently being played, or {@code null} before the game is launched. */
+	private LevelParent currentLevel;
+
+	/** The registry identifier of the level currently being played, or {@code null} before the game is launched. */
+	private String currentLevelId;
+
+	/** The view of the level currently being played, or {@code null} before the game is launched. */
+	private LevelScene currentLevelScene;
+
+	/** Prepares announced levels in the background. */
+	private final ExecutorService levelPreloader;
+
+	/** The identifier of the level being prepared in the background, or {@code null} if there is none. */
+	private String preloadingLevelId;
+
+	/** The level being prepared in the background, or {@code null} if there is none. */
+	private Future<PreparedLevel> preloadingLevel;
+
+	/** The scene displaying the current level, or {@code null} before the first level is shown. */
+	private Scene scene;
+
+	/** The connection to the other player of a co-op game, or {@code null} if the game is played alone. */
+	private UdpPeer coopPeer;
+
+	/** The number of levels started in the co-op game so far, which both players count alike. */
+	private int coopLevelNumber;
+
+	/** Reports the time to the first frames and exits once the first level is shown, or {@code null}. */
+	private StartupTimer startupTimer;
+
 	/**
 	 * Constructs a {@code Controller} for managing the game flow.
 	 *
 	 * @param stage The primary JavaFX {@link Stage} where the game is displayed.
 	 */
 	public Controller(Stage stage) {
+		this(stage, null, RenderMode.NODES);
+	}
+
+	/**
+	 * Constructs a {@code Controller} with a choice of renderer that may record the session.
+	 *
+	 * @param stage         The primary JavaFX {@link Stage} where the game is displayed.
+	 * @param inputRecorder The recorder the player's input is written to, or {@code null} to not record.
+	 * @param renderMode    How the actors of each level are drawn.
+	 */
+	public Controller(Stage stage, InputRecorder inputRecorder, RenderMode renderMode) {
 		this.stage = stage;
+		this.renderMode = renderMode;
+		this.levelRegistry = LevelRegistry.createDefault();
+		this.inputRecorder = inputRecorder;
+		this.levelPreloader = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "level-preloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Launches the game by showing the stage and then the first level once it has been prepared.
+	 * <p>The stage is shown with an empty scene straight away. Level one is prepared on the background thread,
+	 * and a second task queued on the same single thread hands it to the JavaFX application thread once it is
+	 * ready.</p>
+	 */
+	public void launchGame() {
+		scene = new Scene(new Group(), stage.getWidth(), stage.getHeight(), LOADING_FILL);
+		stage.setScene(scene);
+		stage.show();
+		if (startupTimer != null) {
+			startupTimer.reportNextFrame("First frame", null);
+		}
+		preloadLevel(BuiltInLevels.LEVEL_ONE);
+		levelPreloader.execute(() -> Platform.runLater(() -> goToLevel(BuiltInLevels.LEVEL_ONE)));
+	}
+
+	/**
+	 * Measures the startup of the game launched next.
+	 * <p>The times from the start of the process to the first frame and to the first frame of level one are
+	 * printed to standard output, after which the application exits.</p>
+	 */
+	public void measureStartup() {
+		this.startupTimer = new StartupTimer();
 	}
 
 	/**
-	 * Launches the game by initializing the first level and showing the stage.
+	 * Launches a {@link StressLevel} instead of the game.
+	 * <p>The level shows its frame rate and tick duration while it runs. When it ends, a summary of the run is
+	 * printed to standard output and the application exits.</p>
 	 *
-	 * @throws ClassNotFoundException        If the first level class cannot be found.
-	 * @throws NoSuchMethodException         If the constructor for the level class cannot be found.
-	 * @throws SecurityException             If a security violation occurs.
-	 * @throws InstantiationException        If the instantiation of the level class fails.
-	 * @throws IllegalAccessException        If the constructor cannot be accessed.
-	 * @throws IllegalArgumentException      If invalid arguments are provided to the constructor.
-	 * @throws InvocationTargetException     If an error occurs during the execution of the constructor.
+	 * @param settings The load the level generates.
 	 */
-	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+	public void launchStressTest(StressSettings settings) {
+		levelRegistry.register(new LevelDefinition(StressLevel.ID,
+				(screenHeight, screenWidth, seed) -> new StressLevel(screenHeight, screenWidth, seed, settings),
+				null));
+		System.out.println("[stress] " + settings);
+		stage.show();
+		goToLevel(StressLevel.ID);
+	}
 
+	/**
+	 * Launches the game for two players, each playing on their own peer.
+	 * <p>Every level is played with a second plane and a {@link RollbackSession}. The levels' seeds are derived
+	 * from the seed the peers agreed on, so both peers play the same levels.</p>
+	 *
+	 * @param peer The connection to the other player.
+	 */
+	public void launchCoop(UdpPeer peer) {
+		this.coopPeer = peer;
 		stage.show();
-		goToLevel(LEVEL_ONE_CLASS_NAME);
+		goToLevel(BuiltInLevels.LEVEL_ONE);
 	}
 
 	/**
 	 * Transitions to a specific level in the game.
 	 *
-	 * @param className The fully qualified name of the level class to load.
-	 * @throws ClassNotFoundException        If the level class cannot be found.
-	 * @throws NoSuchMethodException         If the constructor for the level class cannot be found.
-	 * @throws SecurityException             If a security violation occurs.
-	 * @throws InstantiationException        If the instantiation of the level class fails.
-	 * @throws IllegalAccessException        If the constructor cannot be accessed.
-	 * @throws IllegalArgumentException      If invalid arguments are provided to the constructor.
-	 * @throws InvocationTargetException     If an error occurs during the execution of the constructor.
-	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		Class<?> myClass = Class.forName(className);
-		Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-		LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
-		myLevel.addObserver(this);
-		Scene scene = myLevel.initializeScene();
-		stage.setScene(scene);
-		myLevel.startGame();
+	 * @param levelId The registry identifier of the level to load.
+	 */
+	private void goToLevel(String levelId) {
+		PreparedLevel preparedLevel = takePreloadedLevel(levelId);
+		if (preparedLevel == null) {
+			preparedLevel = prepareLevel(levelId, stage.getHeight(), stage.getWidth());
+		}
+		LevelParent myLevel = preparedLevel.level();
+		myLevel.getEventBus().subscribe(this);
+		myLevel.setNextLevelAnnouncementHandler(this::preloadNextLevel);
+		recordLevelStart(levelId, myLevel);
+		currentLevelScene = preparedLevel.levelScene();
+		currentLevelScene.setInputRecorder(inputRecorder);
+		if (coopPeer != null) {
+			currentLevelScene.setRollbackSession(new RollbackSession(myLevel, coopPeer, coopLevelNumber++));
+		}
+		if (scene == null) {
+			scene = new Scene(preparedLevel.root(), stage.getWidth(), stage.getHeight());
+			stage.setScene(scene);
+		} else {
+			scene.setRoot(preparedLevel.root());
+		}
+		preparedLevel.levelScene().startGame();
+		if (startupTimer != null) {
+			startupTimer.reportNextFrame("First frame of " + levelId, Platform::exit);
+			startupTimer = null;
+		}
 	}
 
 	/**
-	 * Updates the controller when notified by an observed object.
-	 * <p>If the observed object requires a level change, this method transitions to the specified level.</p>
+	 * Creates a level and builds its nodes, ready to be displayed.
+	 * <p>This neither reads the stage nor touches the displayed scene, so it may run on a background thread. The
+	 * caller reads the screen size from the stage on the JavaFX application thread.</p>
 	 *
-	 * @param observable The observable object that triggered the update (unused in this implementation).
-	 * @param arg        The argument passed by the observable, typically the class name of the next level to load.
+	 * @param levelId      The registry identifier of the level to prepare.
+	 * @param screenHeight The height of the screen the level is played on.
+	 * @param screenWidth  The width of the screen the level is played on.
+	 * @return The prepared level.
 	 */
-	@Override
-	public void update(Observable observable, Object arg) {
+	private PreparedLevel prepareLevel(String levelId, double screenHeight, double screenWidth) {
+		long seed = coopPeer == null ? LevelRandom.newSeed()
+				: new SplittableRandom(coopPeer.getSeed() ^ levelId.hashCode()).nextLong();
+		LevelParent myLevel = levelRegistry.create(levelId, screenHeight, screenWidth, seed);
+		if (coopPeer != null) {
+			myLevel.enableSecondPlayer();
+			myLevel.setCompletionDeferred(true);
+		}
+		LevelScene levelScene = new LevelScene(myLevel, renderMode,
+				LEVEL_VIEWS.getOrDefault(levelId, LevelViewFactory.DEFAULT));
+		Group root = levelScene.initializeRoot();
+		if (StressLevel.ID.equals(levelId)) {
+			levelScene.showPerformanceReadout();
+		}
+		return new PreparedLevel(myLevel, levelScene, root);
+	}
+
+	/**
+	 * Starts preparing the level that follows the current one in the background.
+	 * <p>Called when the current level announces that it is nearly completed. Does nothing if the current level
+	 * is a final level.</p>
+	 */
+	private void preloadNextLevel() {
+		levelRegistry.getNextLevelId(currentLevelId).ifPresent(this::preloadLevel);
+	}
+
+	/**
+	 * Starts preparing a level in the background.
+	 * <p>Must be called on the JavaFX application thread, which reads the screen size for the background
+	 * thread.</p>
+	 *
+	 * @param levelId The registry identifier of the level to prepare.
+	 */
+	private void preloadLevel(String levelId) {
+		if (levelId.equals(preloadingLevelId)) {
+			return;
+		}
+		if (preloadingLevel != null) {
+			preloadingLevel.cancel(false);
+		}
+		double screenHeight = stage.getHeight();
+		double screenWidth = stage.getWidth();
+		preloadingLevelId = levelId;
+		preloadingLevel = levelPreloader.submit(() -> prepareLevel(levelId, screenHeight, screenWidth));
+	}
+
+	/**
+	 * Takes the level prepared in the background, waiting for it if it is still being prepared.
+	 *
+	 * @param levelId The registry identifier of the level that is needed.
+	 * @return The prepared level, or {@code null} if that level was not preloaded or preloading it failed, in
+	 *         which case it has to be prepared on the calling thread.
+	 */
+	private PreparedLevel takePreloadedLevel(String levelId) {
+		Future<PreparedLevel> preloaded = preloadingLevel;
+		boolean matches = levelId.equals(preloadingLevelId);
+		preloadingLevel = null;
+		preloadingLevelId = null;
+		if (preloaded == null || !matches) {
+			if (preloaded != null) {
+				preloaded.cancel(false);
+			}
+			return null;
+		}
+		try {
+			return preloaded.get();
+		} catch (ExecutionException e) {
+			// Preparing the level again on this thread reports the failure to the player.
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	/**
+	 * Ends the game session, stopping any background level preparation, closing the connection to the other
+	 * player and finishing and closing the input recording if there is one.
+	 */
+	public void shutdown() {
+		levelPreloader.shutdownNow();
+		if (coopPeer != null) {
+			try {
+				coopPeer.close();
+			} catch (IOException e) {
+				System.err.println("Could not close the connection to the other player: " + e.getMessage());
+			}
+			coopPeer = null;
+		}
+		if (inputRecorder == null) {
+			return;
+		}
 		try {
-			goToLevel((String) arg);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				 | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			if (currentLevel != null) {
+				inputRecorder.endLevel(currentLevel.getTickCount());
+			}
+			inputRecorder.close();
+		} catch (IOException e) {
+			System.err.println("Could not finish the input recording: " + e.getMessage());
+		}
+		inputRecorder = null;
+	}
+
+	/**
+	 * Ends the recording of the previous level and starts recording a new one.
+	 * <p>If the recording cannot be written, recording stops and an error is shown, but the game carries on.</p>
+	 *
+	 * @param levelId The registry identifier of the level that is about to be played.
+	 * @param level   The level that is about to be played.
+	 */
+	private void recordLevelStart(String levelId, LevelParent level) {
+		LevelParent previousLevel = currentLevel;
+		currentLevel = level;
+		currentLevelId = levelId;
+		if (inputRecorder == null) {
+			return;
+		}
+		try {
+			if (previousLevel != null) {
+				inputRecorder.endLevel(previousLevel.getTickCount());
+			}
+			inputRecorder.beginLevel(levelId, level);
+		} catch (IOException e) {
+			stopRecording();
 			Alert alert = new Alert(AlertType.ERROR);
-			alert.setContentText(e.getClass().toString());
+			alert.setContentText("Input recording stopped: " + e.getMessage());
 			alert.show();
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Closes the input recording after it has failed, leaving the rest of the game session running.
+	 * <p>The file is closed without finishing the level being recorded, since writing to it has already
+	 * failed.</p>
+	 */
+	private void stopRecording() {
+		try {
+			inputRecorder.close();
+		} catch (IOException e) {
+			// The recording has already failed and the player is told so; a second error adds nothing
+		}
+		inputRecorder = null;
+	}
+
+	/**
+	 * Reacts to the end of the current level.
+	 * <p>If the player advanced, this method transitions to the level that the {@link LevelRegistry} declares
+	 * as the current level's successor. At the end of a stress test, it prints the summary and exits.</p>
+	 *
+	 * @param status How the level ended.
+	 */
+	@Override
+	public void levelCompleted(LevelStatus status) {
+		if (StressLevel.ID.equals(currentLevelId)) {
+			System.out.println("[stress] " + status + " after " + currentLevel.getTickCount() + " ticks");
+			System.out.println(currentLevelScene.getPerformanceReadout().getSummary());
+			Platform.exit();
+		} else if (status == LevelStatus.ADVANCED) {
+			levelRegistry.getNextLevelId(currentLevelId).ifPresent(this::goToLevel);
+		}
+	}
+
+	/**
+	 * A level whose nodes have been built but which is not yet displayed.
+	 *
+	 * @param level      The level simulation.
+	 * @param levelScene The JavaFX view of the level.
+	 * @param root       The root of the level's nodes.
+	 */
+	private record PreparedLevel(LevelParent level, LevelScene levelScene, Group root) {
+	}
+}
@@ -1,13 +1,37 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import com.example.demo.InputRecorder;
+import com.example.demo.LevelRandom;
+import com.example.demo.LevelScene;
+import com.example.demo.RenderMode;
+import com.example.demo.StressSettings;
+import com.example.demo.UdpPeer;
 
 /**
  * The entry point of the Sky Battle game application.
- * <p>This class sets up the main game window and launches the game through the {@link Controller}.</p>
+ * <p>This class sets up the main game window and launches the game through the {@link Controller}.
+ * Starting the game with {@code --record=<file>} records the player's input to that file so that the session
+ * can be replayed with {@link com.example.demo.ReplayRunner}. Starting it with {@code --renderer=canvas} draws
+ * the actors onto a single canvas instead of one node per actor; see {@link RenderMode}.</p>
+ * <p>Starting it with {@code --stress} runs a {@link com.example.demo.StressLevel} unattended and exits with a
+ * performance summary. The load is set with {@code --stress-enemies=<count>}, {@code --stress-fire-rate=<0..1>},
+ * {@code --stress-projectile-speed=<pixels per tick>} and {@code --stress-seconds=<seconds>}; anything not given
+ * is taken from {@link StressSettings#DEFAULT}.</p>
+ * <p>Starting it with {@code --coop=1} and, in a second process, {@code --coop=2} plays the game for two players
+ * over UDP on this machine; see {@link UdpPeer} and {@link com.example.demo.RollbackSession}. Both processes may
+ * be given the same {@code --coop-port=<port>}, and the first player may choose the game with
+ * {@code --coop-seed=<seed>}. Co-op games are not recorded.</p>
+ * <p>Starting it with {@code --measure-startup} prints the milliseconds from the start of the process to the first
+ * frame and to the first frame of level one, then exits. The build's class-data-sharing training run uses the
+ * same flag.</p>
  */
 public class Main extends Application {
 
@@ -20,40 +44,137 @@ public class Main extends Application {
 	/** The title of the game displayed on the window. */
 	private static final String TITLE = "Sky Battle";
 
+	/** The command-line parameter naming the file the session's input is recorded to. */
+	private static final String RECORD_PARAMETER = "record";
+
+	/** The command-line parameter naming the {@link RenderMode} used to draw actors. */
+	private static final String RENDERER_PARAMETER = "renderer";
+
+	/** The command-line flag that runs a stress test instead of the game. */
+	private static final String STRESS_FLAG = "--stress";
+
+	/** The command-line flag that reports the time to the first frames and exits. */
+	private static final String MEASURE_STARTUP_FLAG = "--measure-startup";
+
+	/** The command-line parameter setting the number of enemies in a stress test. */
+	private static final String STRESS_ENEMIES_PARAMETER = "stress-enemies";
+
+	/** The command-line parameter setting the enemy fire rate in a stress test. */
+	private static final String STRESS_FIRE_RATE_PARAMETER = "stress-fire-rate";
+
+	/** The command-line parameter setting the enemy projectile speed in a stress test. */
+	private static final String STRESS_PROJECTILE_SPEED_PARAMETER = "stress-projectile-speed";
+
+	/** The command-line parameter setting the length of a stress test in seconds. */
+	private static final String STRESS_SECONDS_PARAMETER = "stress-seconds";
+
+	/** The command-line parameter choosing the player of a co-op game, {@code 1} or {@code 2}. */
+	private static final String COOP_PARAMETER = "coop";
+
+	/** The command-line parameter setting the first player's port in a co-op game. */
+	private static final String COOP_PORT_PARAMETER = "coop-port";
+
+	/** The command-line parameter setting the seed of a co-op game. */
+	private static final String COOP_SEED_PARAMETER = "coop-seed";
+
+	/** How long a co-op player waits for the other player to start. */
+	private static final Duration COOP_CONNECT_TIMEOUT = Duration.ofSeconds(60);
+
+	/** The controller running the game. */
+	private Controller controller;
+
 	/**
 	 * Starts the JavaFX application.
 	 * <p>This method initializes the main stage, sets its properties, and launches the game
 	 * by creating an instance of the {@link Controller} class.</p>
 	 *
 	 * @param stage The primary stage for the JavaFX application.
-	 * @throws ClassNotFoundException        If a required class cannot be found during runtime.
-	 * @throws NoSuchMethodException         If a required method cannot be found during runtime.
-	 * @throws SecurityException             If a security violation occurs.
-	 * @throws InstantiationException        If instantiation of a class fails.
-	 * @throws IllegalAccessException        If access to a class or method is not permitted.
-	 * @throws IllegalArgumentException      If an illegal or inappropriate argument is passed.
-	 * @throws InvocationTargetException     If a reflection-based method invocation fails.
+	 * @throws IOException If the input recording file cannot be created, or the other player of a co-op game
+	 *                     cannot be reached.
 	 */
 	@Override
-	public void start(Stage stage) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+	public void start(Stage stage) throws IOException {
 		stage.setTitle(TITLE);
 		stage.setResizable(false);
 		stage.setHeight(SCREEN_HEIGHT);
 		stage.setWidth(SCREEN_WIDTH);
 
 		// Create and launch the controller for the game
-		var myController = new Controller(stage);
-		myController.launchGame();
+		Map<String, String> parameters = getParameters().getNamed();
+		String coopPlayer = parameters.get(COOP_PARAMETER);
+		String recordPath = coopPlayer == null ? parameters.get(RECORD_PARAMETER) : null;
+		InputRecorder inputRecorder = recordPath == null ? null : new InputRecorder(Path.of(recordPath));
+		String renderer = parameters.get(RENDERER_PARAMETER);
+		RenderMode renderMode = renderer == null ? RenderMode.NODES
+				: RenderMode.valueOf(renderer.toUpperCase(Locale.ROOT));
+		controller = new Controller(stage, inputRecorder, renderMode);
+		if (getParameters().getUnnamed().contains(STRESS_FLAG)) {
+			controller.launchStressTest(readStressSettings(parameters));
+		} else if (coopPlayer != null) {
+			controller.launchCoop(connectCoop(Integer.parseInt(coopPlayer), parameters));
+		} else {
+			if (getParameters().getUnnamed().contains(MEASURE_STARTUP_FLAG)) {
+				controller.measureStartup();
+			}
+			controller.launchGame();
+		}
+	}
+
+	/**
+	 * Reads the stress test settings from the command line.
+	 *
+	 * @param parameters The named command-line parameters.
+	 * @return The settings, with defaults for the parameters that are not given.
+	 * @throws IllegalArgumentException If a parameter is not a valid number or out of range.
+	 */
+	private static StressSettings readStressSettings(Map<String, String> parameters) {
+		StressSettings defaults = StressSettings.DEFAULT;
+		String seconds = parameters.get(STRESS_SECONDS_PARAMETER);
+		return new StressSettings(
+				Integer.parseInt(parameters.getOrDefault(STRESS_ENEMIES_PARAMETER,
+						String.valueOf(defaults.getEnemyCount()))),
+				Double.parseDouble(parameters.getOrDefault(STRESS_FIRE_RATE_PARAMETER,
+						String.valueOf(defaults.getFireRate()))),
+				Double.parseDouble(parameters.getOrDefault(STRESS_PROJECTILE_SPEED_PARAMETER,
+						String.valueOf(defaults.getProjectileSpeed()))),
+				seconds == null ? defaults.getDurationTicks()
+						: Math.round(Double.parseDouble(seconds) * LevelScene.DEFAULT_TICKS_PER_SECOND));
+	}
+
+	/**
+	 * Waits for the other player of a co-op game and connects to them.
+	 *
+	 * @param player     The local player, {@code 1} or {@code 2}.
+	 * @param parameters The named command-line parameters.
+	 * @return The connection to the other player.
+	 * @throws IOException If the other player cannot be reached.
+	 */
+	private static UdpPeer connectCoop(int player, Map<String, String> parameters) throws IOException {
+		int port = Integer.parseInt(parameters.getOrDefault(COOP_PORT_PARAMETER,
+				String.valueOf(UdpPeer.DEFAULT_PORT)));
+		String seed = parameters.get(COOP_SEED_PARAMETER);
+		System.out.println("[coop] Player " + player + " waiting for the other player on port " + port);
+		return UdpPeer.connect(player - 1, port, seed == null ? LevelRandom.newSeed() : Long.parseLong(seed),
+				COOP_CONNECT_TIMEOUT);
+	}
+
+	/**
+	 * Stops the application, finishing any input recording.
+	 */
+	@Override
+	public void stop() {
+		if (controller != null) {
+			controller.shutdown();
+		}
 	}
 
 	/**
 	 * The main entry point of the application.
 	 * <p>Launches the JavaFX application by calling the link Application launch method.</p>
 	 *
-	 * @param args Command-line arguments passed to the application (not used).
+	 * @param args Command-line arguments passed to the application, such as {@code --record=<file>}.
 	 */
 	public static void main(String[] args) {
-		launch();
+		launch(args);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.example.demo.controller;
+
+import java.time.Instant;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Measures how long the application takes to show its first frames.
+ * <p>Times are counted from the start of the process as reported by the operating system, so they include the
+ * start of the JVM and of the JavaFX toolkit. A frame is taken to be shown at the first pulse after it has been
+ * put on the stage, which is the pulse that draws it. Each measurement is printed to standard output.</p>
+ */
+final class StartupTimer {
+
+	/** The time the process was started, in milliseconds since the epoch. */
+	private final long processStartMillis;
+
+	/**
+	 * Constructs a {@code StartupTimer} counting from the start of the current process.
+	 * <p>If the operating system does not report the start of the process, the timer counts from now.</p>
+	 */
+	StartupTimer() {
+		this.processStartMillis = ProcessHandle.current().info().startInstant()
+				.map(Instant::toEpochMilli)
+				.orElseGet(System::currentTimeMillis);
+	}
+
+	/**
+	 * Retrieves the time since the start of the process.
+	 *
+	 * @return The elapsed time in milliseconds.
+	 */
+	long getElapsedMillis() {
+		return System.currentTimeMillis() - processStartMillis;
+	}
+
+	/**
+	 * Prints the time at which the next frame is drawn.
+	 * <p>This must be called on the JavaFX application thread, right after the frame has been put on the
+	 * stage.</p>
+	 *
+	 * @param label      What the frame shows, printed with the time.
+	 * @param afterFrame Run once the time has been printed, or {@code null}.
+	 */
+	void reportNextFrame(String label, Runnable afterFrame) {
+		new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				stop();
+				System.out.println("[startup] " + label + " after " + getElapsedMillis() + " ms");
+				if (afterFrame != null) {
+					afterFrame.run();
+				}
+			}
+		}.start();
+	}
+}
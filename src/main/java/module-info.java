@@ -1,8 +1,12 @@
 module com.example.demo {
     requires javafx.controls;
     requires javafx.fxml;
+    requires java.desktop;
 
 
     opens com.example.demo to javafx.fxml;
+    exports com.example.demo;
     exports com.example.demo.controller;
+
+    uses com.example.demo.LevelProvider;
 }
\ No newline at end of file
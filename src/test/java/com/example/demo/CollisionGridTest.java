@@ -0,0 +1,93 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link CollisionGrid} reports every pair of overlapping actors exactly once.
+ */
+class CollisionGridTest {
+
+	/** The width of the screen covered by the grid. */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The height of the screen covered by the grid. */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** A cell size much smaller than the sprites, so that every actor spans several cells. */
+	private static final double SMALL_CELL_SIZE = 32;
+
+	/** The number of actors in each group. */
+	private static final int ACTORS_PER_GROUP = 40;
+
+	/**
+	 * Checks that pairs of actors sharing several cells are reported once, and that every pair whose bounds
+	 * overlap is reported.
+	 */
+	@Test
+	void reportsEveryOverlappingPairOnce() {
+		for (double cellSize : new double[] {SMALL_CELL_SIZE, 128}) {
+			SplittableRandom random = new SplittableRandom(3);
+			List<ActiveActorDestructible> projectiles = new ArrayList<>();
+			List<ActiveActorDestructible> planes = new ArrayList<>();
+			for (int i = 0; i < ACTORS_PER_GROUP; i++) {
+				projectiles.add(place(new UserProjectile(0, 0), random));
+				planes.add(place(new EnemyPlane(0, 0, new ActorPool<>(() -> new EnemyProjectile(0, 0)),
+						new GameRandom(i)), random));
+			}
+			CollisionGrid grid = new CollisionGrid(SCREEN_WIDTH, SCREEN_HEIGHT, cellSize);
+			Map<List<ActiveActorDestructible>, Integer> reports = new HashMap<>();
+			grid.forEachNearbyPair(projectiles, planes,
+					(projectile, plane) -> reports.merge(List.of(projectile, plane), 1, Integer::sum));
+
+			reports.forEach((pair, count) -> assertEquals(1, count, "Pair reported " + count + " times"));
+			int overlapping = 0;
+			for (ActiveActorDestructible projectile : projectiles) {
+				for (ActiveActorDestructible plane : planes) {
+					if (projectile.intersects(plane)) {
+						overlapping++;
+						assertTrue(reports.containsKey(List.of(projectile, plane)), "Overlapping pair not reported");
+					}
+				}
+			}
+			assertTrue(overlapping > 0, "The actors are too far apart to test anything");
+		}
+	}
+
+	/**
+	 * Checks that a pass reports nothing when either group is empty.
+	 */
+	@Test
+	void reportsNothingForAnEmptyGroup() {
+		List<ActiveActorDestructible> planes = List.of(place(new UserProjectile(0, 0), new SplittableRandom(1)));
+		CollisionGrid grid = new CollisionGrid(SCREEN_WIDTH, SCREEN_HEIGHT);
+		grid.forEachNearbyPair(List.of(), planes, (first, second) -> {
+			throw new AssertionError("Pair reported for an empty group");
+		});
+		grid.forEachNearbyPair(planes, List.of(), (first, second) -> {
+			throw new AssertionError("Pair reported for an empty group");
+		});
+	}
+
+	/**
+	 * Moves an actor to a random position in the left part of the screen, where the actors crowd together.
+	 *
+	 * @param actor  The actor.
+	 * @param random Chooses the position.
+	 * @return The actor.
+	 */
+	private static ActiveActorDestructible place(ActiveActorDestructible actor, SplittableRandom random) {
+		actor.setTranslateX(random.nextDouble(SCREEN_WIDTH / 3));
+		actor.setTranslateY(random.nextDouble(SCREEN_HEIGHT));
+		actor.updateBounds();
+		return actor;
+	}
+}
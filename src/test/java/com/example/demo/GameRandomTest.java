@@ -0,0 +1,75 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link GameRandom} reproduces {@link SplittableRandom} and can be rewound.
+ */
+class GameRandomTest {
+
+	/** The number of values compared in each check. */
+	private static final int VALUES = 1_000;
+
+	/** The seeds every check is run with. */
+	private static final long[] SEEDS = {0, 1, 42, -7, Long.MAX_VALUE};
+
+	/**
+	 * Checks that a stream draws the same values as a {@code SplittableRandom} with the same seed.
+	 */
+	@Test
+	void drawsTheSameValuesAsSplittableRandom() {
+		for (long seed : SEEDS) {
+			GameRandom random = new GameRandom(seed);
+			SplittableRandom expected = new SplittableRandom(seed);
+			for (int i = 0; i < VALUES; i++) {
+				assertEquals(expected.nextLong(), random.nextLong());
+				assertEquals(expected.nextInt(), random.nextInt());
+				assertEquals(expected.nextInt(100), random.nextInt(100));
+				assertEquals(expected.nextDouble(), random.nextDouble());
+			}
+		}
+	}
+
+	/**
+	 * Checks that split streams, and the streams they are split from, draw the same values as those of a
+	 * {@code SplittableRandom}.
+	 */
+	@Test
+	void splitsLikeSplittableRandom() {
+		for (long seed : SEEDS) {
+			GameRandom random = new GameRandom(seed);
+			SplittableRandom expected = new SplittableRandom(seed);
+			GameRandom split = random.split();
+			SplittableRandom expectedSplit = expected.split();
+			GameRandom splitOfSplit = split.split();
+			SplittableRandom expectedSplitOfSplit = expectedSplit.split();
+			for (int i = 0; i < VALUES; i++) {
+				assertEquals(expectedSplit.nextLong(), split.nextLong());
+				assertEquals(expectedSplitOfSplit.nextInt(), splitOfSplit.nextInt());
+				assertEquals(expected.nextLong(), random.nextLong());
+			}
+		}
+	}
+
+	/**
+	 * Checks that restoring a saved state draws the values drawn after it was saved again.
+	 */
+	@Test
+	void restoredStateRepeatsTheStream() {
+		GameRandom random = new GameRandom(42);
+		random.nextLong();
+		long state = random.getState();
+		long[] values = new long[VALUES];
+		for (int i = 0; i < VALUES; i++) {
+			values[i] = random.nextLong();
+		}
+		random.setState(state);
+		for (int i = 0; i < VALUES; i++) {
+			assertEquals(values[i], random.nextLong());
+		}
+	}
+}
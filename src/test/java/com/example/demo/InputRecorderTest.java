@@ -0,0 +1,145 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that a game recorded by {@link InputRecorder} plays out the same when read back by {@link InputReplay}.
+ */
+class InputRecorderTest {
+
+	/** The width of the screen the levels are played on. */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The height of the screen the levels are played on. */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** The largest number of ticks a level is played for. */
+	private static final int MAX_TICKS = 5_000;
+
+	/** The number of ticks played before the game stops without ending its level. */
+	private static final int INTERRUPTED_TICKS = 100;
+
+	/** The largest number of commands issued before a tick. */
+	private static final int MAX_COMMANDS_PER_TICK = 2;
+
+	/** The directory the recordings are written to. */
+	@TempDir
+	Path directory;
+
+	/**
+	 * Records every level of the default registry played with random commands, then replays the recording into
+	 * fresh levels and compares their outcome with the recorded play.
+	 *
+	 * @throws IOException If the recording cannot be written or read.
+	 */
+	@Test
+	void replayPlaysLikeTheRecordedGame() throws IOException {
+		LevelRegistry registry = LevelRegistry.createDefault();
+		Path path = directory.resolve("game.rec");
+		SplittableRandom commands = new SplittableRandom(7);
+		List<String> levelIds = new ArrayList<>();
+		List<LevelParent> playedLevels = new ArrayList<>();
+		try (InputRecorder recorder = new InputRecorder(path)) {
+			long seed = 11;
+			Optional<String> id = Optional.of(BuiltInLevels.LEVEL_ONE);
+			while (id.isPresent()) {
+				LevelParent level = registry.create(id.get(), SCREEN_HEIGHT, SCREEN_WIDTH, seed++);
+				recorder.beginLevel(id.get(), level);
+				level.initializeLevel();
+				while (level.getStatus() == LevelStatus.PLAYING && level.getTickCount() < MAX_TICKS) {
+					for (int i = commands.nextInt(MAX_COMMANDS_PER_TICK + 1); i > 0; i--) {
+						PlayerCommand command = PlayerCommand.values()[commands.nextInt(PlayerCommand.values().length)];
+						level.applyCommand(command);
+						recorder.recordCommand(level.getTickCount(), command);
+					}
+					level.tick();
+				}
+				recorder.endLevel(level.getTickCount());
+				levelIds.add(id.get());
+				playedLevels.add(level);
+				id = registry.getNextLevelId(id.get());
+			}
+		}
+
+		List<InputReplay.LevelRecording> recordings = InputReplay.read(path).getLevels();
+		assertEquals(playedLevels.size(), recordings.size());
+		for (int i = 0; i < recordings.size(); i++) {
+			InputReplay.LevelRecording recording = recordings.get(i);
+			LevelParent played = playedLevels.get(i);
+			assertEquals(levelIds.get(i), recording.getLevelId());
+			assertEquals(played.getRandom().getSeed(), recording.getSeed());
+			assertEquals(SCREEN_HEIGHT, recording.getScreenHeight());
+			assertEquals(SCREEN_WIDTH, recording.getScreenWidth());
+			assertEquals(played.getTickCount(), recording.getTickCount());
+			assertNotEquals(0, recording.getCommandCount());
+
+			LevelParent replayed = registry.create(recording.getLevelId(), recording.getScreenHeight(),
+					recording.getScreenWidth(), recording.getSeed());
+			recording.replayInto(replayed);
+			assertEquals(describe(played), describe(replayed), recording.getLevelId());
+		}
+	}
+
+	/**
+	 * Records a level whose segment is never ended, as when the window is closed mid-level, then replays it and
+	 * compares it with the recorded play, including the commands issued before the last tick.
+	 *
+	 * @throws IOException If the recording cannot be written or read.
+	 */
+	@Test
+	void replayOfAnUnendedLevelAppliesTheLastCommands() throws IOException {
+		LevelRegistry registry = LevelRegistry.createDefault();
+		Path path = directory.resolve("interrupted.rec");
+		SplittableRandom commands = new SplittableRandom(5);
+		LevelParent level = registry.create(BuiltInLevels.LEVEL_ONE, SCREEN_HEIGHT, SCREEN_WIDTH, 13);
+		try (InputRecorder recorder = new InputRecorder(path)) {
+			recorder.beginLevel(BuiltInLevels.LEVEL_ONE, level);
+			level.initializeLevel();
+			while (level.getStatus() == LevelStatus.PLAYING && level.getTickCount() < INTERRUPTED_TICKS) {
+				for (int i = commands.nextInt(MAX_COMMANDS_PER_TICK + 1); i > 0; i--) {
+					PlayerCommand command = PlayerCommand.values()[commands.nextInt(PlayerCommand.values().length)];
+					level.applyCommand(command);
+					recorder.recordCommand(level.getTickCount(), command);
+				}
+				if (level.getTickCount() == INTERRUPTED_TICKS - 1) {
+					level.applyCommand(PlayerCommand.FIRE);
+					recorder.recordCommand(level.getTickCount(), PlayerCommand.FIRE);
+				}
+				level.tick();
+			}
+		}
+		assertEquals(INTERRUPTED_TICKS, level.getTickCount(), "The level ended before it was interrupted");
+
+		InputReplay.LevelRecording recording = InputReplay.read(path).getLevels().get(0);
+		assertEquals(InputReplay.LevelRecording.INCOMPLETE, recording.getTickCount());
+		assertEquals(INTERRUPTED_TICKS, recording.getReplayTickCount());
+		LevelParent replayed = registry.create(recording.getLevelId(), recording.getScreenHeight(),
+				recording.getScreenWidth(), recording.getSeed());
+		recording.replayInto(replayed);
+		assertEquals(describe(level), describe(replayed));
+		assertEquals(level.getUser().getTranslateY(), replayed.getUser().getTranslateY());
+		assertEquals(level.getUserProjectiles().size(), replayed.getUserProjectiles().size());
+	}
+
+	/**
+	 * Describes the outcome of a level.
+	 *
+	 * @param level The level.
+	 * @return The level's status, tick count and the player's kills and health.
+	 */
+	private static String describe(LevelParent level) {
+		return level.getStatus() + " after " + level.getTickCount() + " ticks, " + level.getUser().getNumberOfKills()
+				+ " kills, " + level.getUser().getHealth() + " health";
+	}
+}
@@ -0,0 +1,202 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that two peers playing a level through {@link RollbackSession}s end in the same state as the level
+ * played straight through with both players' input known in advance.
+ * <p>The peers run on two threads connected over the loopback interface. Each pauses at random, so that the other
+ * peer's input often arrives late and ticks are simulated again.</p>
+ */
+class RollbackSessionTest {
+
+	/** The width of the screen the level is played on. */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The height of the screen the level is played on. */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** The seed of the level. */
+	private static final long SEED = 42;
+
+	/** The largest number of ticks the level is played for. */
+	private static final int MAX_TICKS = 10_000;
+
+	/** How long a peer may take to connect and to play the level. */
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+	/** The movement commands a player chooses from. */
+	private static final PlayerCommand[] MOVES = {PlayerCommand.MOVE_UP, PlayerCommand.MOVE_DOWN, PlayerCommand.STOP};
+
+	/**
+	 * Plays the first level on two peers and compares both with a straight run.
+	 *
+	 * @throws Exception If a peer fails.
+	 */
+	@Test
+	void peersMatchAStraightRun() throws Exception {
+		LevelRegistry registry = LevelRegistry.createDefault();
+		LevelParent reference = registry.create(BuiltInLevels.LEVEL_ONE, SCREEN_HEIGHT, SCREEN_WIDTH, SEED);
+		reference.enableSecondPlayer();
+		reference.initializeLevel();
+		while (reference.getStatus() == LevelStatus.PLAYING && reference.getTickCount() < MAX_TICKS) {
+			int tick = (int) reference.getTickCount();
+			for (int player = 0; player < 2; player++) {
+				for (PlayerCommand command : commands(player, tick)) {
+					reference.applyCommand(player, command);
+				}
+			}
+			reference.tick();
+		}
+		assertNotEquals(LevelStatus.PLAYING, reference.getStatus(), "The straight run did not end");
+
+		int basePort = findFreePorts();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		List<UdpPeer> peers = new ArrayList<>();
+		try {
+			List<Future<RollbackSession>> sessions = new ArrayList<>();
+			List<LevelParent> levels = new ArrayList<>();
+			for (int player = 0; player < 2; player++) {
+				LevelParent level = registry.create(BuiltInLevels.LEVEL_ONE, SCREEN_HEIGHT, SCREEN_WIDTH, SEED);
+				level.enableSecondPlayer();
+				level.setCompletionDeferred(true);
+				levels.add(level);
+				int localPlayer = player;
+				sessions.add(executor.submit(() -> {
+					UdpPeer peer = UdpPeer.connect(localPlayer, basePort, SEED, TIMEOUT);
+					synchronized (peers) {
+						peers.add(peer);
+					}
+					return play(level, peer);
+				}));
+			}
+			long resimulatedTicks = 0;
+			for (int player = 0; player < 2; player++) {
+				RollbackSession session = sessions.get(player).get();
+				assertTrue(session.isFinished(), "Player " + player + " did not finish the level");
+				assertEquals(describe(reference), describe(levels.get(player)), "Player " + player);
+				resimulatedTicks += session.getResimulatedTicks();
+			}
+			assertTrue(resimulatedTicks > 0, "No input arrived late, so nothing was rolled back");
+		} finally {
+			executor.shutdownNow();
+			for (UdpPeer peer : peers) {
+				peer.close();
+			}
+		}
+	}
+
+	/**
+	 * Plays a level on one peer until its end is confirmed or the time is up.
+	 *
+	 * @param level The level, with a second player and a deferred end.
+	 * @param peer  The connection to the other peer.
+	 * @return The session the level was played in.
+	 * @throws InterruptedException If interrupted while pausing.
+	 */
+	private static RollbackSession play(LevelParent level, UdpPeer peer) throws InterruptedException {
+		level.initializeLevel();
+		RollbackSession session = new RollbackSession(level, peer, 0);
+		Random pauses = new Random(peer.getLocalPlayer());
+		long deadline = System.nanoTime() + TIMEOUT.toNanos();
+		int queuedTick = -1;
+		while (!session.isFinished() && System.nanoTime() - deadline < 0) {
+			if (queuedTick != session.getTick()) {
+				queuedTick = session.getTick();
+				for (PlayerCommand command : commands(peer.getLocalPlayer(), queuedTick)) {
+					session.queueCommand(command);
+				}
+			}
+			session.advance();
+			if (pauses.nextInt(10) == 0) {
+				Thread.sleep(pauses.nextInt(3));
+			}
+		}
+		return session;
+	}
+
+	/**
+	 * Chooses a player's commands for a tick, the same on every call.
+	 * <p>A tick has at most one movement command, issued before firing, which is the order in which a session
+	 * applies an input.</p>
+	 *
+	 * @param player The player.
+	 * @param tick   The tick.
+	 * @return The commands.
+	 */
+	private static List<PlayerCommand> commands(int player, int tick) {
+		SplittableRandom random = new SplittableRandom(SEED * 31 + player * 1_000_003L + tick);
+		List<PlayerCommand> commands = new ArrayList<>();
+		if (random.nextDouble() < 0.1) {
+			commands.add(MOVES[random.nextInt(MOVES.length)]);
+		}
+		if (random.nextDouble() < 0.3) {
+			commands.add(PlayerCommand.FIRE);
+		}
+		return commands;
+	}
+
+	/**
+	 * Describes the state of a level in enough detail to tell two runs apart.
+	 *
+	 * @param level The level.
+	 * @return The level's status and tick count, the first player's kills, and the position and health of every
+	 *         plane.
+	 */
+	private static String describe(LevelParent level) {
+		StringBuilder description = new StringBuilder(level.getStatus() + " after " + level.getTickCount()
+				+ " ticks, " + level.getUser().getNumberOfKills() + " kills");
+		for (ActiveActorDestructible unit : level.getFriendlyUnits()) {
+			description.append(", player at ").append(unit.getTranslateY())
+					.append(" with ").append(((FighterPlane) unit).getHealth());
+		}
+		for (ActiveActorDestructible unit : level.getEnemyUnits()) {
+			description.append(", enemy at ").append(unit.getLayoutX() + unit.getTranslateX())
+					.append(',').append(unit.getLayoutY() + unit.getTranslateY());
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Finds two consecutive free UDP ports on the loopback interface.
+	 *
+	 * @return The first of the two ports.
+	 * @throws IOException If no free pair of ports is found.
+	 */
+	private static int findFreePorts() throws IOException {
+		InetAddress loopback = InetAddress.getLoopbackAddress();
+		for (int attempt = 0; attempt < 20; attempt++) {
+			try (DatagramChannel first = DatagramChannel.open()) {
+				first.bind(new InetSocketAddress(loopback, 0));
+				int port = ((InetSocketAddress) first.getLocalAddress()).getPort();
+				if (port >= 0xFFFF) {
+					continue;
+				}
+				try (DatagramChannel second = DatagramChannel.open()) {
+					second.bind(new InetSocketAddress(loopback, port + 1));
+					return port;
+				} catch (IOException e) {
+					// The next port is taken; try another pair.
+				}
+			}
+		}
+		throw new IOException("No two consecutive free UDP ports");
+	}
+}
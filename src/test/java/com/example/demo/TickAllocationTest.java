@@ -0,0 +1,162 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Checks that a running level allocates nothing while it ticks.
+ * <p>Every built-in level and the stress level is played headlessly by the scripted player, and the bytes
+ * allocated by the playing thread are read around every tick with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. Ticks that grow the level are expected
+ * to allocate and are skipped: one of the level's pools constructing a new actor, or one of its actor lists
+ * becoming longer than it has ever been and growing its array. The levels are played a few times first so that
+ * the measured plays execute compiled code, as a real game does after its first seconds.</p>
+ * <p>A tick fails the test if it allocates in every one of several measured plays. The plays are deterministic, so
+ * an allocation in the game's code repeats on every play, while a method that happens to be deoptimized and runs
+ * interpreted for a tick only allocates in one of them.</p>
+ */
+class TickAllocationTest {
+
+	/** The width of the screen the levels are played on. */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The height of the screen the levels are played on. */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** The seed of every level played. */
+	private static final long SEED = 42;
+
+	/** The number of times every level is played before it is measured. */
+	private static final int WARMUP_PLAYS = 20;
+
+	/** The number of times every level is played and measured after warming up. */
+	private static final int MEASURED_PLAYS = 3;
+
+	/** The largest number of ticks a level is played for. */
+	private static final int MAX_TICKS = 5_000;
+
+	/** The number of ticks the stress level runs for. */
+	private static final int STRESS_TICKS = 600;
+
+	/** The largest number of allocating ticks listed in a failure. */
+	private static final int MAX_REPORTED_TICKS = 10;
+
+	/** The bean that reports the bytes allocated by a thread. */
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	/**
+	 * Creates one test for every level of the default registry, in the order they are played, and one for the
+	 * stress level.
+	 *
+	 * @return The tests.
+	 */
+	@TestFactory
+	List<DynamicTest> levelTicksDoNotAllocate() {
+		LevelRegistry registry = LevelRegistry.createDefault();
+		List<DynamicTest> tests = new ArrayList<>();
+		Optional<String> id = Optional.of(BuiltInLevels.LEVEL_ONE);
+		while (id.isPresent()) {
+			String levelId = id.get();
+			tests.add(DynamicTest.dynamicTest(levelId,
+					() -> check(() -> registry.create(levelId, SCREEN_HEIGHT, SCREEN_WIDTH, SEED))));
+			id = registry.getNextLevelId(levelId);
+		}
+		StressSettings defaults = StressSettings.DEFAULT;
+		StressSettings stressSettings = new StressSettings(defaults.getEnemyCount(), defaults.getFireRate(),
+				defaults.getProjectileSpeed(), STRESS_TICKS);
+		tests.add(DynamicTest.dynamicTest("stress",
+				() -> check(() -> new StressLevel(SCREEN_HEIGHT, SCREEN_WIDTH, SEED, stressSettings))));
+		return tests;
+	}
+
+	/**
+	 * Warms up and then measures one level.
+	 *
+	 * @param levels Creates a fresh copy of the level.
+	 */
+	private static void check(Supplier<LevelParent> levels) {
+		assertTrue(THREADS.isThreadAllocatedMemorySupported(),
+				"This JVM cannot measure the memory allocated by a thread");
+		THREADS.setThreadAllocatedMemoryEnabled(true);
+		for (int i = 0; i < WARMUP_PLAYS; i++) {
+			play(levels.get());
+		}
+		long[] allocations = play(levels.get());
+		for (int i = 1; i < MEASURED_PLAYS; i++) {
+			long[] play = play(levels.get());
+			allocations = Arrays.copyOf(allocations, Math.min(allocations.length, play.length));
+			for (int tick = 0; tick < allocations.length; tick++) {
+				allocations[tick] = Math.min(allocations[tick], play[tick]);
+			}
+		}
+		List<String> allocatingTicks = new ArrayList<>();
+		for (int tick = 0; tick < allocations.length; tick++) {
+			if (allocations[tick] > 0) {
+				allocatingTicks.add("tick " + tick + " (" + allocations[tick] + " bytes)");
+			}
+		}
+		int ticks = allocations.length;
+		assertTrue(allocatingTicks.isEmpty(), () -> allocatingTicks.size() + " of " + ticks + " ticks allocated: "
+				+ String.join(", ", allocatingTicks.subList(0, Math.min(allocatingTicks.size(), MAX_REPORTED_TICKS))));
+	}
+
+	/**
+	 * Plays a level to its end with the scripted player.
+	 *
+	 * @param level The level to play.
+	 * @return The bytes allocated by every tick played, or {@code 0} for the ticks that grew the level.
+	 */
+	private static long[] play(LevelParent level) {
+		long threadId = Thread.currentThread().threadId();
+		long[] allocations = new long[MAX_TICKS];
+		level.initializeLevel();
+		PlayerAgent agent = PlayerAgent.scripted();
+		int[] peakSizes = new int[4];
+		int tick = 0;
+		while (level.getStatus() == LevelStatus.PLAYING && tick < MAX_TICKS) {
+			agent.act(level);
+			int created = level.getCreatedActorCount();
+			long before = THREADS.getThreadAllocatedBytes(threadId);
+			level.tick();
+			long allocated = THREADS.getThreadAllocatedBytes(threadId) - before;
+			boolean grown = level.getCreatedActorCount() != created | updatePeakSizes(level, peakSizes);
+			if (!grown) {
+				allocations[tick] = allocated;
+			}
+			tick++;
+		}
+		return Arrays.copyOf(allocations, tick);
+	}
+
+	/**
+	 * Records the longest length each of the level's actor lists has reached.
+	 *
+	 * @param level     The level being played.
+	 * @param peakSizes The longest lengths so far, updated in place.
+	 * @return {@code true} if any list is longer than it has ever been.
+	 */
+	private static boolean updatePeakSizes(LevelParent level, int[] peakSizes) {
+		return updatePeakSize(level.getFriendlyUnits(), peakSizes, 0)
+				| updatePeakSize(level.getEnemyUnits(), peakSizes, 1)
+				| updatePeakSize(level.getUserProjectiles(), peakSizes, 2)
+				| updatePeakSize(level.getEnemyProjectiles(), peakSizes, 3);
+	}
+
+	private static boolean updatePeakSize(List<ActiveActorDestructible> actors, int[] peakSizes, int index) {
+		if (actors.size() <= peakSizes[index]) {
+			return false;
+		}
+		peakSizes[index] = actors.size();
+		return true;
+	}
+}